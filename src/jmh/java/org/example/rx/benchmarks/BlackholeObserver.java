@@ -0,0 +1,31 @@
+package org.example.rx.benchmarks;
+
+import org.example.rx.Observer;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Observer that sinks every signal into a Blackhole so the JIT can't elide the pipeline.
+ * @param <T> The type of items being observed
+ */
+final class BlackholeObserver<T> implements Observer<T> {
+    private final Blackhole bh;
+
+    BlackholeObserver(Blackhole bh) {
+        this.bh = bh;
+    }
+
+    @Override
+    public void onNext(T item) {
+        bh.consume(item);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        bh.consume(t);
+    }
+
+    @Override
+    public void onComplete() {
+        bh.consume(true);
+    }
+}
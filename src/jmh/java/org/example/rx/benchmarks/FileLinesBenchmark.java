@@ -0,0 +1,87 @@
+package org.example.rx.benchmarks;
+
+import org.example.rx.Observable;
+import org.example.rx.io.ByteSlice;
+import org.example.rx.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a log file line by line: BufferedReader inside create against the memory-mapped
+ * line source, sequential and split across the computation scheduler. Reports files per second;
+ * the file stays in the page cache, so this measures the copying and decoding, not the disk.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileLinesBenchmark {
+    @Param({ "100000" })
+    public int lines;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("rx-lines", ".log");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < lines; i++) {
+                writer.write("2024-01-01T00:00:00Z INFO request " + i + " served in " + (i % 97) + " ms\n");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void bufferedReader(Blackhole bh) {
+        Observable.<String>create(emitter -> {
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                String line;
+                while ((line = reader.readLine()) != null && !emitter.isDisposed()) {
+                    emitter.onNext(line);
+                }
+            }
+            emitter.onComplete();
+        })
+        .subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void mappedLines(Blackhole bh) {
+        Observable.fromFileLines(file).subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void mappedLinesParallel(Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Observable<ByteSlice> source = Observable.fromFileLines(file, Runtime.getRuntime().availableProcessors(),
+            Schedulers.computation());
+        source.subscribe(bh::consume, e -> latch.countDown(), latch::countDown);
+        latch.await();
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.rx.benchmarks;
+
+import org.example.rx.ConnectableObservable;
+import org.example.rx.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of delivering one source to several Observers, in source runs per second:
+ * publish emits to all of them in one pass, resubscribing runs the source once per Observer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MulticastBenchmark {
+    @Param({ "1000" })
+    public int count;
+
+    @Param({ "1", "4", "16" })
+    public int observers;
+
+    private Observable<Integer> source;
+
+    @Setup
+    public void setup() {
+        int n = count;
+        source = Observable.create(emitter -> {
+            for (int i = 0; i < n; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    @Benchmark
+    public void publish(Blackhole bh) {
+        ConnectableObservable<Integer> published = source.publish();
+        for (int i = 0; i < observers; i++) {
+            published.subscribe(new BlackholeObserver<>(bh));
+        }
+        published.connect();
+    }
+
+    @Benchmark
+    public void resubscribe(Blackhole bh) {
+        for (int i = 0; i < observers; i++) {
+            source.subscribe(new BlackholeObserver<>(bh));
+        }
+    }
+}
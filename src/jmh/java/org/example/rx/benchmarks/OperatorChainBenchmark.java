@@ -0,0 +1,140 @@
+package org.example.rx.benchmarks;
+
+import org.example.rx.IntObservable;
+import org.example.rx.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synchronous throughput of operator chains, in subscriptions per second.
+ * * With count = 1 the score is dominated by the subscribe overhead itself.
+ * Run with {@code -prof gc} to see the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OperatorChainBenchmark {
+    @Param({ "1", "1000", "100000" })
+    public int count;
+
+    private Observable<Integer> source;
+    private Observable<Integer> mapFilter;
+    private Observable<Integer> flatMap;
+    private Observable<Integer> range;
+    private Observable<Integer> fromArray;
+    private Observable<Integer> rangeMapFilter;
+    private Observable<Integer> justFlatMap;
+    private IntObservable intMapFilter;
+    private Observable<Integer> rangeReduce;
+    private Observable<Integer> rangeScan;
+    private Observable<Long> rangeCount;
+    private Observable<Integer> rangeCache;
+
+    @Setup
+    public void setup() {
+        int n = count;
+        source = Observable.create(emitter -> {
+            for (int i = 0; i < n; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+        mapFilter = source.map(x -> x + 1).filter(x -> (x & 1) == 0);
+        Observable<Integer> inner = Observable.create(emitter -> {
+            emitter.onNext(1);
+            emitter.onComplete();
+        });
+        flatMap = mapFilter.flatMap(x -> inner);
+        intMapFilter = IntObservable.range(0, n).map(x -> x + 1).filter(x -> (x & 1) == 0);
+        range = Observable.range(0, n);
+        Integer[] array = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = i;
+        }
+        fromArray = Observable.fromArray(array);
+        rangeMapFilter = range.map(x -> x + 1).filter(x -> (x & 1) == 0);
+        Observable<Integer> just = Observable.just(1);
+        justFlatMap = rangeMapFilter.flatMap(x -> just);
+        rangeReduce = range.reduce(Integer::sum);
+        rangeScan = range.scan(Integer::sum);
+        rangeCount = range.count();
+        // Filled once here, so the benchmark measures replaying only
+        rangeCache = range.cache();
+        rangeCache.subscribe(x -> { }, e -> { }, () -> { });
+    }
+
+    @Benchmark
+    public void create(Blackhole bh) {
+        source.subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void range(Blackhole bh) {
+        range.subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void fromArray(Blackhole bh) {
+        fromArray.subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void rangeMapFilter(Blackhole bh) {
+        rangeMapFilter.subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void rangeMapFilterJustFlatMap(Blackhole bh) {
+        justFlatMap.subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void mapFilter(Blackhole bh) {
+        mapFilter.subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void mapFilterFlatMap(Blackhole bh) {
+        flatMap.subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void intMapFilter(Blackhole bh) {
+        intMapFilter.subscribe(bh::consume, bh::consume, () -> { });
+    }
+
+    @Benchmark
+    public void rangeReduce(Blackhole bh) {
+        rangeReduce.subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void rangeScan(Blackhole bh) {
+        rangeScan.subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void rangeCount(Blackhole bh) {
+        rangeCount.subscribe(new BlackholeObserver<>(bh));
+    }
+
+    @Benchmark
+    public void rangeCache(Blackhole bh) {
+        rangeCache.subscribe(new BlackholeObserver<>(bh));
+    }
+}
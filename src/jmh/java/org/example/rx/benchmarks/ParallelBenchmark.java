@@ -0,0 +1,75 @@
+package org.example.rx.benchmarks;
+
+import org.example.rx.Observable;
+import org.example.rx.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU-heavy map over 10,000 items on a single computation Worker versus spread over rails.
+ * The speed-up is bounded by the number of cores; with one core the rails only add overhead.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelBenchmark {
+    private static final int COUNT = 10_000;
+
+    @Param({ "100", "1000" })
+    public int work;
+
+    private Observable<Long> serial;
+    private Observable<Long> unordered;
+    private Observable<Long> ordered;
+
+    @Setup
+    public void setup() {
+        int tokens = work;
+        int rails = Runtime.getRuntime().availableProcessors();
+        serial = Observable.range(0, COUNT).observeOn(Schedulers.computation()).map(i -> burn(i, tokens));
+        unordered = Observable.range(0, COUNT).parallel(rails).map(i -> burn(i, tokens)).sequential();
+        ordered = Observable.range(0, COUNT).parallel(rails).map(i -> burn(i, tokens)).sequential(true);
+    }
+
+    private static long burn(int seed, int tokens) {
+        Blackhole.consumeCPU(tokens);
+        return seed * 31L;
+    }
+
+    @Benchmark
+    public void serial(Blackhole bh) throws InterruptedException {
+        await(serial, bh);
+    }
+
+    @Benchmark
+    public void parallelUnordered(Blackhole bh) throws InterruptedException {
+        await(unordered, bh);
+    }
+
+    @Benchmark
+    public void parallelOrdered(Blackhole bh) throws InterruptedException {
+        await(ordered, bh);
+    }
+
+    private static void await(Observable<Long> observable, Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        observable.subscribe(bh::consume, e -> latch.countDown(), latch::countDown);
+        latch.await();
+    }
+}
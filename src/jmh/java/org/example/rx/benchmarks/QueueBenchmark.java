@@ -0,0 +1,184 @@
+package org.example.rx.benchmarks;
+
+import org.example.rx.internal.queue.MpscArrayQueue;
+import org.example.rx.internal.queue.MpscLinkedQueue;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscArrayQueue;
+import org.example.rx.internal.queue.SpscLinkedArrayQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Throughput of the internal queues against ConcurrentLinkedQueue and ArrayBlockingQueue.
+ * The spsc group runs one producer and one consumer thread, the mpsc group three producers
+ * and one consumer; failed offers and empty polls are counted as operations too, so compare
+ * the offer and poll scores rather than their sum. {@code roundTrip} offers and polls on one thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+    private static final Integer ITEM = 1;
+    private static final int CAPACITY = 1024;
+
+    /**
+     * Queue shared by the threads of a group. Producers stop offering while {@code CAPACITY} items
+     * are outstanding, so the unbounded queues run at the same backlog as the bounded ones.
+     */
+    public abstract static class GroupState {
+        private static final AtomicLongFieldUpdater<GroupState> POLLED =
+            AtomicLongFieldUpdater.newUpdater(GroupState.class, "polled");
+
+        SimpleQueue<Integer> q;
+        volatile long polled;
+
+        boolean offer(ProducerState producer, int producers) {
+            if (producer.offered * producers - polled >= CAPACITY || !q.offer(ITEM)) {
+                return false;
+            }
+            producer.offered++;
+            return true;
+        }
+
+        Integer poll() {
+            Integer e = q.poll();
+            if (e != null) {
+                POLLED.lazySet(this, polled + 1);
+            }
+            return e;
+        }
+    }
+
+    @State(Scope.Group)
+    public static class SpscState extends GroupState {
+        @Param({ "SpscArrayQueue", "SpscLinkedArrayQueue", "ConcurrentLinkedQueue", "ArrayBlockingQueue" })
+        public String queue;
+
+        @Setup
+        public void setup() {
+            q = create(queue);
+        }
+    }
+
+    @State(Scope.Group)
+    public static class MpscState extends GroupState {
+        @Param({ "MpscArrayQueue", "MpscLinkedQueue", "ConcurrentLinkedQueue", "ArrayBlockingQueue" })
+        public String queue;
+
+        @Setup
+        public void setup() {
+            q = create(queue);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ProducerState {
+        long offered;
+    }
+
+    @State(Scope.Thread)
+    public static class RoundTripState {
+        @Param({ "SpscArrayQueue", "SpscLinkedArrayQueue", "MpscArrayQueue", "MpscLinkedQueue",
+            "ConcurrentLinkedQueue", "ArrayBlockingQueue" })
+        public String queue;
+
+        SimpleQueue<Integer> q;
+
+        @Setup
+        public void setup() {
+            q = create(queue);
+        }
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public boolean spscOffer(SpscState state, ProducerState producer) {
+        return state.offer(producer, 1);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public Integer spscPoll(SpscState state) {
+        return state.poll();
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(3)
+    public boolean mpscOffer(MpscState state, ProducerState producer) {
+        // Assumes the producers run at about the same rate
+        return state.offer(producer, 3);
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(1)
+    public Integer mpscPoll(MpscState state) {
+        return state.poll();
+    }
+
+    @Benchmark
+    public Integer roundTrip(RoundTripState state) {
+        state.q.offer(ITEM);
+        return state.q.poll();
+    }
+
+    static SimpleQueue<Integer> create(String name) {
+        switch (name) {
+            case "SpscArrayQueue":
+                return new SpscArrayQueue<>(CAPACITY);
+            case "SpscLinkedArrayQueue":
+                return new SpscLinkedArrayQueue<>(CAPACITY);
+            case "MpscArrayQueue":
+                return new MpscArrayQueue<>(CAPACITY);
+            case "MpscLinkedQueue":
+                return new MpscLinkedQueue<>();
+            case "ConcurrentLinkedQueue":
+                return adapt(new ConcurrentLinkedQueue<>());
+            case "ArrayBlockingQueue":
+                return adapt(new ArrayBlockingQueue<>(CAPACITY));
+            default:
+                throw new IllegalArgumentException("Unknown queue " + name);
+        }
+    }
+
+    private static SimpleQueue<Integer> adapt(Queue<Integer> queue) {
+        return new SimpleQueue<>() {
+            @Override
+            public boolean offer(Integer e) {
+                return queue.offer(e);
+            }
+
+            @Override
+            public Integer poll() {
+                return queue.poll();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return queue.isEmpty();
+            }
+        };
+    }
+}
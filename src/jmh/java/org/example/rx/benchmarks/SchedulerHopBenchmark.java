@@ -0,0 +1,97 @@
+package org.example.rx.benchmarks;
+
+import org.example.rx.Observable;
+import org.example.rx.Scheduler;
+import org.example.rx.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of moving a stream across threads with subscribeOn and observeOn, per scheduler.
+ * Each operation subscribes, waits for completion and reports subscriptions per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SchedulerHopBenchmark {
+    @Param({ "computation", "io", "single" })
+    public String scheduler;
+
+    @Param({ "1", "1000" })
+    public int count;
+
+    private Observable<Integer> subscribeOn;
+    private Observable<Integer> observeOn;
+    private Observable<Integer> subscribeOnObserveOn;
+    private Observable<Integer> rangeObserveOn;
+
+    @Setup
+    public void setup() {
+        Scheduler s;
+        switch (scheduler) {
+            case "io":
+                s = Schedulers.io();
+                break;
+            case "single":
+                s = Schedulers.single();
+                break;
+            default:
+                s = Schedulers.computation();
+                break;
+        }
+        int n = count;
+        Observable<Integer> source = Observable.create(emitter -> {
+            for (int i = 0; i < n; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+        subscribeOn = source.subscribeOn(s);
+        observeOn = source.observeOn(s);
+        subscribeOnObserveOn = source.subscribeOn(Schedulers.io()).observeOn(s);
+        // Fused: observeOn polls the range instead of queueing its items
+        rangeObserveOn = Observable.range(0, n).observeOn(s);
+    }
+
+    @Benchmark
+    public void subscribeOn(Blackhole bh) throws InterruptedException {
+        await(subscribeOn, bh);
+    }
+
+    @Benchmark
+    public void observeOn(Blackhole bh) throws InterruptedException {
+        await(observeOn, bh);
+    }
+
+    @Benchmark
+    public void rangeObserveOn(Blackhole bh) throws InterruptedException {
+        await(rangeObserveOn, bh);
+    }
+
+    @Benchmark
+    public void subscribeOnObserveOn(Blackhole bh) throws InterruptedException {
+        await(subscribeOnObserveOn, bh);
+    }
+
+    private static void await(Observable<Integer> observable, Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        observable.subscribe(bh::consume, e -> latch.countDown(), latch::countDown);
+        latch.await();
+    }
+}
@@ -2,31 +2,21 @@ package org.example;
 
 import org.example.rx.Disposable;
 import org.example.rx.Observable;
-import org.example.rx.schedulers.ComputationScheduler;
-import org.example.rx.schedulers.IOThreadScheduler;
-import org.example.rx.schedulers.SingleThreadScheduler;
+import org.example.rx.Scheduler;
+import org.example.rx.schedulers.Schedulers;
 
 import java.util.concurrent.TimeUnit;
 
 public class Main {
     public static void main(String[] args) {
-        // Create schedulers
-        IOThreadScheduler ioScheduler = new IOThreadScheduler();
-        ComputationScheduler computationScheduler = new ComputationScheduler();
-        SingleThreadScheduler singleThreadScheduler = new SingleThreadScheduler();
+        // Shared schedulers, created on first use
+        Scheduler ioScheduler = Schedulers.io();
+        Scheduler computationScheduler = Schedulers.computation();
+        Scheduler singleThreadScheduler = Schedulers.single();
 
         // Example 1: Using flatMap to transform and flatten
         System.out.println("\nExample 1: Using flatMap");
-        Observable<Integer> numbers = Observable.create(observer -> {
-            try {
-                for (int i = 1; i <= 3; i++) {
-                    observer.onNext(i);
-                }
-                observer.onComplete();
-            } catch (Exception e) {
-                observer.onError(e);
-            }
-        });
+        Observable<Integer> numbers = Observable.range(1, 3);
 
         Disposable disposable = numbers
             .flatMap(number -> Observable.create(observer -> {
@@ -94,6 +84,8 @@ public class Main {
         // Wait for all operations to complete
         try {
             Thread.sleep(1000);
+            Schedulers.shutdown();
+            Schedulers.awaitTermination(1, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
@@ -0,0 +1,24 @@
+package org.example.rx;
+
+/**
+ * Strategies a {@link Flowable#create(FlowableOnSubscribe, BackpressureStrategy)} source applies
+ * when it emits faster than the downstream requests.
+ */
+public enum BackpressureStrategy {
+    /**
+     * Buffers all items until the downstream requests them. The buffer is unbounded.
+     */
+    BUFFER,
+    /**
+     * Drops the items the downstream has not requested.
+     */
+    DROP,
+    /**
+     * Keeps only the latest item the downstream has not requested yet.
+     */
+    LATEST,
+    /**
+     * Signals a {@link MissingBackpressureException} when the downstream can't keep up.
+     */
+    ERROR
+}
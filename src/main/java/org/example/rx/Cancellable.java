@@ -0,0 +1,13 @@
+package org.example.rx;
+
+/**
+ * Functional interface for a cancellation action registered with an emitter.
+ */
+@FunctionalInterface
+public interface Cancellable {
+    /**
+     * Cancels the associated resource.
+     * @throws Exception on error
+     */
+    void cancel() throws Exception;
+}
@@ -0,0 +1,49 @@
+package org.example.rx;
+
+import org.example.rx.internal.operators.ObservableRefCount;
+import org.example.rx.plugins.RxPlugins;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Observable that shares a single subscription to its upstream between all of its Observers,
+ * as returned by {@link Observable#publish()}. Subscribing only registers an Observer; the
+ * upstream starts when {@link #connect()} is called and runs until the connection is disposed
+ * or the upstream terminates, after which the next connect starts it again. Observers that
+ * subscribe after the upstream terminated get its terminal event until the next connect or {@link #reset()}.
+ * @param <T> The type of items being emitted
+ */
+public abstract class ConnectableObservable<T> extends Observable<T> {
+    /**
+     * Connects to the upstream unless already connected, handing the connection to the callback
+     * before the upstream starts, so a synchronous upstream can be disconnected while it emits.
+     * @param connection Receives the Disposable of the connection
+     */
+    public abstract void connect(Consumer<Disposable> connection);
+
+    /**
+     * Forgets a connection whose upstream terminated, so that Observers subscribing from now on
+     * wait for the next connect instead of getting its terminal event. Does nothing otherwise.
+     */
+    public abstract void reset();
+
+    /**
+     * Connects to the upstream unless already connected.
+     * @return The Disposable of the connection, the same one while it lasts
+     */
+    public final Disposable connect() {
+        AtomicReference<Disposable> connection = new AtomicReference<>();
+        connect(connection::set);
+        return connection.get();
+    }
+
+    /**
+     * Connects when the first Observer subscribes and disposes the connection when the last one leaves.
+     * An Observer arriving after that connects again.
+     * @return A new Observable managing the connection
+     */
+    public final Observable<T> refCount() {
+        return RxPlugins.onAssembly(new ObservableRefCount<>(this));
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.rx;
+
+import org.example.rx.internal.operators.DoubleObservableAverage;
+import org.example.rx.internal.operators.DoubleObservableFilter;
+import org.example.rx.internal.operators.DoubleObservableMap;
+import org.example.rx.internal.operators.DoubleObservableMapToObj;
+import org.example.rx.internal.operators.DoubleObservableReduce;
+import org.example.rx.internal.operators.LambdaDoubleObserver;
+import org.example.rx.plugins.RxPlugins;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Observable specialized for double values.
+ * Values travel unboxed and the operators take primitive functional interfaces, so a numeric
+ * pipeline allocates nothing per value. Use {@link #boxed()} or {@link Observable#mapToDouble}
+ * to cross over to the generic operators and Schedulers.
+ */
+public abstract class DoubleObservable {
+
+    /**
+     * Subscribes an DoubleObserver to this DoubleObservable.
+     * The subscription can be cancelled through the Disposable passed to {@link DoubleObserver#onSubscribe(Disposable)}.
+     * @param observer The DoubleObserver to subscribe
+     */
+    public final void subscribe(DoubleObserver observer) {
+        Objects.requireNonNull(observer, "observer is null");
+        subscribeActual(observer);
+    }
+
+    /**
+     * Subscribes to this DoubleObservable with callbacks for onNext, onError, and onComplete.
+     * @param onNext The callback for handling emitted values
+     * @param onError The callback for handling errors
+     * @param onComplete The callback for handling completion
+     * @return A Disposable that can be used to cancel the subscription
+     */
+    public final Disposable subscribe(DoubleConsumer onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        LambdaDoubleObserver observer = new LambdaDoubleObserver(onNext, onError, onComplete);
+        subscribeActual(observer);
+        return observer;
+    }
+
+    /**
+     * Implements the subscription logic of a concrete DoubleObservable.
+     * @param observer The DoubleObserver to subscribe, not null
+     */
+    protected abstract void subscribeActual(DoubleObserver observer);
+
+    /**
+     * Transforms each value by applying a function to it.
+     * @param mapper The function to apply to each value
+     * @return A new DoubleObservable that emits the transformed values
+     */
+    public final DoubleObservable map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return RxPlugins.onAssembly(new DoubleObservableMap(this, mapper));
+    }
+
+    /**
+     * Emits only the values that satisfy a predicate.
+     * @param predicate The predicate to apply to each value
+     * @return A new DoubleObservable that emits only the values that satisfy the predicate
+     */
+    public final DoubleObservable filter(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return RxPlugins.onAssembly(new DoubleObservableFilter(this, predicate));
+    }
+
+    /**
+     * Transforms each value into an object.
+     * @param mapper The function to apply to each value
+     * @param <R> The type of items emitted by the resulting Observable
+     * @return A new Observable that emits the transformed items
+     */
+    public final <R> Observable<R> mapToObj(DoubleFunction<R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return RxPlugins.onAssembly(new DoubleObservableMapToObj<>(this, mapper));
+    }
+
+    /**
+     * Boxes each value, bridging back to the generic operators.
+     * @return A new Observable that emits the boxed values
+     */
+    public final Observable<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    /**
+     * Emits the sum of all values on completion, 0 if there were none.
+     * @return A new DoubleObservable that emits a single value
+     */
+    public final DoubleObservable sum() {
+        return RxPlugins.onAssembly(new DoubleObservableReduce(this, 0, Double::sum));
+    }
+
+    /**
+     * Emits the smallest value on completion, or just completes if there were none.
+     * @return A new DoubleObservable that emits at most one value
+     */
+    public final DoubleObservable min() {
+        return RxPlugins.onAssembly(new DoubleObservableReduce(this, Math::min));
+    }
+
+    /**
+     * Emits the largest value on completion, or just completes if there were none.
+     * @return A new DoubleObservable that emits at most one value
+     */
+    public final DoubleObservable max() {
+        return RxPlugins.onAssembly(new DoubleObservableReduce(this, Math::max));
+    }
+
+    /**
+     * Emits the arithmetic mean of all values on completion, or just completes if there were none.
+     * @return A new DoubleObservable that emits at most one value
+     */
+    public final DoubleObservable average() {
+        return RxPlugins.onAssembly(new DoubleObservableAverage(this));
+    }
+}
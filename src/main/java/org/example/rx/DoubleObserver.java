@@ -0,0 +1,30 @@
+package org.example.rx;
+
+/**
+ * Observer of a {@link DoubleObservable}, receiving unboxed double values.
+ */
+public interface DoubleObserver {
+    /**
+     * Called once before any other signal with the Disposable that cancels the upstream.
+     * @param d The Disposable of the upstream
+     */
+    default void onSubscribe(Disposable d) {
+    }
+
+    /**
+     * Called when the DoubleObservable emits a value.
+     * @param value The value emitted
+     */
+    void onNext(double value);
+
+    /**
+     * Called when the DoubleObservable encounters an error.
+     * @param t The error that occurred
+     */
+    void onError(Throwable t);
+
+    /**
+     * Called when the DoubleObservable has completed emitting values.
+     */
+    void onComplete();
+}
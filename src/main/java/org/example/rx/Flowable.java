@@ -0,0 +1,189 @@
+package org.example.rx;
+
+import org.example.rx.internal.operators.FlowableCreate;
+import org.example.rx.internal.operators.FlowableFilter;
+import org.example.rx.internal.operators.FlowableFlatMap;
+import org.example.rx.internal.operators.FlowableFromIterable;
+import org.example.rx.internal.operators.FlowableMap;
+import org.example.rx.internal.operators.FlowableObserveOn;
+import org.example.rx.internal.operators.FlowableRange;
+import org.example.rx.internal.operators.FlowableSubscribeOn;
+import org.example.rx.internal.operators.LambdaSubscriber;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Class representing a backpressure-aware stream of items.
+ * Items only flow to a Subscriber after it requested them via its Subscription,
+ * so a fast producer can't overwhelm a slow consumer.
+ * @param <T> The type of items being emitted
+ */
+public abstract class Flowable<T> {
+    private static final int BUFFER_SIZE = Math.max(1, Integer.getInteger("rx.buffer-size", 128));
+
+    /**
+     * Returns the default prefetch amount used by the asynchronous operators.
+     * Can be changed via the {@code rx.buffer-size} system property.
+     * @return the default prefetch amount
+     */
+    public static int bufferSize() {
+        return BUFFER_SIZE;
+    }
+
+    /**
+     * Creates a new Flowable from a source function that is unaware of backpressure.
+     * @param source The function that defines how the Flowable emits items
+     * @param mode The strategy applied when the source emits faster than the downstream requests
+     * @param <T> The type of items being emitted
+     * @return A new Flowable instance
+     */
+    public static <T> Flowable<T> create(FlowableOnSubscribe<T> source, BackpressureStrategy mode) {
+        Objects.requireNonNull(source, "source is null");
+        Objects.requireNonNull(mode, "mode is null");
+        return new FlowableCreate<>(source, mode);
+    }
+
+    /**
+     * Creates a new Flowable that emits the items of an Iterable as they are requested.
+     * @param source The Iterable to emit
+     * @param <T> The type of items being emitted
+     * @return A new Flowable instance
+     */
+    public static <T> Flowable<T> fromIterable(Iterable<T> source) {
+        Objects.requireNonNull(source, "source is null");
+        return new FlowableFromIterable<>(source);
+    }
+
+    /**
+     * Creates a new Flowable that emits a range of integers as they are requested.
+     * @param start The first value
+     * @param count The number of values to emit
+     * @return A new Flowable instance
+     */
+    public static Flowable<Integer> range(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        if ((long) start + (count - 1) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Integer overflow");
+        }
+        return new FlowableRange(start, count);
+    }
+
+    /**
+     * Subscribes a Subscriber to this Flowable.
+     * @param subscriber The Subscriber to subscribe
+     */
+    public final void subscribe(Subscriber<T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is null");
+        subscribeActual(subscriber);
+    }
+
+    /**
+     * Subscribes to this Flowable with callbacks for onNext, onError, and onComplete, requesting all items.
+     * @param onNext The callback for handling emitted items
+     * @param onError The callback for handling errors
+     * @param onComplete The callback for handling completion
+     * @return A Disposable that can be used to cancel the subscription
+     */
+    public final Disposable subscribe(Consumer<T> onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        LambdaSubscriber<T> subscriber = new LambdaSubscriber<>(onNext, onError, onComplete);
+        subscribe(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * Implements the subscription logic of a concrete Flowable.
+     * @param subscriber The Subscriber to subscribe, not null
+     */
+    protected abstract void subscribeActual(Subscriber<T> subscriber);
+
+    /**
+     * Transforms the items emitted by this Flowable by applying a function to each item.
+     * @param mapper The function to apply to each item
+     * @param <R> The type of items emitted by the resulting Flowable
+     * @return A new Flowable that emits the transformed items
+     */
+    public final <R> Flowable<R> map(Function<T, R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new FlowableMap<>(this, mapper);
+    }
+
+    /**
+     * Filters items emitted by this Flowable by only emitting those that satisfy a predicate.
+     * Dropped items are replenished from the upstream so the downstream demand is still met.
+     * @param predicate The predicate to apply to each item
+     * @return A new Flowable that emits only those items that satisfy the predicate
+     */
+    public final Flowable<T> filter(Predicate<T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return new FlowableFilter<>(this, predicate);
+    }
+
+    /**
+     * Transforms the items emitted by this Flowable into Flowables and merges their emissions,
+     * running at most {@link #bufferSize()} inner Flowables at a time.
+     * @param mapper A function that returns a Flowable for each item emitted by the source Flowable
+     * @param <R> The type of items emitted by the resulting Flowable
+     * @return A new Flowable that emits the items emitted by the Flowables returned by the mapper function
+     */
+    public final <R> Flowable<R> flatMap(Function<T, Flowable<R>> mapper) {
+        return flatMap(mapper, bufferSize(), bufferSize());
+    }
+
+    /**
+     * Transforms the items emitted by this Flowable into Flowables and merges their emissions.
+     * @param mapper A function that returns a Flowable for each item emitted by the source Flowable
+     * @param maxConcurrency The maximum number of inner Flowables subscribed at a time
+     * @param prefetch The number of items requested from each inner Flowable upfront
+     * @param <R> The type of items emitted by the resulting Flowable
+     * @return A new Flowable that emits the items emitted by the Flowables returned by the mapper function
+     */
+    public final <R> Flowable<R> flatMap(Function<T, Flowable<R>> mapper, int maxConcurrency, int prefetch) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        }
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        }
+        return new FlowableFlatMap<>(this, mapper, maxConcurrency, prefetch);
+    }
+
+    /**
+     * Specifies the Scheduler on which this Flowable will be subscribed to.
+     * @param scheduler The Scheduler to use
+     * @return A new Flowable that subscribes on the specified Scheduler
+     */
+    public final Flowable<T> subscribeOn(Scheduler scheduler) {
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        return new FlowableSubscribeOn<>(this, scheduler);
+    }
+
+    /**
+     * Specifies the Scheduler on which a Subscriber will observe this Flowable,
+     * prefetching at most {@link #bufferSize()} items from the upstream.
+     * @param scheduler The Scheduler to use
+     * @return A new Flowable that is observed on the specified Scheduler
+     */
+    public final Flowable<T> observeOn(Scheduler scheduler) {
+        return observeOn(scheduler, bufferSize());
+    }
+
+    /**
+     * Specifies the Scheduler on which a Subscriber will observe this Flowable.
+     * @param scheduler The Scheduler to use
+     * @param prefetch The maximum number of items buffered between the upstream and the Scheduler
+     * @return A new Flowable that is observed on the specified Scheduler
+     */
+    public final Flowable<T> observeOn(Scheduler scheduler, int prefetch) {
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        }
+        return new FlowableObserveOn<>(this, scheduler, prefetch);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.rx;
+
+/**
+ * Interface handed to a {@link FlowableOnSubscribe} to emit items into a Flowable.
+ * The signal methods must be called sequentially, never concurrently.
+ * @param <T> The type of items being emitted
+ */
+public interface FlowableEmitter<T> {
+    /**
+     * Emits an item.
+     * @param item The item to emit, not null
+     */
+    void onNext(T item);
+
+    /**
+     * Emits an error and terminates the sequence.
+     * @param t The error to emit
+     */
+    void onError(Throwable t);
+
+    /**
+     * Completes the sequence.
+     */
+    void onComplete();
+
+    /**
+     * Returns the number of items the downstream currently expects.
+     * Well-behaved producers should pause emission while this is zero.
+     * @return the current outstanding request amount
+     */
+    long requested();
+
+    /**
+     * Returns true if the downstream cancelled the sequence and no further items are expected.
+     * @return true if the downstream cancelled the sequence
+     */
+    boolean isCancelled();
+
+    /**
+     * Sets a Cancellable that is called when the sequence is cancelled or terminates.
+     * A previously set Cancellable is called right away.
+     * @param cancellable The action to run, may be null
+     */
+    void setCancellable(Cancellable cancellable);
+}
@@ -0,0 +1,15 @@
+package org.example.rx;
+
+/**
+ * Functional interface describing how a Flowable emits items to each new Subscriber.
+ * @param <T> The type of items being emitted
+ */
+@FunctionalInterface
+public interface FlowableOnSubscribe<T> {
+    /**
+     * Called for each Subscriber that subscribes to the Flowable.
+     * @param emitter The emitter to push items into
+     * @throws Exception on error, it is delivered to the Subscriber via onError
+     */
+    void subscribe(FlowableEmitter<T> emitter) throws Exception;
+}
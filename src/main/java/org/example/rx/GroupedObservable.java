@@ -0,0 +1,21 @@
+package org.example.rx;
+
+/**
+ * Observable of the items that share a key, as emitted by {@link Observable#groupBy}.
+ * @param <K> The type of the key
+ * @param <T> The type of items in the group
+ */
+public abstract class GroupedObservable<K, T> extends Observable<T> {
+    private final K key;
+
+    protected GroupedObservable(K key) {
+        this.key = key;
+    }
+
+    /**
+     * @return the key shared by the items of this group
+     */
+    public final K getKey() {
+        return key;
+    }
+}
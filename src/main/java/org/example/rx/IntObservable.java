@@ -0,0 +1,141 @@
+package org.example.rx;
+
+import org.example.rx.internal.operators.IntObservableAverage;
+import org.example.rx.internal.operators.IntObservableFilter;
+import org.example.rx.internal.operators.IntObservableMap;
+import org.example.rx.internal.operators.IntObservableMapToObj;
+import org.example.rx.internal.operators.IntObservableRange;
+import org.example.rx.internal.operators.IntObservableReduce;
+import org.example.rx.internal.operators.LambdaIntObserver;
+import org.example.rx.plugins.RxPlugins;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Observable specialized for int values.
+ * Values travel unboxed and the operators take primitive functional interfaces, so a numeric
+ * pipeline allocates nothing per value. Use {@link #boxed()} or {@link Observable#mapToInt}
+ * to cross over to the generic operators and Schedulers.
+ */
+public abstract class IntObservable {
+    /**
+     * Creates an IntObservable that emits a range of consecutive integers.
+     * @param start The first value
+     * @param count The number of values, zero or more
+     * @return A new IntObservable emitting start, start + 1, ..., start + count - 1
+     */
+    public static IntObservable range(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        if ((long) start + count - 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Integer overflow");
+        }
+        return RxPlugins.onAssembly(new IntObservableRange(start, count));
+    }
+
+    /**
+     * Subscribes an IntObserver to this IntObservable.
+     * The subscription can be cancelled through the Disposable passed to {@link IntObserver#onSubscribe(Disposable)}.
+     * @param observer The IntObserver to subscribe
+     */
+    public final void subscribe(IntObserver observer) {
+        Objects.requireNonNull(observer, "observer is null");
+        subscribeActual(observer);
+    }
+
+    /**
+     * Subscribes to this IntObservable with callbacks for onNext, onError, and onComplete.
+     * @param onNext The callback for handling emitted values
+     * @param onError The callback for handling errors
+     * @param onComplete The callback for handling completion
+     * @return A Disposable that can be used to cancel the subscription
+     */
+    public final Disposable subscribe(IntConsumer onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        LambdaIntObserver observer = new LambdaIntObserver(onNext, onError, onComplete);
+        subscribeActual(observer);
+        return observer;
+    }
+
+    /**
+     * Implements the subscription logic of a concrete IntObservable.
+     * @param observer The IntObserver to subscribe, not null
+     */
+    protected abstract void subscribeActual(IntObserver observer);
+
+    /**
+     * Transforms each value by applying a function to it.
+     * @param mapper The function to apply to each value
+     * @return A new IntObservable that emits the transformed values
+     */
+    public final IntObservable map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return RxPlugins.onAssembly(new IntObservableMap(this, mapper));
+    }
+
+    /**
+     * Emits only the values that satisfy a predicate.
+     * @param predicate The predicate to apply to each value
+     * @return A new IntObservable that emits only the values that satisfy the predicate
+     */
+    public final IntObservable filter(IntPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return RxPlugins.onAssembly(new IntObservableFilter(this, predicate));
+    }
+
+    /**
+     * Transforms each value into an object.
+     * @param mapper The function to apply to each value
+     * @param <R> The type of items emitted by the resulting Observable
+     * @return A new Observable that emits the transformed items
+     */
+    public final <R> Observable<R> mapToObj(IntFunction<R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return RxPlugins.onAssembly(new IntObservableMapToObj<>(this, mapper));
+    }
+
+    /**
+     * Boxes each value, bridging back to the generic operators.
+     * @return A new Observable that emits the boxed values
+     */
+    public final Observable<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    /**
+     * Emits the sum of all values on completion, 0 if there were none.
+     * @return A new IntObservable that emits a single value
+     */
+    public final IntObservable sum() {
+        return RxPlugins.onAssembly(new IntObservableReduce(this, 0, Integer::sum));
+    }
+
+    /**
+     * Emits the smallest value on completion, or just completes if there were none.
+     * @return A new IntObservable that emits at most one value
+     */
+    public final IntObservable min() {
+        return RxPlugins.onAssembly(new IntObservableReduce(this, Math::min));
+    }
+
+    /**
+     * Emits the largest value on completion, or just completes if there were none.
+     * @return A new IntObservable that emits at most one value
+     */
+    public final IntObservable max() {
+        return RxPlugins.onAssembly(new IntObservableReduce(this, Math::max));
+    }
+
+    /**
+     * Emits the arithmetic mean of all values on completion, or just completes if there were none.
+     * @return A new DoubleObservable that emits at most one value
+     */
+    public final DoubleObservable average() {
+        return RxPlugins.onAssembly(new IntObservableAverage(this));
+    }
+}
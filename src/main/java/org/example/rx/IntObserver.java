@@ -0,0 +1,30 @@
+package org.example.rx;
+
+/**
+ * Observer of a {@link IntObservable}, receiving unboxed int values.
+ */
+public interface IntObserver {
+    /**
+     * Called once before any other signal with the Disposable that cancels the upstream.
+     * @param d The Disposable of the upstream
+     */
+    default void onSubscribe(Disposable d) {
+    }
+
+    /**
+     * Called when the IntObservable emits a value.
+     * @param value The value emitted
+     */
+    void onNext(int value);
+
+    /**
+     * Called when the IntObservable encounters an error.
+     * @param t The error that occurred
+     */
+    void onError(Throwable t);
+
+    /**
+     * Called when the IntObservable has completed emitting values.
+     */
+    void onComplete();
+}
@@ -0,0 +1,141 @@
+package org.example.rx;
+
+import org.example.rx.internal.operators.LambdaLongObserver;
+import org.example.rx.internal.operators.LongObservableAverage;
+import org.example.rx.internal.operators.LongObservableFilter;
+import org.example.rx.internal.operators.LongObservableMap;
+import org.example.rx.internal.operators.LongObservableMapToObj;
+import org.example.rx.internal.operators.LongObservableRange;
+import org.example.rx.internal.operators.LongObservableReduce;
+import org.example.rx.plugins.RxPlugins;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Observable specialized for long values.
+ * Values travel unboxed and the operators take primitive functional interfaces, so a numeric
+ * pipeline allocates nothing per value. Use {@link #boxed()} or {@link Observable#mapToLong}
+ * to cross over to the generic operators and Schedulers.
+ */
+public abstract class LongObservable {
+    /**
+     * Creates a LongObservable that emits a range of consecutive longs.
+     * @param start The first value
+     * @param count The number of values, zero or more
+     * @return A new LongObservable emitting start, start + 1, ..., start + count - 1
+     */
+    public static LongObservable range(long start, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        if (count > 0 && start > Long.MAX_VALUE - (count - 1)) {
+            throw new IllegalArgumentException("Long overflow");
+        }
+        return RxPlugins.onAssembly(new LongObservableRange(start, count));
+    }
+
+    /**
+     * Subscribes an LongObserver to this LongObservable.
+     * The subscription can be cancelled through the Disposable passed to {@link LongObserver#onSubscribe(Disposable)}.
+     * @param observer The LongObserver to subscribe
+     */
+    public final void subscribe(LongObserver observer) {
+        Objects.requireNonNull(observer, "observer is null");
+        subscribeActual(observer);
+    }
+
+    /**
+     * Subscribes to this LongObservable with callbacks for onNext, onError, and onComplete.
+     * @param onNext The callback for handling emitted values
+     * @param onError The callback for handling errors
+     * @param onComplete The callback for handling completion
+     * @return A Disposable that can be used to cancel the subscription
+     */
+    public final Disposable subscribe(LongConsumer onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        LambdaLongObserver observer = new LambdaLongObserver(onNext, onError, onComplete);
+        subscribeActual(observer);
+        return observer;
+    }
+
+    /**
+     * Implements the subscription logic of a concrete LongObservable.
+     * @param observer The LongObserver to subscribe, not null
+     */
+    protected abstract void subscribeActual(LongObserver observer);
+
+    /**
+     * Transforms each value by applying a function to it.
+     * @param mapper The function to apply to each value
+     * @return A new LongObservable that emits the transformed values
+     */
+    public final LongObservable map(LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return RxPlugins.onAssembly(new LongObservableMap(this, mapper));
+    }
+
+    /**
+     * Emits only the values that satisfy a predicate.
+     * @param predicate The predicate to apply to each value
+     * @return A new LongObservable that emits only the values that satisfy the predicate
+     */
+    public final LongObservable filter(LongPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return RxPlugins.onAssembly(new LongObservableFilter(this, predicate));
+    }
+
+    /**
+     * Transforms each value into an object.
+     * @param mapper The function to apply to each value
+     * @param <R> The type of items emitted by the resulting Observable
+     * @return A new Observable that emits the transformed items
+     */
+    public final <R> Observable<R> mapToObj(LongFunction<R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return RxPlugins.onAssembly(new LongObservableMapToObj<>(this, mapper));
+    }
+
+    /**
+     * Boxes each value, bridging back to the generic operators.
+     * @return A new Observable that emits the boxed values
+     */
+    public final Observable<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    /**
+     * Emits the sum of all values on completion, 0 if there were none.
+     * @return A new LongObservable that emits a single value
+     */
+    public final LongObservable sum() {
+        return RxPlugins.onAssembly(new LongObservableReduce(this, 0, Long::sum));
+    }
+
+    /**
+     * Emits the smallest value on completion, or just completes if there were none.
+     * @return A new LongObservable that emits at most one value
+     */
+    public final LongObservable min() {
+        return RxPlugins.onAssembly(new LongObservableReduce(this, Math::min));
+    }
+
+    /**
+     * Emits the largest value on completion, or just completes if there were none.
+     * @return A new LongObservable that emits at most one value
+     */
+    public final LongObservable max() {
+        return RxPlugins.onAssembly(new LongObservableReduce(this, Math::max));
+    }
+
+    /**
+     * Emits the arithmetic mean of all values on completion, or just completes if there were none.
+     * @return A new DoubleObservable that emits at most one value
+     */
+    public final DoubleObservable average() {
+        return RxPlugins.onAssembly(new LongObservableAverage(this));
+    }
+}
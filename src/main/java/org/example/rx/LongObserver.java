@@ -0,0 +1,30 @@
+package org.example.rx;
+
+/**
+ * Observer of a {@link LongObservable}, receiving unboxed long values.
+ */
+public interface LongObserver {
+    /**
+     * Called once before any other signal with the Disposable that cancels the upstream.
+     * @param d The Disposable of the upstream
+     */
+    default void onSubscribe(Disposable d) {
+    }
+
+    /**
+     * Called when the LongObservable emits a value.
+     * @param value The value emitted
+     */
+    void onNext(long value);
+
+    /**
+     * Called when the LongObservable encounters an error.
+     * @param t The error that occurred
+     */
+    void onError(Throwable t);
+
+    /**
+     * Called when the LongObservable has completed emitting values.
+     */
+    void onComplete();
+}
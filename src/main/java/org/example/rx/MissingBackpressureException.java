@@ -0,0 +1,10 @@
+package org.example.rx;
+
+/**
+ * Exception signalled when an item could not be delivered because the downstream has not requested it.
+ */
+public class MissingBackpressureException extends RuntimeException {
+    public MissingBackpressureException(String message) {
+        super(message);
+    }
+}
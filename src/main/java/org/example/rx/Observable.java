@@ -1,19 +1,67 @@
 package org.example.rx;
 
+import org.example.rx.internal.operators.ForwardingObserver;
+import org.example.rx.internal.operators.LambdaObserver;
+import org.example.rx.internal.operators.ObservableBuffer;
+import org.example.rx.internal.operators.ObservableBufferTimed;
+import org.example.rx.internal.operators.ObservableCache;
+import org.example.rx.internal.operators.ObservableCollect;
+import org.example.rx.internal.operators.ObservableCount;
+import org.example.rx.internal.operators.ObservableCreate;
+import org.example.rx.internal.operators.ObservableEmpty;
+import org.example.rx.internal.operators.ObservableFileLines;
+import org.example.rx.internal.operators.ObservableFlatMap;
+import org.example.rx.internal.operators.ObservableFromArray;
+import org.example.rx.internal.operators.ObservableFromIterable;
+import org.example.rx.internal.operators.ObservableGroupBy;
+import org.example.rx.internal.operators.ObservableJust;
+import org.example.rx.internal.operators.ObservableMapToDouble;
+import org.example.rx.internal.operators.ObservableMapToInt;
+import org.example.rx.internal.operators.ObservableMapToLong;
+import org.example.rx.internal.operators.ObservableMapFilter;
+import org.example.rx.internal.operators.ObservableObserveOn;
+import org.example.rx.internal.operators.ObservablePublish;
+import org.example.rx.internal.operators.ObservableRange;
+import org.example.rx.internal.operators.ObservableReduce;
+import org.example.rx.internal.operators.ObservableScan;
+import org.example.rx.internal.operators.ObservableSubscribeOn;
+import org.example.rx.internal.operators.ObservableWindow;
+import org.example.rx.internal.operators.ObservableWindowTimed;
+import org.example.rx.internal.operators.ParallelFromObservable;
+import org.example.rx.io.ByteSlice;
+import org.example.rx.plugins.RxPlugins;
+import org.example.rx.schedulers.Schedulers;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Class representing an Observable in the Observer pattern.
+ * Every operator is a subclass that subscribes to its upstream and hands a Disposable
+ * down through {@link Observer#onSubscribe(Disposable)}, so disposing the result of
+ * {@link #subscribe(Observer)} stops the whole chain up to the source.
  * @param <T> The type of items being emitted
  */
-public class Observable<T> {
-    private final Consumer<Observer<T>> source;
-
-    private Observable(Consumer<Observer<T>> source) {
-        this.source = source;
+public abstract class Observable<T> {
+    /**
+     * Returns the default capacity hint used by the operators that buffer items.
+     * @return the default buffer size, same as {@link Flowable#bufferSize()}
+     */
+    public static int bufferSize() {
+        return Flowable.bufferSize();
     }
 
     /**
@@ -22,56 +70,136 @@ public class Observable<T> {
      * @param <T> The type of items being emitted
      * @return A new Observable instance
      */
-    public static <T> Observable<T> create(Consumer<Observer<T>> source) {
-        return new Observable<>(source);
+    public static <T> Observable<T> create(ObservableOnSubscribe<T> source) {
+        Objects.requireNonNull(source, "source is null");
+        return RxPlugins.onAssembly(new ObservableCreate<>(source));
+    }
+
+    /**
+     * Creates an Observable that emits a range of consecutive integers.
+     * @param start The first value
+     * @param count The number of values, zero or more
+     * @return A new Observable emitting start, start + 1, ..., start + count - 1
+     */
+    public static Observable<Integer> range(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        if ((long) start + count - 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Integer overflow");
+        }
+        if (count == 0) {
+            return empty();
+        }
+        if (count == 1) {
+            return just(start);
+        }
+        return RxPlugins.onAssembly(new ObservableRange(start, count));
+    }
+
+    /**
+     * Creates an Observable that emits the elements of an array.
+     * The array is not copied, so changes to it are visible to later subscriptions.
+     * @param items The elements to emit, none of them null
+     * @param <T> The type of items being emitted
+     * @return A new Observable emitting the elements in order
+     */
+    @SafeVarargs
+    public static <T> Observable<T> fromArray(T... items) {
+        Objects.requireNonNull(items, "items is null");
+        if (items.length == 0) {
+            return empty();
+        }
+        if (items.length == 1) {
+            return just(items[0]);
+        }
+        return RxPlugins.onAssembly(new ObservableFromArray<>(items));
+    }
+
+    /**
+     * Creates an Observable that emits the items of an Iterable, with a new Iterator per subscription.
+     * @param source The Iterable to emit, returning no null items
+     * @param <T> The type of items being emitted
+     * @return A new Observable emitting the items in iteration order
+     */
+    public static <T> Observable<T> fromIterable(Iterable<T> source) {
+        Objects.requireNonNull(source, "source is null");
+        return RxPlugins.onAssembly(new ObservableFromIterable<>(source));
+    }
+
+    /**
+     * Creates an Observable that emits the lines of a file as zero-copy views of a memory mapping.
+     * Lines end at {@code \n} with an optional {@code \r}, neither is part of the slice. The file is
+     * mapped in chunks, so it may be larger than 2 GB; the read runs on the subscribing thread.
+     * @param path The file to read
+     * @return A new Observable emitting a ByteSlice per line
+     */
+    public static Observable<ByteSlice> fromFileLines(Path path) {
+        Objects.requireNonNull(path, "path is null");
+        return RxPlugins.onAssembly(new ObservableFileLines(path, 0, 1, ObservableFileLines.DEFAULT_CHUNK_SIZE));
+    }
+
+    /**
+     * Creates an Observable that reads the lines of a file in parallel parts, each subscribed on the
+     * Scheduler, typically {@link org.example.rx.schedulers.Schedulers#computation()}. A part is read
+     * by a single task handed to {@link Scheduler#execute(Runnable)}, so it keeps one thread throughout.
+     * Lines keep their order within a part, but lines of different parts are interleaved.
+     * @param path The file to read
+     * @param splits The number of parts read concurrently
+     * @param scheduler The Scheduler running the parts
+     * @return A new Observable emitting a ByteSlice per line
+     */
+    public static Observable<ByteSlice> fromFileLines(Path path, int splits, Scheduler scheduler) {
+        Objects.requireNonNull(path, "path is null");
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        if (splits <= 0) {
+            throw new IllegalArgumentException("splits > 0 required but it was " + splits);
+        }
+        if (splits == 1) {
+            return fromFileLines(path).subscribeOn(scheduler);
+        }
+        return range(0, splits).flatMap(split -> new ObservableFileLines(path, split, splits,
+            ObservableFileLines.DEFAULT_CHUNK_SIZE).subscribeOn(scheduler), splits, bufferSize());
+    }
+
+    /**
+     * Creates an Observable that emits a single item and completes.
+     * @param item The item to emit
+     * @param <T> The type of the item
+     * @return A new Observable emitting the item
+     */
+    public static <T> Observable<T> just(T item) {
+        Objects.requireNonNull(item, "item is null");
+        return RxPlugins.onAssembly(new ObservableJust<>(item));
+    }
+
+    /**
+     * Returns an Observable that completes immediately without emitting any item.
+     * @param <T> The type of items of the resulting Observable
+     * @return the shared empty Observable
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Observable<T> empty() {
+        return RxPlugins.onAssembly((Observable<T>) (Observable<?>) ObservableEmpty.INSTANCE);
     }
 
     /**
      * Subscribes an Observer to this Observable and returns a Disposable.
+     * An Observer that implements Disposable itself is expected to dispose the upstream
+     * it receives in onSubscribe and is returned as is; any other Observer is wrapped.
      * @param observer The Observer to subscribe
      * @return A Disposable that can be used to cancel the subscription
      */
-    public Disposable subscribe(Observer<T> observer) {
-        AtomicBoolean disposed = new AtomicBoolean(false);
-        try {
-            source.accept(new Observer<T>() {
-                @Override
-                public void onNext(T item) {
-                    if (!disposed.get()) {
-                        observer.onNext(item);
-                    }
-                }
-
-                @Override
-                public void onError(Throwable t) {
-                    if (!disposed.get()) {
-                        observer.onError(t);
-                    }
-                }
-
-                @Override
-                public void onComplete() {
-                    if (!disposed.get()) {
-                        observer.onComplete();
-                    }
-                }
-            });
-        } catch (Exception e) {
-            if (!disposed.get()) {
-                observer.onError(e);
-            }
-        }
-        return new Disposable() {
-            @Override
-            public void dispose() {
-                disposed.set(true);
-            }
-
-            @Override
-            public boolean isDisposed() {
-                return disposed.get();
-            }
-        };
+    public final Disposable subscribe(Observer<T> observer) {
+        Objects.requireNonNull(observer, "observer is null");
+        observer = RxPlugins.onSubscribe(this, observer);
+        if (observer instanceof Disposable) {
+            subscribeActual(observer);
+            return (Disposable) observer;
+        }
+        ForwardingObserver<T> wrapper = new ForwardingObserver<>(observer);
+        subscribeActual(wrapper);
+        return wrapper;
     }
 
     /**
@@ -81,115 +209,481 @@ public class Observable<T> {
      * @param onComplete The callback for handling completion
      * @return A Disposable that can be used to cancel the subscription
      */
-    public Disposable subscribe(Consumer<T> onNext, Consumer<Throwable> onError, Runnable onComplete) {
-        return subscribe(new Observer<T>() {
-            @Override
-            public void onNext(T item) {
-                onNext.accept(item);
-            }
-
-            @Override
-            public void onError(Throwable t) {
-                onError.accept(t);
-            }
-
-            @Override
-            public void onComplete() {
-                onComplete.run();
-            }
-        });
+    public final Disposable subscribe(Consumer<T> onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        return subscribe(new LambdaObserver<>(onNext, onError, onComplete));
     }
 
+    /**
+     * Implements the subscription logic of a concrete Observable.
+     * @param observer The Observer to subscribe, not null
+     */
+    protected abstract void subscribeActual(Observer<T> observer);
+
     /**
      * Transforms the items emitted by this Observable by applying a function to each item.
+     * Consecutive map and filter calls are fused into a single stage.
      * @param mapper The function to apply to each item
      * @param <R> The type of items emitted by the resulting Observable
      * @return A new Observable that emits the transformed items
      */
-    public <R> Observable<R> map(Function<T, R> mapper) {
-        return new Observable<>(observer -> subscribe(
-            item -> {
-                try {
-                    observer.onNext(mapper.apply(item));
-                } catch (Exception e) {
-                    observer.onError(e);
-                }
-            },
-            observer::onError,
-            observer::onComplete
-        ));
+    public final <R> Observable<R> map(Function<T, R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        if (this instanceof ObservableMapFilter) {
+            return RxPlugins.onAssembly(((ObservableMapFilter<?, T>) this).fuseMap(mapper));
+        }
+        return RxPlugins.onAssembly(ObservableMapFilter.map(this, mapper));
     }
 
     /**
      * Filters items emitted by this Observable by only emitting those that satisfy a predicate.
+     * Consecutive map and filter calls are fused into a single stage.
      * @param predicate The predicate to apply to each item
      * @return A new Observable that emits only those items that satisfy the predicate
      */
-    public Observable<T> filter(Predicate<T> predicate) {
-        return new Observable<>(observer -> subscribe(
-            item -> {
-                try {
-                    if (predicate.test(item)) {
-                        observer.onNext(item);
-                    }
-                } catch (Exception e) {
-                    observer.onError(e);
-                }
-            },
-            observer::onError,
-            observer::onComplete
-        ));
+    public final Observable<T> filter(Predicate<T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        if (this instanceof ObservableMapFilter) {
+            return RxPlugins.onAssembly(((ObservableMapFilter<?, T>) this).fuseFilter(predicate));
+        }
+        return RxPlugins.onAssembly(ObservableMapFilter.filter(this, predicate));
+    }
+
+    /**
+     * Maps each item to an int, bridging to the unboxed operators of {@link IntObservable}.
+     * @param mapper The function to apply to each item
+     * @return A new IntObservable that emits the mapped values
+     */
+    public final IntObservable mapToInt(ToIntFunction<T> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return RxPlugins.onAssembly(new ObservableMapToInt<>(this, mapper));
+    }
+
+    /**
+     * Maps each item to a long, bridging to the unboxed operators of {@link LongObservable}.
+     * @param mapper The function to apply to each item
+     * @return A new LongObservable that emits the mapped values
+     */
+    public final LongObservable mapToLong(ToLongFunction<T> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return RxPlugins.onAssembly(new ObservableMapToLong<>(this, mapper));
+    }
+
+    /**
+     * Maps each item to a double, bridging to the unboxed operators of {@link DoubleObservable}.
+     * @param mapper The function to apply to each item
+     * @return A new DoubleObservable that emits the mapped values
+     */
+    public final DoubleObservable mapToDouble(ToDoubleFunction<T> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return RxPlugins.onAssembly(new ObservableMapToDouble<>(this, mapper));
+    }
+
+    /**
+     * Transforms the items emitted by this Observable into Observables, then flattens the emissions from those into a single Observable.
+     * All inner Observables are subscribed as soon as they are created.
+     * @param mapper A function that returns an Observable for each item emitted by the source Observable
+     * @param <R> The type of items emitted by the resulting Observable
+     * @return A new Observable that emits the items emitted by the Observables returned by the mapper function
+     */
+    public final <R> Observable<R> flatMap(Function<T, Observable<R>> mapper) {
+        return flatMap(mapper, Integer.MAX_VALUE, bufferSize());
     }
 
     /**
      * Transforms the items emitted by this Observable into Observables, then flattens the emissions from those into a single Observable.
+     * Inner Observables beyond maxConcurrency wait until an active one completes.
+     * The resulting Observable completes once the source and all inner Observables have completed.
      * @param mapper A function that returns an Observable for each item emitted by the source Observable
+     * @param maxConcurrency The maximum number of inner Observables subscribed at a time
+     * @param prefetch The capacity hint for the queue buffering the items of each inner Observable
      * @param <R> The type of items emitted by the resulting Observable
      * @return A new Observable that emits the items emitted by the Observables returned by the mapper function
      */
-    public <R> Observable<R> flatMap(Function<T, Observable<R>> mapper) {
-        return new Observable<>(observer -> {
-            AtomicBoolean disposed = new AtomicBoolean(false);
-            subscribe(
-                item -> {
-                    if (!disposed.get()) {
-                        try {
-                            Observable<R> innerObservable = mapper.apply(item);
-                            innerObservable.subscribe(
-                                observer::onNext,
-                                observer::onError,
-                                () -> {} // Don't complete when inner completes
-                            );
-                        } catch (Exception e) {
-                            observer.onError(e);
-                        }
-                    }
-                },
-                observer::onError,
-                observer::onComplete
-            );
-        });
+    public final <R> Observable<R> flatMap(Function<T, Observable<R>> mapper, int maxConcurrency, int prefetch) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        }
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        }
+        return RxPlugins.onAssembly(new ObservableFlatMap<>(this, mapper, maxConcurrency, prefetch));
     }
 
     /**
      * Specifies the Scheduler on which an Observable will operate.
+     * Disposing the subscription interrupts the subscribing task if it is still running.
      * @param scheduler The Scheduler to use
      * @return A new Observable that operates on the specified Scheduler
      */
-    public Observable<T> subscribeOn(Scheduler scheduler) {
-        return new Observable<>(observer -> scheduler.execute(() -> subscribe(observer)));
+    public final Observable<T> subscribeOn(Scheduler scheduler) {
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        return RxPlugins.onAssembly(new ObservableSubscribeOn<>(this, scheduler));
     }
 
     /**
      * Specifies the Scheduler on which an Observer will observe this Observable.
+     * Signals are queued and drained in order by a single task per subscription.
      * @param scheduler The Scheduler to use
      * @return A new Observable that is observed on the specified Scheduler
      */
-    public Observable<T> observeOn(Scheduler scheduler) {
-        return new Observable<>(observer -> subscribe(
-            item -> scheduler.execute(() -> observer.onNext(item)),
-            error -> scheduler.execute(() -> observer.onError(error)),
-            () -> scheduler.execute(observer::onComplete)
-        ));
+    public final Observable<T> observeOn(Scheduler scheduler) {
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        return RxPlugins.onAssembly(new ObservableObserveOn<>(this, scheduler));
+    }
+
+    /**
+     * Emits the running result of folding the items, starting with the first item as is.
+     * @param accumulator Combines the value so far with the next item
+     * @return A new Observable emitting one value per item
+     */
+    public final Observable<T> scan(BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator, "accumulator is null");
+        return RxPlugins.onAssembly(new ObservableScan<T, T>(this, null, accumulator));
+    }
+
+    /**
+     * Emits the initial value, then the running result of folding each item into it.
+     * The initial value is shared by all subscriptions, so it should be immutable.
+     * @param initialValue The value to start from
+     * @param accumulator Combines the value so far with the next item
+     * @param <R> The type of the accumulated values
+     * @return A new Observable emitting one value more than there are items
+     */
+    public final <R> Observable<R> scan(R initialValue, BiFunction<R, T, R> accumulator) {
+        Objects.requireNonNull(initialValue, "initialValue is null");
+        Objects.requireNonNull(accumulator, "accumulator is null");
+        return RxPlugins.onAssembly(new ObservableScan<>(this, initialValue, accumulator));
+    }
+
+    /**
+     * Folds the items into a single value emitted on completion, starting with the first item.
+     * @param reducer Combines the value so far with the next item
+     * @return A new Observable emitting the result, or just completing if there were no items
+     */
+    public final Observable<T> reduce(BinaryOperator<T> reducer) {
+        Objects.requireNonNull(reducer, "reducer is null");
+        return RxPlugins.onAssembly(new ObservableReduce<T, T>(this, null, reducer));
+    }
+
+    /**
+     * Folds the items into a single value emitted on completion.
+     * The seed is shared by all subscriptions, so it should be immutable; use
+     * {@link #collect(Supplier, BiConsumer)} to fold into a mutable container.
+     * @param seed The value to start from, emitted as is if there are no items
+     * @param reducer Combines the value so far with the next item
+     * @param <R> The type of the result
+     * @return A new Observable emitting a single value
+     */
+    public final <R> Observable<R> reduce(R seed, BiFunction<R, T, R> reducer) {
+        Objects.requireNonNull(seed, "seed is null");
+        Objects.requireNonNull(reducer, "reducer is null");
+        return RxPlugins.onAssembly(new ObservableReduce<>(this, seed, reducer));
+    }
+
+    /**
+     * Adds the items to a mutable container, created for each subscription, and emits it on completion.
+     * @param containerSupplier Creates the container
+     * @param collector Adds an item to the container
+     * @param <C> The type of the container
+     * @return A new Observable emitting the container
+     */
+    public final <C> Observable<C> collect(Supplier<C> containerSupplier, BiConsumer<C, T> collector) {
+        Objects.requireNonNull(containerSupplier, "containerSupplier is null");
+        Objects.requireNonNull(collector, "collector is null");
+        return RxPlugins.onAssembly(new ObservableCollect<>(this, containerSupplier, collector));
+    }
+
+    /**
+     * Counts the items and emits the count on completion.
+     * @return A new Observable emitting a single value
+     */
+    public final Observable<Long> count() {
+        return RxPlugins.onAssembly(new ObservableCount<>(this));
+    }
+
+    /**
+     * Collects the items into a list emitted on completion.
+     * @return A new Observable emitting a single list
+     */
+    public final Observable<List<T>> toList() {
+        return toList(16);
+    }
+
+    /**
+     * Collects the items into a list allocated with a given capacity, emitted on completion.
+     * An accurate hint avoids copying the list as it grows.
+     * @param capacityHint The expected number of items
+     * @return A new Observable emitting a single list
+     */
+    public final Observable<List<T>> toList(int capacityHint) {
+        if (capacityHint < 0) {
+            throw new IllegalArgumentException("capacityHint >= 0 required but it was " + capacityHint);
+        }
+        return collect(() -> new ArrayList<>(capacityHint), List::add);
+    }
+
+    /**
+     * Groups the items by key, emitting a GroupedObservable per key when its first item arrives.
+     * Groups stay open until the upstream terminates.
+     * @param keySelector Extracts the key of an item, not null
+     * @param <K> The type of keys
+     * @return A new Observable emitting the groups
+     * @see #groupBy(Function, int, long, TimeUnit, Scheduler)
+     */
+    public final <K> Observable<GroupedObservable<K, T>> groupBy(Function<T, K> keySelector) {
+        return groupBy(keySelector, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Groups the items by key, keeping at most maxGroups groups open.
+     * Opening one more completes the least recently used group.
+     * @param keySelector Extracts the key of an item, not null
+     * @param maxGroups The largest number of open groups
+     * @param <K> The type of keys
+     * @return A new Observable emitting the groups
+     * @see #groupBy(Function, int, long, TimeUnit, Scheduler)
+     */
+    public final <K> Observable<GroupedObservable<K, T>> groupBy(Function<T, K> keySelector, int maxGroups) {
+        Objects.requireNonNull(keySelector, "keySelector is null");
+        if (maxGroups <= 0) {
+            throw new IllegalArgumentException("maxGroups > 0 required but it was " + maxGroups);
+        }
+        return RxPlugins.onAssembly(new ObservableGroupBy<>(this, keySelector, maxGroups, 0L, null));
+    }
+
+    /**
+     * Groups the items by key with idle groups completed by a sweep on {@link Schedulers#computation()}.
+     * @param keySelector Extracts the key of an item, not null
+     * @param maxGroups The largest number of open groups
+     * @param idleTimeout The time without items after which a group is completed
+     * @param unit The unit of the timeout
+     * @param <K> The type of keys
+     * @return A new Observable emitting the groups
+     * @see #groupBy(Function, int, long, TimeUnit, Scheduler)
+     */
+    public final <K> Observable<GroupedObservable<K, T>> groupBy(Function<T, K> keySelector, int maxGroups, long idleTimeout, TimeUnit unit) {
+        return groupBy(keySelector, maxGroups, idleTimeout, unit, Schedulers.computation());
+    }
+
+    /**
+     * Groups the items by key in bounded memory, for key spaces too large to keep a group per key.
+     * Opening a group beyond maxGroups completes the least recently used one, and a group that has
+     * not received an item for the idle timeout (up to 1.5 times that, as the sweep is periodic) is
+     * completed. An item whose group was completed opens a new group for its key. Each group
+     * queues its items until subscribed, so groups never wait for each other.
+     * @param keySelector Extracts the key of an item, not null
+     * @param maxGroups The largest number of open groups
+     * @param idleTimeout The time without items after which a group is completed
+     * @param unit The unit of the timeout
+     * @param scheduler The Scheduler whose Worker runs the sweep
+     * @param <K> The type of keys
+     * @return A new Observable emitting the groups
+     */
+    public final <K> Observable<GroupedObservable<K, T>> groupBy(Function<T, K> keySelector, int maxGroups, long idleTimeout,
+                                                                 TimeUnit unit, Scheduler scheduler) {
+        Objects.requireNonNull(keySelector, "keySelector is null");
+        Objects.requireNonNull(unit, "unit is null");
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        if (maxGroups <= 0) {
+            throw new IllegalArgumentException("maxGroups > 0 required but it was " + maxGroups);
+        }
+        if (idleTimeout <= 0L) {
+            throw new IllegalArgumentException("idleTimeout > 0 required but it was " + idleTimeout);
+        }
+        return RxPlugins.onAssembly(new ObservableGroupBy<>(this, keySelector, maxGroups, unit.toNanos(idleTimeout), scheduler));
+    }
+
+    /**
+     * Collects the items into lists of a fixed size, the last one possibly shorter.
+     * @param count The number of items per list
+     * @return A new Observable emitting the lists
+     */
+    public final Observable<List<T>> buffer(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count > 0 required but it was " + count);
+        }
+        return RxPlugins.onAssembly(new ObservableBuffer<>(this, count));
+    }
+
+    /**
+     * Collects the items into lists emitted on {@link Schedulers#computation()} every timespan.
+     * @param timespan The longest time a list stays open
+     * @param unit The unit of the timespan
+     * @param maxSize The number of items that closes a list early
+     * @return A new Observable emitting the non-empty lists
+     * @see #buffer(long, TimeUnit, Scheduler, int)
+     */
+    public final Observable<List<T>> buffer(long timespan, TimeUnit unit, int maxSize) {
+        return buffer(timespan, unit, Schedulers.computation(), maxSize);
+    }
+
+    /**
+     * Collects the items into lists closed every timespan, or as soon as they hold maxSize items,
+     * which trades latency for batch size: a list never waits longer than the timespan, and
+     * a full list restarts it. Periods without items don't emit empty lists.
+     * @param timespan The longest time a list stays open
+     * @param unit The unit of the timespan
+     * @param scheduler The Scheduler whose Worker runs the timer
+     * @param maxSize The number of items that closes a list early
+     * @return A new Observable emitting the non-empty lists
+     */
+    public final Observable<List<T>> buffer(long timespan, TimeUnit unit, Scheduler scheduler, int maxSize) {
+        Objects.requireNonNull(unit, "unit is null");
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        if (timespan <= 0L) {
+            throw new IllegalArgumentException("timespan > 0 required but it was " + timespan);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        }
+        return RxPlugins.onAssembly(new ObservableBufferTimed<>(this, timespan, unit, scheduler, maxSize));
+    }
+
+    /**
+     * Splits the items into windows of a fixed size, the last one possibly shorter.
+     * Each window allows a single Observer and queues its items until subscribed.
+     * @param count The number of items per window
+     * @return A new Observable emitting the windows
+     */
+    public final Observable<Observable<T>> window(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count > 0 required but it was " + count);
+        }
+        return RxPlugins.onAssembly(new ObservableWindow<>(this, count));
+    }
+
+    /**
+     * Splits the items into windows closed on {@link Schedulers#computation()} every timespan.
+     * @param timespan The longest time a window stays open
+     * @param unit The unit of the timespan
+     * @param maxSize The number of items that closes a window early
+     * @return A new Observable emitting the windows
+     * @see #window(long, TimeUnit, Scheduler, int)
+     */
+    public final Observable<Observable<T>> window(long timespan, TimeUnit unit, int maxSize) {
+        return window(timespan, unit, Schedulers.computation(), maxSize);
+    }
+
+    /**
+     * Splits the items into windows closed every timespan, or as soon as they hold maxSize items,
+     * which restarts the timespan. A window opens with its first item, so none is empty.
+     * Each window allows a single Observer and queues its items until subscribed.
+     * Disposing completes the open window.
+     * @param timespan The longest time a window stays open
+     * @param unit The unit of the timespan
+     * @param scheduler The Scheduler whose Worker runs the timer
+     * @param maxSize The number of items that closes a window early
+     * @return A new Observable emitting the windows
+     */
+    public final Observable<Observable<T>> window(long timespan, TimeUnit unit, Scheduler scheduler, int maxSize) {
+        Objects.requireNonNull(unit, "unit is null");
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        if (timespan <= 0L) {
+            throw new IllegalArgumentException("timespan > 0 required but it was " + timespan);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        }
+        return RxPlugins.onAssembly(new ObservableWindowTimed<>(this, timespan, unit, scheduler, maxSize));
+    }
+
+    /**
+     * Runs this Observable once, on the first subscription, and replays all of its items and its
+     * terminal event to every Observer, including those arriving after it terminated.
+     * The items are kept for as long as the returned Observable is reachable.
+     * @return A new Observable sharing a single subscription to this one
+     * @see #cache(int)
+     */
+    public final Observable<T> cache() {
+        return cache(16);
+    }
+
+    /**
+     * Runs this Observable once and replays all of its items to every Observer, storing them in
+     * segments of capacityHint items. Observers read the segments concurrently without copying;
+     * a larger hint means fewer segments for a long source.
+     * @param capacityHint The number of items per segment
+     * @return A new Observable sharing a single subscription to this one
+     */
+    public final Observable<T> cache(int capacityHint) {
+        if (capacityHint <= 0) {
+            throw new IllegalArgumentException("capacityHint > 0 required but it was " + capacityHint);
+        }
+        return RxPlugins.onAssembly(new ObservableCache<>(this, capacityHint, Long.MAX_VALUE, Long.MAX_VALUE));
+    }
+
+    /**
+     * Runs this Observable once, on the first subscription, and replays only its latest items to
+     * each new Observer, followed by the live ones. Older items are dropped, so memory stays bounded.
+     * @param bufferSize The number of most recent items replayed
+     * @return A new Observable sharing a single subscription to this one
+     */
+    public final Observable<T> replay(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        }
+        return RxPlugins.onAssembly(new ObservableCache<>(this, Math.min(bufferSize, 16), bufferSize, Long.MAX_VALUE));
+    }
+
+    /**
+     * Runs this Observable once, on the first subscription, and replays the items received within
+     * the given time to each new Observer, followed by the live ones. Older items are dropped as
+     * new ones arrive. Ages are measured with {@link System#nanoTime()}.
+     * @param time The age of the oldest item replayed
+     * @param unit The unit of the time
+     * @return A new Observable sharing a single subscription to this one
+     */
+    public final Observable<T> replay(long time, TimeUnit unit) {
+        Objects.requireNonNull(unit, "unit is null");
+        if (time <= 0L) {
+            throw new IllegalArgumentException("time > 0 required but it was " + time);
+        }
+        return RxPlugins.onAssembly(new ObservableCache<>(this, 16, Long.MAX_VALUE, unit.toNanos(time)));
+    }
+
+    /**
+     * Shares a single subscription to this Observable between all Observers, started by
+     * {@link ConnectableObservable#connect()}. Observers only get the items emitted while they
+     * are subscribed; nothing is buffered.
+     * @return A new ConnectableObservable
+     */
+    public final ConnectableObservable<T> publish() {
+        return RxPlugins.onAssembly(new ObservablePublish<>(this));
+    }
+
+    /**
+     * Shares a single subscription to this Observable while there are Observers: the first one
+     * subscribes to this Observable, and it is disposed when the last one leaves.
+     * Same as {@code publish().refCount()}.
+     * @return A new Observable sharing a single subscription to this one
+     */
+    public final Observable<T> share() {
+        return publish().refCount();
+    }
+
+    /**
+     * Splits this Observable into rails running on {@link Schedulers#computation()}.
+     * @param rails The number of rails, typically the number of cores
+     * @return A new ParallelObservable dealing the items round-robin onto the rails
+     * @see #parallel(int, Scheduler)
+     */
+    public final ParallelObservable<T> parallel(int rails) {
+        return parallel(rails, Schedulers.computation());
+    }
+
+    /**
+     * Splits this Observable into rails, each with its own Worker of the Scheduler, so the operators
+     * of different rails run concurrently. Items are dealt round-robin and queued per rail without bound.
+     * @param rails The number of rails
+     * @param scheduler The Scheduler providing a Worker per rail
+     * @return A new ParallelObservable dealing the items round-robin onto the rails
+     */
+    public final ParallelObservable<T> parallel(int rails, Scheduler scheduler) {
+        Objects.requireNonNull(scheduler, "scheduler is null");
+        if (rails <= 0) {
+            throw new IllegalArgumentException("rails > 0 required but it was " + rails);
+        }
+        return RxPlugins.onAssembly(new ParallelFromObservable<>(this, rails, scheduler));
     }
-} 
\ No newline at end of file
+}
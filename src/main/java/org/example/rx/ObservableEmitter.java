@@ -0,0 +1,46 @@
+package org.example.rx;
+
+/**
+ * Interface handed to an {@link ObservableOnSubscribe} to emit items into an Observable.
+ * The signal methods must be called sequentially, never concurrently.
+ * @param <T> The type of items being emitted
+ */
+public interface ObservableEmitter<T> {
+    /**
+     * Emits an item, ignored once the emitter is disposed.
+     * @param item The item to emit, not null
+     */
+    void onNext(T item);
+
+    /**
+     * Emits an error and terminates the sequence.
+     * @param t The error to emit
+     */
+    void onError(Throwable t);
+
+    /**
+     * Completes the sequence.
+     */
+    void onComplete();
+
+    /**
+     * Returns true if the downstream disposed the sequence or it has terminated.
+     * Long-running sources should check it and stop producing.
+     * @return true if no further items are expected
+     */
+    boolean isDisposed();
+
+    /**
+     * Sets a Disposable that is disposed when the sequence is disposed or terminates.
+     * A previously set resource is disposed.
+     * @param disposable The resource to dispose, may be null
+     */
+    void setDisposable(Disposable disposable);
+
+    /**
+     * Sets a Cancellable that is called when the sequence is disposed or terminates.
+     * A previously set resource is disposed.
+     * @param cancellable The action to run, may be null
+     */
+    void setCancellable(Cancellable cancellable);
+}
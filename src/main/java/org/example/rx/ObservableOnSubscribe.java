@@ -0,0 +1,15 @@
+package org.example.rx;
+
+/**
+ * Functional interface describing how an Observable emits items to each new Observer.
+ * @param <T> The type of items being emitted
+ */
+@FunctionalInterface
+public interface ObservableOnSubscribe<T> {
+    /**
+     * Called for each Observer that subscribes to the Observable.
+     * @param emitter The emitter to push items into
+     * @throws Exception on error, it is delivered to the Observer via onError
+     */
+    void subscribe(ObservableEmitter<T> emitter) throws Exception;
+}
@@ -5,6 +5,14 @@ package org.example.rx;
  * @param <T> The type of items being observed
  */
 public interface Observer<T> {
+    /**
+     * Called once before any other signal with the Disposable that cancels the upstream.
+     * Operators forward it so that disposing it stops the whole chain up to the source.
+     * @param d The Disposable of the upstream
+     */
+    default void onSubscribe(Disposable d) {
+    }
+
     /**
      * Called when the Observable emits an item.
      * @param item The item emitted by the Observable
@@ -0,0 +1,112 @@
+package org.example.rx;
+
+import org.example.rx.internal.operators.ParallelFilter;
+import org.example.rx.internal.operators.ParallelMap;
+import org.example.rx.internal.operators.ParallelReduce;
+import org.example.rx.internal.operators.ParallelReduceAll;
+import org.example.rx.internal.operators.ParallelSequential;
+import org.example.rx.plugins.RxPlugins;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Observable split into a fixed number of rails that run concurrently, each on its own Worker.
+ * Created with {@link Observable#parallel(int)}; the operators of a rail run on its Worker, so a
+ * CPU-heavy map or filter scales with the number of rails. {@link #sequential()} merges the rails
+ * back into a single Observable.
+ * @param <T> The type of items on the rails
+ */
+public abstract class ParallelObservable<T> {
+    /**
+     * @return the number of rails
+     */
+    public abstract int parallelism();
+
+    /**
+     * Subscribes one Observer per rail. Each rail signals its Observer sequentially, rails run concurrently.
+     * @param observers The Observers, as many as {@link #parallelism()}
+     */
+    public final void subscribe(Observer<T>[] observers) {
+        Objects.requireNonNull(observers, "observers is null");
+        if (observers.length != parallelism()) {
+            throw new IllegalArgumentException("parallelism = " + parallelism() + " Observers required but there were " + observers.length);
+        }
+        subscribeActual(observers);
+    }
+
+    /**
+     * Implements the subscription logic of a concrete ParallelObservable.
+     * @param observers The Observers to subscribe, one per rail
+     */
+    protected abstract void subscribeActual(Observer<T>[] observers);
+
+    /**
+     * Transforms the items of each rail by applying a function to them on the rail.
+     * @param mapper The function to apply to each item
+     * @param <R> The type of items on the resulting rails
+     * @return A new ParallelObservable with the transformed items
+     */
+    public final <R> ParallelObservable<R> map(Function<T, R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return RxPlugins.onAssembly(new ParallelMap<>(this, mapper));
+    }
+
+    /**
+     * Keeps the items of each rail that satisfy a predicate, evaluated on the rail.
+     * @param predicate The predicate to apply to each item
+     * @return A new ParallelObservable with the matching items
+     */
+    public final ParallelObservable<T> filter(Predicate<T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return RxPlugins.onAssembly(new ParallelFilter<>(this, predicate));
+    }
+
+    /**
+     * Folds the items of each rail into one value per rail, emitted when the rail completes.
+     * @param seed Supplies the initial value of each rail
+     * @param reducer Combines the value so far with the next item
+     * @param <R> The type of the values
+     * @return A new ParallelObservable emitting a single value per rail
+     */
+    public final <R> ParallelObservable<R> reduce(Supplier<R> seed, BiFunction<R, T, R> reducer) {
+        Objects.requireNonNull(seed, "seed is null");
+        Objects.requireNonNull(reducer, "reducer is null");
+        return RxPlugins.onAssembly(new ParallelReduce<>(this, seed, reducer));
+    }
+
+    /**
+     * Folds all items into a single value: each rail folds its own items, then the rail results are combined.
+     * The reducer must therefore be associative, and the order in which items are combined is unspecified.
+     * @param reducer Combines two values
+     * @return A new Observable emitting the result, or just completing if there were no items
+     */
+    public final Observable<T> reduce(BinaryOperator<T> reducer) {
+        Objects.requireNonNull(reducer, "reducer is null");
+        return RxPlugins.onAssembly(new ParallelReduceAll<>(this, reducer));
+    }
+
+    /**
+     * Merges the rails into a single Observable, emitting items as soon as any rail produces them.
+     * @return A new Observable emitting the items of all rails
+     */
+    public final Observable<T> sequential() {
+        return sequential(false);
+    }
+
+    /**
+     * Merges the rails into a single Observable.
+     * In ordered mode the items are emitted in the order their source items had upstream of
+     * {@link Observable#parallel(int)}, items of a rail that is ahead are buffered until their turn.
+     * After {@link #reduce(Supplier, BiFunction)} the order is that of the rails.
+     * @param ordered Whether to restore the upstream order
+     * @return A new Observable emitting the items of all rails
+     */
+    public final Observable<T> sequential(boolean ordered) {
+        return RxPlugins.onAssembly(new ParallelSequential<>(this, ordered));
+    }
+}
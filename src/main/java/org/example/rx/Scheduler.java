@@ -1,7 +1,15 @@
 package org.example.rx;
 
+import org.example.rx.internal.schedulers.ExecutorWorker;
+import org.example.rx.internal.schedulers.SchedulerTimer;
+import org.example.rx.schedulers.SchedulerStats;
+
+import java.util.concurrent.TimeUnit;
+
 /**
  * Interface for scheduling tasks to be executed on different threads.
+ * Only {@link #execute(Runnable)} is required, so a lambda or an Executor's method reference is
+ * a Scheduler; the other methods have defaults for such plain Schedulers.
  */
 public interface Scheduler {
     /**
@@ -9,4 +17,80 @@ public interface Scheduler {
      * @param task The task to be executed
      */
     void execute(Runnable task);
-} 
\ No newline at end of file
+
+    /**
+     * Creates a Worker that runs its tasks sequentially on this Scheduler's threads.
+     * The Worker should be disposed once it is no longer needed.
+     * By default the Worker runs its tasks through {@link #execute(Runnable)} and waits out
+     * delays on a timer thread shared by all such Workers.
+     * @return A new Worker
+     */
+    default Worker createWorker() {
+        return new ExecutorWorker(this::execute, SchedulerTimer.shared());
+    }
+
+    /**
+     * Returns the live statistics of this Scheduler's threads.
+     * @return The statistics, updated as tasks run; by default a shared instance that records nothing
+     */
+    default SchedulerStats stats() {
+        return SchedulerStats.none();
+    }
+
+    /**
+     * Stops accepting new tasks. Tasks already submitted still run, delayed tasks that are not due yet are dropped.
+     * Does nothing by default.
+     */
+    default void shutdown() {
+        // Nothing to stop
+    }
+
+    /**
+     * Blocks until all tasks have finished after a shutdown, or the timeout elapses.
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     * @return true if the Scheduler terminated, false if the timeout elapsed first; true by default
+     * @throws InterruptedException if interrupted while waiting
+     */
+    default boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return true;
+    }
+
+    /**
+     * Sequential unit of work of a Scheduler.
+     * Tasks scheduled on the same Worker never run concurrently and immediate tasks run in
+     * the order they were scheduled. Disposing the Worker cancels all its pending tasks.
+     */
+    abstract class Worker implements Disposable {
+        /**
+         * Schedules a task for immediate execution.
+         * @param task The task to be executed
+         * @return A Disposable that cancels the task if it has not run yet
+         */
+        public Disposable schedule(Runnable task) {
+            return schedule(task, 0L, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Schedules a task for execution after a delay.
+         * @param task The task to be executed
+         * @param delay The delay, zero or negative for immediate execution
+         * @param unit The unit of the delay
+         * @return A Disposable that cancels the task if it has not run yet
+         */
+        public abstract Disposable schedule(Runnable task, long delay, TimeUnit unit);
+
+        /**
+         * Schedules a task for periodic execution at a fixed rate.
+         * A run that overlaps the next period delays it instead of running concurrently.
+         * A run that throws ends the schedule.
+         * @param task The task to be executed
+         * @param initialDelay The delay before the first run
+         * @param period The time between the starts of two runs
+         * @param unit The unit of the delay and the period
+         * @return A Disposable that stops further runs
+         * @throws IllegalArgumentException if the period is not positive
+         */
+        public abstract Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit);
+    }
+}
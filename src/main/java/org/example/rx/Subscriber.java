@@ -0,0 +1,32 @@
+package org.example.rx;
+
+/**
+ * Interface representing a backpressure-aware consumer of a Flowable.
+ * Unlike an Observer, a Subscriber only receives as many items as it has requested
+ * through the Subscription handed to {@link #onSubscribe(Subscription)}.
+ * @param <T> The type of items being observed
+ */
+public interface Subscriber<T> {
+    /**
+     * Called once before any other signal with the Subscription used to request items.
+     * @param subscription The Subscription of this Subscriber
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Called when the Flowable emits an item.
+     * @param item The item emitted by the Flowable
+     */
+    void onNext(T item);
+
+    /**
+     * Called when the Flowable encounters an error.
+     * @param t The error that occurred
+     */
+    void onError(Throwable t);
+
+    /**
+     * Called when the Flowable has completed emitting items.
+     */
+    void onComplete();
+}
@@ -0,0 +1,18 @@
+package org.example.rx;
+
+/**
+ * Interface representing the link between a Flowable and a Subscriber.
+ * The Subscriber uses it to signal demand and to cancel the flow of items.
+ */
+public interface Subscription {
+    /**
+     * Requests up to n more items from the upstream.
+     * @param n The number of items requested, must be positive
+     */
+    void request(long n);
+
+    /**
+     * Asks the upstream to stop sending items and release its resources.
+     */
+    void cancel();
+}
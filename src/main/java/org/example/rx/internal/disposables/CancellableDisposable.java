@@ -0,0 +1,35 @@
+package org.example.rx.internal.disposables;
+
+import org.example.rx.Cancellable;
+import org.example.rx.Disposable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Disposable that calls a Cancellable exactly once when disposed.
+ */
+public final class CancellableDisposable extends AtomicReference<Cancellable> implements Disposable {
+    public CancellableDisposable(Cancellable cancellable) {
+        super(cancellable);
+    }
+
+    @Override
+    public void dispose() {
+        if (get() != null) {
+            Cancellable c = getAndSet(null);
+            if (c != null) {
+                try {
+                    c.cancel();
+                } catch (Exception e) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return get() == null;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.rx.internal.disposables;
+
+import org.example.rx.Disposable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A container of Disposables that disposes all of them at once.
+ * Disposables added after the container has been disposed are disposed immediately.
+ */
+public final class CompositeDisposable implements Disposable {
+    private Set<Disposable> resources = new HashSet<>();
+    private volatile boolean disposed;
+
+    /**
+     * Adds a Disposable to this container.
+     * @param d The Disposable to add
+     * @return false if the container was already disposed and d has been disposed
+     */
+    public boolean add(Disposable d) {
+        if (!disposed) {
+            synchronized (this) {
+                if (!disposed) {
+                    resources.add(d);
+                    return true;
+                }
+            }
+        }
+        d.dispose();
+        return false;
+    }
+
+    /**
+     * Removes a Disposable from this container without disposing it.
+     * @param d The Disposable to remove
+     */
+    public void delete(Disposable d) {
+        if (!disposed) {
+            synchronized (this) {
+                if (!disposed) {
+                    resources.remove(d);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        Set<Disposable> set;
+        synchronized (this) {
+            if (disposed) {
+                return;
+            }
+            disposed = true;
+            set = resources;
+            resources = null;
+        }
+        for (Disposable d : set) {
+            d.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
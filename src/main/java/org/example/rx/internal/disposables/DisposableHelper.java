@@ -0,0 +1,97 @@
+package org.example.rx.internal.disposables;
+
+import org.example.rx.Disposable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Utility methods for managing Disposables held in atomic references.
+ */
+public enum DisposableHelper implements Disposable {
+    /**
+     * Marker for an already disposed resource.
+     */
+    DISPOSED;
+
+    @Override
+    public void dispose() {
+        // deliberately ignored
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return true;
+    }
+
+    /**
+     * Checks whether the given Disposable is the disposed marker.
+     * @param d The Disposable to check
+     * @return true if d is the disposed marker
+     */
+    public static boolean isDisposed(Disposable d) {
+        return d == DISPOSED;
+    }
+
+    /**
+     * Atomically sets the Disposable if the field is still empty, disposes it otherwise.
+     * @param field The target field
+     * @param d The new Disposable
+     * @return true if the Disposable was set
+     */
+    public static boolean setOnce(AtomicReference<Disposable> field, Disposable d) {
+        Objects.requireNonNull(d, "d is null");
+        if (!field.compareAndSet(null, d)) {
+            d.dispose();
+            if (field.get() != DISPOSED) {
+                throw new IllegalStateException("Disposable already set!");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Atomically replaces the Disposable in the field and disposes the previous one.
+     * If the field is already disposed, the new Disposable is disposed instead.
+     * @param field The target field
+     * @param d The new Disposable, may be null
+     * @return false if the field was already disposed
+     */
+    public static boolean set(AtomicReference<Disposable> field, Disposable d) {
+        for (;;) {
+            Disposable current = field.get();
+            if (current == DISPOSED) {
+                if (d != null) {
+                    d.dispose();
+                }
+                return false;
+            }
+            if (field.compareAndSet(current, d)) {
+                if (current != null) {
+                    current.dispose();
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Atomically disposes the Disposable in the field and marks the field as disposed.
+     * @param field The target field
+     * @return true if this call disposed the field
+     */
+    public static boolean dispose(AtomicReference<Disposable> field) {
+        Disposable current = field.get();
+        if (current != DISPOSED) {
+            current = field.getAndSet(DISPOSED);
+            if (current != DISPOSED) {
+                if (current != null) {
+                    current.dispose();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.rx.internal.disposables;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observer;
+
+/**
+ * A Disposable that does nothing, used to terminate an Observer right after onSubscribe.
+ */
+public enum EmptyDisposable implements Disposable {
+    INSTANCE;
+
+    @Override
+    public void dispose() {
+        // deliberately ignored
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return this == INSTANCE;
+    }
+
+    /**
+     * Sets the empty Disposable on the Observer and completes it.
+     * @param observer The target Observer
+     */
+    public static void complete(Observer<?> observer) {
+        observer.onSubscribe(INSTANCE);
+        observer.onComplete();
+    }
+
+    /**
+     * Sets the empty Disposable on the Observer and signals the error to it.
+     * @param e The error to signal
+     * @param observer The target Observer
+     */
+    public static void error(Throwable e, Observer<?> observer) {
+        observer.onSubscribe(INSTANCE);
+        observer.onError(e);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.rx.internal.disposables;
+
+import org.example.rx.Disposable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds a single Disposable that can be swapped over time, e.g. the successive
+ * scheduled runs of a periodic task. Disposing it disposes the current resource
+ * and any resource set afterwards.
+ */
+public final class SequentialDisposable extends AtomicReference<Disposable> implements Disposable {
+    /**
+     * Replaces the current resource without disposing it.
+     * @param d The new resource
+     * @return false if this container is already disposed and d has been disposed
+     */
+    public boolean replace(Disposable d) {
+        for (;;) {
+            Disposable current = get();
+            if (current == DisposableHelper.DISPOSED) {
+                if (d != null) {
+                    d.dispose();
+                }
+                return false;
+            }
+            if (compareAndSet(current, d)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Replaces the current resource and disposes it.
+     * @param d The new resource
+     * @return false if this container is already disposed and d has been disposed
+     */
+    public boolean update(Disposable d) {
+        return DisposableHelper.set(this, d);
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(this);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return DisposableHelper.isDisposed(get());
+    }
+}
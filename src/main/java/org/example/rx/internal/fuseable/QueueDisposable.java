@@ -0,0 +1,35 @@
+package org.example.rx.internal.fuseable;
+
+import org.example.rx.Disposable;
+
+/**
+ * Disposable of a synchronous source that can also be pulled like a queue.
+ * An operator receiving one in onSubscribe may call {@link #requestFusion(boolean)}; once accepted,
+ * the source emits nothing and the operator polls the items itself, saving the per-item
+ * onNext calls and the operator's own queue. Only range, fromArray and just implement it,
+ * and observeOn is the only operator requesting it.
+ * @param <T> The type of items being emitted
+ */
+public interface QueueDisposable<T> extends Disposable {
+    /**
+     * Switches the source from emitting to being polled. Must be called from onSubscribe.
+     * A caller that polls on another thread than the one it was subscribed on, like observeOn,
+     * is a boundary. A source that would run user code while polling, such as a mapper or an
+     * Iterator, must refuse a boundary so that this code stays on the subscribing thread.
+     * @param boundary true if the caller polls on another thread than the one it was subscribed on
+     * @return true if the source will be polled, false if it keeps emitting as usual
+     */
+    boolean requestFusion(boolean boundary);
+
+    /**
+     * Returns the next item of a fused source.
+     * @return the next item, or null once the source is exhausted
+     * @throws RuntimeException if producing the item failed, which ends the source
+     */
+    T poll();
+
+    /**
+     * Drops the remaining items of a fused source.
+     */
+    void clear();
+}
@@ -0,0 +1,176 @@
+package org.example.rx.internal.io;
+
+import org.example.rx.internal.queue.MpscLinkedQueue;
+import org.example.rx.internal.queue.SimpleQueue;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Daemon thread waiting on a Selector and calling the handlers of the channels that became ready.
+ * Tasks submitted with {@link #execute(Runnable)} run on the loop between two selects, which is
+ * how channels get registered: the interest set of a key may only be changed from the loop.
+ * <p>
+ * A channel has one key per loop, shared by a read handler (also used for accepting) and a
+ * write handler, so a connection can be read and written through the same loop. Removing the
+ * last interest keeps the key, it is cancelled when the channel is closed.
+ */
+public final class SelectorLoop extends Thread implements Executor {
+    private final Selector selector;
+    private final SimpleQueue<Runnable> tasks = new MpscLinkedQueue<>();
+    // Set while a wakeup is pending, so concurrent submitters only wake the selector once
+    private final AtomicBoolean wakeup = new AtomicBoolean();
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a loop, which must be started by the caller.
+     * @param name The name of the thread
+     * @throws IOException if the Selector can't be opened
+     */
+    public SelectorLoop(String name) throws IOException {
+        super(name);
+        this.selector = Selector.open();
+        setDaemon(true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException(getName() + " is shut down");
+        }
+        tasks.offer(task);
+        if (Thread.currentThread() != this && wakeup.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Adds an operation to the interest set of a channel, registering it on first use.
+     * Must be called from the loop, with the channel in non-blocking mode.
+     * @param channel The channel
+     * @param op {@link SelectionKey#OP_READ}, {@link SelectionKey#OP_ACCEPT} or {@link SelectionKey#OP_WRITE}
+     * @param handler Called on the loop whenever the channel is ready for the operation
+     * @throws IOException if the channel is closed
+     */
+    public void register(SelectableChannel channel, int op, Runnable handler) throws IOException {
+        SelectionKey key = channel.keyFor(selector);
+        Handlers handlers;
+        if (key == null || !key.isValid()) {
+            handlers = new Handlers();
+            key = channel.register(selector, op, handlers);
+        } else {
+            handlers = (Handlers) key.attachment();
+            key.interestOps(key.interestOps() | op);
+        }
+        if (op == SelectionKey.OP_WRITE) {
+            handlers.writable = handler;
+        } else {
+            handlers.readable = handler;
+        }
+    }
+
+    /**
+     * Removes an operation from the interest set of a channel. Must be called from the loop.
+     * @param channel The channel
+     * @param op The operation passed to {@link #register}
+     */
+    public void deregister(SelectableChannel channel, int op) {
+        SelectionKey key = channel.keyFor(selector);
+        if (key != null && key.isValid()) {
+            key.interestOps(key.interestOps() & ~op);
+            Handlers handlers = (Handlers) key.attachment();
+            if (op == SelectionKey.OP_WRITE) {
+                handlers.writable = null;
+            } else {
+                handlers.readable = null;
+            }
+        }
+    }
+
+    /**
+     * Stops the loop and closes its Selector, tasks that have not run yet are dropped.
+     */
+    public void shutdown() {
+        shutdown = true;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!shutdown) {
+                runTasks();
+                try {
+                    selector.select();
+                } catch (IOException e) {
+                    report(e);
+                    break;
+                }
+                // Reset before the tasks run, so one submitted from now on wakes the next select
+                wakeup.set(false);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    dispatch(key);
+                }
+            }
+        } finally {
+            tasks.clear();
+            try {
+                selector.close();
+            } catch (IOException e) {
+                report(e);
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            runSafely(task);
+        }
+    }
+
+    private void dispatch(SelectionKey key) {
+        Handlers handlers = (Handlers) key.attachment();
+        try {
+            int ready = key.readyOps();
+            Runnable readable = handlers.readable;
+            if ((ready & (SelectionKey.OP_READ | SelectionKey.OP_ACCEPT)) != 0 && readable != null) {
+                runSafely(readable);
+            }
+            Runnable writable = handlers.writable;
+            if (key.isValid() && (ready & SelectionKey.OP_WRITE) != 0 && writable != null) {
+                runSafely(writable);
+            }
+        } catch (CancelledKeyException e) {
+            // The channel was closed concurrently, its handlers find out on their next operation
+        }
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            // A failing handler must not kill the loop, and with it every other channel
+            report(e);
+        }
+    }
+
+    private void report(Throwable e) {
+        getUncaughtExceptionHandler().uncaughtException(this, e);
+    }
+
+    static final class Handlers {
+        Runnable readable;
+        Runnable writable;
+    }
+}
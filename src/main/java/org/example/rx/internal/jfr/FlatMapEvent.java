@@ -0,0 +1,31 @@
+package org.example.rx.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lifetime of a {@code flatMap} subscription with the number of inner Observables it merged.
+ */
+@Name("org.example.rx.FlatMap")
+@Label("FlatMap")
+@Category({"Reactive", "Observable"})
+@Description("A flatMap subscription and the inner Observables it subscribed")
+@StackTrace(false)
+public final class FlatMapEvent extends Event {
+    @Label("Outcome")
+    @Description("complete, error or dispose")
+    public String outcome;
+
+    @Label("Inner Observables")
+    public long inners;
+
+    @Label("Peak Active Inners")
+    public int peakActive;
+
+    @Label("Max Concurrency")
+    public int maxConcurrency;
+}
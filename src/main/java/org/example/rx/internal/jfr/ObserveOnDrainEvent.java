@@ -0,0 +1,25 @@
+package org.example.rx.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One run of the {@code observeOn} drain task, delivering a batch of queued signals.
+ */
+@Name("org.example.rx.ObserveOnDrain")
+@Label("ObserveOn Drain")
+@Category({"Reactive", "Observable"})
+@Description("A batch of items delivered by one run of the observeOn drain task")
+@StackTrace(false)
+public final class ObserveOnDrainEvent extends Event {
+    @Label("Items")
+    public long items;
+
+    @Label("Terminated")
+    @Description("Whether the batch ended with the terminal event or a disposal")
+    public boolean terminated;
+}
@@ -0,0 +1,38 @@
+package org.example.rx.internal.jfr;
+
+import jdk.jfr.Event;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A JFR event spanning a subscription, handed out at most once to whichever of the
+ * terminal event or the disposal comes first.
+ * @param <E> The type of the event
+ */
+public final class PendingEvent<E extends Event> extends AtomicReference<E> {
+    private PendingEvent(E event) {
+        super(event);
+    }
+
+    /**
+     * Starts timing an event if it is enabled in a running recording.
+     * @param event The new event
+     * @param <E> The type of the event
+     * @return the pending event, or null if the event is disabled
+     */
+    public static <E extends Event> PendingEvent<E> begin(E event) {
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return new PendingEvent<>(event);
+    }
+
+    /**
+     * Takes the event so that the caller can fill in its fields and commit it.
+     * @return the event, or null if it has already been taken
+     */
+    public E take() {
+        return getAndSet(null);
+    }
+}
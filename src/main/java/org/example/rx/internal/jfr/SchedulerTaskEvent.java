@@ -0,0 +1,27 @@
+package org.example.rx.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Run of a task on a Scheduler thread, along with the time it spent queued.
+ * A Worker hands its whole drain loop over as one task.
+ */
+@Name("org.example.rx.SchedulerTask")
+@Label("Scheduler Task")
+@Category({"Reactive", "Scheduler"})
+@Description("A task run by a Scheduler and the time it waited in the queue")
+@StackTrace(false)
+public final class SchedulerTaskEvent extends Event {
+    @Label("Scheduler")
+    public String scheduler;
+
+    @Label("Queue Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueTime;
+}
@@ -0,0 +1,60 @@
+package org.example.rx.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lifetime of a subscription, from the end Observer being subscribed to its terminal event or disposal.
+ */
+@Name("org.example.rx.Subscription")
+@Label("Subscription")
+@Category({"Reactive", "Observable"})
+@Description("Lifetime of a subscription from subscribe to onComplete, onError or dispose")
+@StackTrace(false)
+public final class SubscriptionEvent extends Event {
+    @Label("Observer")
+    public Class<?> observer;
+
+    @Label("Outcome")
+    @Description("complete, error or dispose")
+    public String outcome;
+
+    @Label("Items")
+    public long items;
+
+    @Label("Error")
+    public Class<?> error;
+
+    @Label("Error Message")
+    public String errorMessage;
+
+    /**
+     * Commits the event of a subscription unless it has ended before.
+     * @param pending The pending event, null if the event is disabled
+     * @param observer The class of the end Observer
+     * @param outcome {@code complete}, {@code error} or {@code dispose}
+     * @param items The number of items the Observer received
+     * @param error The error of an {@code error} outcome, null otherwise
+     */
+    public static void end(PendingEvent<SubscriptionEvent> pending, Class<?> observer, String outcome, long items,
+                           Throwable error) {
+        if (pending == null) {
+            return;
+        }
+        SubscriptionEvent event = pending.take();
+        if (event != null && event.shouldCommit()) {
+            event.observer = observer;
+            event.outcome = outcome;
+            event.items = items;
+            if (error != null) {
+                event.error = error.getClass();
+                event.errorMessage = error.getMessage();
+            }
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.rx.internal.metrics;
+
+import org.example.rx.metrics.Counter;
+import org.example.rx.metrics.LatencyHistogram;
+import org.example.rx.metrics.MetricsRegistry;
+import org.example.rx.metrics.RxMetrics;
+
+/**
+ * The item and error counters of one operator type, resolved once per subscription.
+ */
+public final class OperatorMetrics {
+    public final Counter items;
+    public final Counter errors;
+    private final MetricsRegistry registry;
+    private final String operator;
+
+    private OperatorMetrics(MetricsRegistry registry, String operator) {
+        this.registry = registry;
+        this.operator = operator;
+        this.items = registry.counter("rx." + operator + ".items");
+        this.errors = registry.counter("rx." + operator + ".errors");
+    }
+
+    /**
+     * Returns the counters of an operator if metrics are enabled.
+     * @param operator The operator name used in the metric names
+     * @return the counters, or null if metrics are disabled
+     */
+    public static OperatorMetrics of(String operator) {
+        MetricsRegistry registry = RxMetrics.registry();
+        return registry != null ? new OperatorMetrics(registry, operator) : null;
+    }
+
+    /**
+     * Returns an additional counter of the operator.
+     * @param metric The metric name within the operator, e.g. {@code queueDepth}
+     * @return the counter named {@code rx.<operator>.<metric>}
+     */
+    public Counter counter(String metric) {
+        return registry.counter("rx." + operator + "." + metric);
+    }
+
+    /**
+     * Returns a latency histogram of the operator.
+     * @param metric The metric name within the operator, e.g. {@code latency}
+     * @return the histogram named {@code rx.<operator>.<metric>}
+     */
+    public LatencyHistogram histogram(String metric) {
+        return registry.histogram("rx." + operator + "." + metric);
+    }
+}
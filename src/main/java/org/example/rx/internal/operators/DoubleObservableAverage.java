@@ -0,0 +1,78 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.DoubleObservable;
+import org.example.rx.DoubleObserver;
+
+/**
+ * Emits the arithmetic mean of the upstream values on completion, or just completes if there were none.
+ */
+public final class DoubleObservableAverage extends DoubleObservable {
+    private final DoubleObservable source;
+
+    public DoubleObservableAverage(DoubleObservable source) {
+        this.source = source;
+    }
+
+    @Override
+    protected void subscribeActual(DoubleObserver observer) {
+        source.subscribe(new AverageObserver(observer));
+    }
+
+    static final class AverageObserver implements DoubleObserver, Disposable {
+        private final DoubleObserver downstream;
+        private Disposable upstream;
+        private double sum;
+        private long count;
+        private boolean done;
+
+        AverageObserver(DoubleObserver downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(double value) {
+            if (!done) {
+                sum += value;
+                count++;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (count != 0) {
+                downstream.onNext((double) sum / count);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.DoubleObservable;
+import org.example.rx.DoubleObserver;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * Emits only the values of the upstream that satisfy a predicate, without boxing.
+ */
+public final class DoubleObservableFilter extends DoubleObservable {
+    private final DoubleObservable source;
+    private final DoublePredicate predicate;
+
+    public DoubleObservableFilter(DoubleObservable source, DoublePredicate predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    protected void subscribeActual(DoubleObserver observer) {
+        source.subscribe(new FilterObserver(observer, predicate));
+    }
+
+    static final class FilterObserver implements DoubleObserver, Disposable {
+        private final DoubleObserver downstream;
+        private final DoublePredicate predicate;
+        private Disposable upstream;
+        private boolean done;
+
+        FilterObserver(DoubleObserver downstream, DoublePredicate predicate) {
+            this.downstream = downstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(double value) {
+            if (done) {
+                return;
+            }
+            boolean pass;
+            try {
+                pass = predicate.test(value);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            if (pass) {
+                downstream.onNext(value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.DoubleObservable;
+import org.example.rx.DoubleObserver;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Applies a function to each value of the upstream without boxing.
+ */
+public final class DoubleObservableMap extends DoubleObservable {
+    private final DoubleObservable source;
+    private final DoubleUnaryOperator mapper;
+
+    public DoubleObservableMap(DoubleObservable source, DoubleUnaryOperator mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(DoubleObserver observer) {
+        source.subscribe(new MapObserver(observer, mapper));
+    }
+
+    static final class MapObserver implements DoubleObserver, Disposable {
+        private final DoubleObserver downstream;
+        private final DoubleUnaryOperator mapper;
+        private Disposable upstream;
+        private boolean done;
+
+        MapObserver(DoubleObserver downstream, DoubleUnaryOperator mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(double value) {
+            if (done) {
+                return;
+            }
+            double result;
+            try {
+                result = mapper.applyAsDouble(value);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
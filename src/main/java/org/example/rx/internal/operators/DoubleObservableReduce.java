@@ -0,0 +1,109 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.DoubleObservable;
+import org.example.rx.DoubleObserver;
+
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * Folds the values of the upstream into a single double emitted on completion.
+ * Without a seed the first value starts the fold and an empty upstream just completes.
+ */
+public final class DoubleObservableReduce extends DoubleObservable {
+    private final DoubleObservable source;
+    private final boolean seeded;
+    private final double seed;
+    private final DoubleBinaryOperator reducer;
+
+    public DoubleObservableReduce(DoubleObservable source, double seed, DoubleBinaryOperator reducer) {
+        this(source, true, seed, reducer);
+    }
+
+    public DoubleObservableReduce(DoubleObservable source, DoubleBinaryOperator reducer) {
+        this(source, false, 0, reducer);
+    }
+
+    private DoubleObservableReduce(DoubleObservable source, boolean seeded, double seed, DoubleBinaryOperator reducer) {
+        this.source = source;
+        this.seeded = seeded;
+        this.seed = seed;
+        this.reducer = reducer;
+    }
+
+    @Override
+    protected void subscribeActual(DoubleObserver observer) {
+        source.subscribe(new ReduceObserver(observer, seeded, seed, reducer));
+    }
+
+    static final class ReduceObserver implements DoubleObserver, Disposable {
+        private final DoubleObserver downstream;
+        private final DoubleBinaryOperator reducer;
+        private Disposable upstream;
+        private boolean hasValue;
+        private double value;
+        private boolean done;
+
+        ReduceObserver(DoubleObserver downstream, boolean seeded, double seed, DoubleBinaryOperator reducer) {
+            this.downstream = downstream;
+            this.reducer = reducer;
+            this.hasValue = seeded;
+            this.value = seed;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(double item) {
+            if (done) {
+                return;
+            }
+            if (!hasValue) {
+                hasValue = true;
+                value = item;
+                return;
+            }
+            try {
+                value = reducer.applyAsDouble(value, item);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (hasValue) {
+                downstream.onNext(value);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
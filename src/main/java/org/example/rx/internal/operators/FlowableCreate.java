@@ -0,0 +1,362 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.BackpressureStrategy;
+import org.example.rx.Cancellable;
+import org.example.rx.Disposable;
+import org.example.rx.Flowable;
+import org.example.rx.FlowableEmitter;
+import org.example.rx.FlowableOnSubscribe;
+import org.example.rx.MissingBackpressureException;
+import org.example.rx.Subscriber;
+import org.example.rx.Subscription;
+import org.example.rx.internal.disposables.CancellableDisposable;
+import org.example.rx.internal.disposables.DisposableHelper;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscLinkedArrayQueue;
+import org.example.rx.internal.subscriptions.SubscriptionHelper;
+import org.example.rx.internal.util.BackpressureHelper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bridges a push-based {@link FlowableOnSubscribe} source to the request protocol,
+ * applying a {@link BackpressureStrategy} to items emitted beyond the downstream demand.
+ * @param <T> The type of items being emitted
+ */
+public final class FlowableCreate<T> extends Flowable<T> {
+    private final FlowableOnSubscribe<T> source;
+    private final BackpressureStrategy mode;
+
+    public FlowableCreate(FlowableOnSubscribe<T> source, BackpressureStrategy mode) {
+        this.source = source;
+        this.mode = mode;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<T> subscriber) {
+        BaseEmitter<T> emitter;
+        switch (mode) {
+            case DROP:
+                emitter = new DropEmitter<>(subscriber);
+                break;
+            case LATEST:
+                emitter = new LatestEmitter<>(subscriber);
+                break;
+            case ERROR:
+                emitter = new ErrorEmitter<>(subscriber);
+                break;
+            default:
+                emitter = new BufferEmitter<>(subscriber);
+                break;
+        }
+        subscriber.onSubscribe(emitter);
+        try {
+            source.subscribe(emitter);
+        } catch (Exception e) {
+            emitter.onError(e);
+        }
+    }
+
+    abstract static class BaseEmitter<T> extends AtomicLong implements FlowableEmitter<T>, Subscription {
+        final Subscriber<T> downstream;
+        final AtomicReference<Disposable> resource = new AtomicReference<>();
+        volatile boolean cancelled;
+
+        BaseEmitter(Subscriber<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onComplete() {
+            complete();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (t == null) {
+                t = new NullPointerException("onError called with a null Throwable.");
+            }
+            error(t);
+        }
+
+        void complete() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            try {
+                downstream.onComplete();
+            } finally {
+                DisposableHelper.dispose(resource);
+            }
+        }
+
+        void error(Throwable t) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            try {
+                downstream.onError(t);
+            } finally {
+                DisposableHelper.dispose(resource);
+            }
+        }
+
+        boolean checkNull(T item) {
+            if (item == null) {
+                onError(new NullPointerException("onNext called with a null value."));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public final void request(long n) {
+            SubscriptionHelper.validate(n);
+            BackpressureHelper.add(this, n);
+            onRequested();
+        }
+
+        void onRequested() {
+            // default is no-op
+        }
+
+        @Override
+        public final void cancel() {
+            cancelled = true;
+            DisposableHelper.dispose(resource);
+            onUnsubscribed();
+        }
+
+        void onUnsubscribed() {
+            // default is no-op
+        }
+
+        @Override
+        public final long requested() {
+            return get();
+        }
+
+        @Override
+        public final boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public final void setCancellable(Cancellable cancellable) {
+            DisposableHelper.set(resource, cancellable == null ? null : new CancellableDisposable(cancellable));
+        }
+    }
+
+    static final class DropEmitter<T> extends BaseEmitter<T> {
+        DropEmitter(Subscriber<T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (cancelled || checkNull(item)) {
+                return;
+            }
+            if (get() != 0L) {
+                downstream.onNext(item);
+                BackpressureHelper.produced(this, 1);
+            }
+        }
+    }
+
+    static final class ErrorEmitter<T> extends BaseEmitter<T> {
+        ErrorEmitter(Subscriber<T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (cancelled || checkNull(item)) {
+                return;
+            }
+            if (get() != 0L) {
+                downstream.onNext(item);
+                BackpressureHelper.produced(this, 1);
+            } else {
+                onError(new MissingBackpressureException("create: could not emit value due to lack of requests"));
+            }
+        }
+    }
+
+    /**
+     * Base class for the emitters that hold items back until they are requested.
+     * Terminal events wait behind the queued items.
+     */
+    abstract static class QueueDrainEmitter<T> extends BaseEmitter<T> {
+        final AtomicInteger wip = new AtomicInteger();
+        volatile boolean done;
+        Throwable failure;
+
+        QueueDrainEmitter(Subscriber<T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done || cancelled || checkNull(item)) {
+                return;
+            }
+            offer(item);
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done || cancelled) {
+                return;
+            }
+            failure = t == null ? new NullPointerException("onError called with a null Throwable.") : t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done || cancelled) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        void onRequested() {
+            drain();
+        }
+
+        @Override
+        void onUnsubscribed() {
+            if (wip.getAndIncrement() == 0) {
+                clear();
+            }
+        }
+
+        abstract void offer(T item);
+
+        abstract T poll();
+
+        abstract boolean isEmpty();
+
+        abstract void clear();
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                long r = get();
+                long e = 0L;
+                while (e != r) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    boolean d = done;
+                    T item = poll();
+                    boolean empty = item == null;
+                    if (d && empty) {
+                        terminate();
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    e++;
+                }
+                if (e == r) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    if (done && isEmpty()) {
+                        terminate();
+                        return;
+                    }
+                }
+                if (e != 0L) {
+                    BackpressureHelper.produced(this, e);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void terminate() {
+            Throwable ex = failure;
+            if (ex != null) {
+                error(ex);
+            } else {
+                complete();
+            }
+        }
+    }
+
+    static final class BufferEmitter<T> extends QueueDrainEmitter<T> {
+        private final SimpleQueue<T> queue = new SpscLinkedArrayQueue<>(Flowable.bufferSize());
+
+        BufferEmitter(Subscriber<T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        void offer(T item) {
+            queue.offer(item);
+        }
+
+        @Override
+        T poll() {
+            return queue.poll();
+        }
+
+        @Override
+        boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        void clear() {
+            queue.clear();
+        }
+    }
+
+    static final class LatestEmitter<T> extends QueueDrainEmitter<T> {
+        private final AtomicReference<T> latest = new AtomicReference<>();
+
+        LatestEmitter(Subscriber<T> downstream) {
+            super(downstream);
+        }
+
+        @Override
+        void offer(T item) {
+            latest.set(item);
+        }
+
+        @Override
+        T poll() {
+            return latest.getAndSet(null);
+        }
+
+        @Override
+        boolean isEmpty() {
+            return latest.get() == null;
+        }
+
+        @Override
+        void clear() {
+            latest.lazySet(null);
+        }
+    }
+}
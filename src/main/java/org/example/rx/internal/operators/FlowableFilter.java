@@ -0,0 +1,93 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Flowable;
+import org.example.rx.Subscriber;
+import org.example.rx.Subscription;
+
+import java.util.function.Predicate;
+
+/**
+ * Relays only the items of the upstream Flowable that satisfy a predicate.
+ * @param <T> The type of items being filtered
+ */
+public final class FlowableFilter<T> extends Flowable<T> {
+    private final Flowable<T> source;
+    private final Predicate<T> predicate;
+
+    public FlowableFilter(Flowable<T> source, Predicate<T> predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<T> subscriber) {
+        source.subscribe(new FilterSubscriber<>(subscriber, predicate));
+    }
+
+    static final class FilterSubscriber<T> implements Subscriber<T>, Subscription {
+        private final Subscriber<T> downstream;
+        private final Predicate<T> predicate;
+        private Subscription upstream;
+        private boolean done;
+
+        FilterSubscriber(Subscriber<T> downstream, Predicate<T> predicate) {
+            this.downstream = downstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            boolean pass;
+            try {
+                pass = predicate.test(item);
+            } catch (Exception e) {
+                upstream.cancel();
+                onError(e);
+                return;
+            }
+            if (pass) {
+                downstream.onNext(item);
+            } else {
+                // The dropped item was part of the downstream demand, ask for a replacement
+                upstream.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+}
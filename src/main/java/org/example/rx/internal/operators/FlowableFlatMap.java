@@ -0,0 +1,382 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Flowable;
+import org.example.rx.MissingBackpressureException;
+import org.example.rx.Subscriber;
+import org.example.rx.Subscription;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscArrayQueue;
+import org.example.rx.internal.subscriptions.SubscriptionHelper;
+import org.example.rx.internal.util.BackpressureHelper;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Maps each upstream item to an inner Flowable and merges the inner emissions.
+ * At most {@code maxConcurrency} inner Flowables are subscribed at a time; each of them
+ * prefetches {@code prefetch} items into its own queue, which a single drain loop empties
+ * round-robin according to the downstream demand.
+ * @param <T> The upstream item type
+ * @param <R> The type of items emitted by the inner Flowables
+ */
+public final class FlowableFlatMap<T, R> extends Flowable<R> {
+    private final Flowable<T> source;
+    private final Function<T, Flowable<R>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    public FlowableFlatMap(Flowable<T> source, Function<T, Flowable<R>> mapper, int maxConcurrency, int prefetch) {
+        this.source = source;
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<R> subscriber) {
+        source.subscribe(new MergeSubscriber<>(subscriber, mapper, maxConcurrency, prefetch));
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class MergeSubscriber<T, R> extends AtomicInteger implements Subscriber<T>, Subscription {
+        private static final InnerSubscriber[] EMPTY = new InnerSubscriber[0];
+        private static final InnerSubscriber[] TERMINATED = new InnerSubscriber[0];
+
+        private final Subscriber<R> downstream;
+        private final Function<T, Flowable<R>> mapper;
+        private final int maxConcurrency;
+        private final int prefetch;
+        private final AtomicReference<InnerSubscriber[]> subscribers = new AtomicReference<>(EMPTY);
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final AtomicLong requested = new AtomicLong();
+        private Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private int lastIndex;
+
+        MergeSubscriber(Subscriber<R> downstream, Function<T, Flowable<R>> mapper, int maxConcurrency, int prefetch) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch = prefetch;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+            if (!cancelled) {
+                subscription.request(maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : maxConcurrency);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            Flowable<R> inner;
+            try {
+                inner = Objects.requireNonNull(mapper.apply(item), "The mapper returned a null Flowable");
+            } catch (Exception e) {
+                upstream.cancel();
+                onError(e);
+                return;
+            }
+            InnerSubscriber<T, R> innerSubscriber = new InnerSubscriber<>(this, prefetch);
+            if (add(innerSubscriber)) {
+                inner.subscribe(innerSubscriber);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            error.compareAndSet(null, t);
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            SubscriptionHelper.validate(n);
+            BackpressureHelper.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            upstream.cancel();
+            disposeAll();
+            if (getAndIncrement() == 0) {
+                clearQueues();
+            }
+        }
+
+        private boolean add(InnerSubscriber<T, R> inner) {
+            for (;;) {
+                InnerSubscriber[] current = subscribers.get();
+                if (current == TERMINATED) {
+                    inner.dispose();
+                    return false;
+                }
+                int n = current.length;
+                InnerSubscriber[] next = new InnerSubscriber[n + 1];
+                System.arraycopy(current, 0, next, 0, n);
+                next[n] = inner;
+                if (subscribers.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        private void remove(InnerSubscriber<T, R> inner) {
+            for (;;) {
+                InnerSubscriber[] current = subscribers.get();
+                int n = current.length;
+                int index = -1;
+                for (int i = 0; i < n; i++) {
+                    if (current[i] == inner) {
+                        index = i;
+                        break;
+                    }
+                }
+                if (index < 0) {
+                    return;
+                }
+                InnerSubscriber[] next;
+                if (n == 1) {
+                    next = EMPTY;
+                } else {
+                    next = new InnerSubscriber[n - 1];
+                    System.arraycopy(current, 0, next, 0, index);
+                    System.arraycopy(current, index + 1, next, index, n - index - 1);
+                }
+                if (subscribers.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        private void disposeAll() {
+            InnerSubscriber[] current = subscribers.getAndSet(TERMINATED);
+            if (current != TERMINATED) {
+                for (InnerSubscriber inner : current) {
+                    inner.dispose();
+                }
+            }
+        }
+
+        private void clearQueues() {
+            for (InnerSubscriber inner : subscribers.get()) {
+                inner.queue.clear();
+            }
+        }
+
+        void tryEmit(R value, InnerSubscriber<T, R> inner) {
+            if (get() == 0 && compareAndSet(0, 1)) {
+                // Fast path: nothing queued ahead of this item, hand it over directly
+                long r = requested.get();
+                if (r != 0L && inner.queue.isEmpty()) {
+                    downstream.onNext(value);
+                    if (r != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                    inner.requestMore(1);
+                } else {
+                    inner.offer(value);
+                }
+                if (decrementAndGet() == 0) {
+                    return;
+                }
+            } else {
+                inner.offer(value);
+                if (getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        void innerError(InnerSubscriber<T, R> inner, Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                inner.done = true;
+                drain();
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                if (checkTerminate()) {
+                    return;
+                }
+                long r = requested.get();
+                boolean unbounded = r == Long.MAX_VALUE;
+                long replenishMain = 0L;
+                boolean d = done;
+                InnerSubscriber[] inners = subscribers.get();
+                int n = inners.length;
+
+                if (d && n == 0) {
+                    downstream.onComplete();
+                    return;
+                }
+
+                boolean innerCompleted = false;
+                if (n != 0) {
+                    int j = Math.min(n - 1, lastIndex);
+                    for (int i = 0; i < n; i++) {
+                        if (checkTerminate()) {
+                            return;
+                        }
+                        InnerSubscriber<T, R> inner = (InnerSubscriber<T, R>) inners[j];
+                        long produced = 0L;
+                        while (r != 0L) {
+                            R value = inner.queue.poll();
+                            if (value == null) {
+                                break;
+                            }
+                            downstream.onNext(value);
+                            if (checkTerminate()) {
+                                return;
+                            }
+                            r--;
+                            produced++;
+                        }
+                        if (produced != 0L) {
+                            r = unbounded ? Long.MAX_VALUE : requested.addAndGet(-produced);
+                            inner.requestMore(produced);
+                        }
+                        if (inner.done && inner.queue.isEmpty()) {
+                            remove(inner);
+                            replenishMain++;
+                            innerCompleted = true;
+                        }
+                        if (r == 0L) {
+                            break;
+                        }
+                        if (++j == n) {
+                            j = 0;
+                        }
+                    }
+                    lastIndex = j;
+                }
+
+                if (replenishMain != 0L && !cancelled) {
+                    upstream.request(replenishMain);
+                }
+                if (innerCompleted) {
+                    continue;
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private boolean checkTerminate() {
+            if (cancelled) {
+                clearQueues();
+                return true;
+            }
+            Throwable ex = error.get();
+            if (ex != null) {
+                cancelled = true;
+                upstream.cancel();
+                disposeAll();
+                clearQueues();
+                downstream.onError(ex);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    static final class InnerSubscriber<T, R> extends AtomicReference<Subscription> implements Subscriber<R> {
+        private final MergeSubscriber<T, R> parent;
+        private final int prefetch;
+        private final int limit;
+        final SimpleQueue<R> queue;
+        volatile boolean done;
+        private long produced;
+
+        InnerSubscriber(MergeSubscriber<T, R> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = Math.max(1, prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (SubscriptionHelper.setOnce(this, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(R item) {
+            parent.tryEmit(item, this);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.innerError(this, t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        void offer(R value) {
+            if (!queue.offer(value)) {
+                dispose();
+                parent.innerError(this, new MissingBackpressureException("The inner Flowable emitted more than " + prefetch + " items without a request"));
+            }
+        }
+
+        void requestMore(long n) {
+            long p = produced + n;
+            if (p >= limit) {
+                produced = 0L;
+                get().request(p);
+            } else {
+                produced = p;
+            }
+        }
+
+        void dispose() {
+            SubscriptionHelper.cancel(this);
+        }
+    }
+}
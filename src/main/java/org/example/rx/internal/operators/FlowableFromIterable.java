@@ -0,0 +1,109 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Flowable;
+import org.example.rx.Subscriber;
+import org.example.rx.Subscription;
+import org.example.rx.internal.subscriptions.EmptySubscription;
+import org.example.rx.internal.subscriptions.SubscriptionHelper;
+import org.example.rx.internal.util.BackpressureHelper;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Emits the items of an Iterable, pulling from its Iterator only as far as requested.
+ * @param <T> The type of items being emitted
+ */
+public final class FlowableFromIterable<T> extends Flowable<T> {
+    private final Iterable<T> source;
+
+    public FlowableFromIterable(Iterable<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<T> subscriber) {
+        Iterator<T> it;
+        boolean hasNext;
+        try {
+            it = source.iterator();
+            hasNext = it.hasNext();
+        } catch (Exception e) {
+            EmptySubscription.error(e, subscriber);
+            return;
+        }
+        if (!hasNext) {
+            EmptySubscription.complete(subscriber);
+            return;
+        }
+        subscriber.onSubscribe(new IteratorSubscription<>(subscriber, it));
+    }
+
+    static final class IteratorSubscription<T> extends AtomicLong implements Subscription {
+        private final Subscriber<T> downstream;
+        private final Iterator<T> iterator;
+        private volatile boolean cancelled;
+
+        IteratorSubscription(Subscriber<T> downstream, Iterator<T> iterator) {
+            this.downstream = downstream;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public void request(long n) {
+            SubscriptionHelper.validate(n);
+            // Only the caller that moves the counter away from zero runs the emission loop
+            if (BackpressureHelper.add(this, n) == 0L) {
+                emit(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void emit(long r) {
+            long e = 0L;
+            for (;;) {
+                while (e != r) {
+                    if (cancelled) {
+                        return;
+                    }
+                    T item;
+                    boolean hasNext;
+                    try {
+                        item = Objects.requireNonNull(iterator.next(), "The iterator returned a null value");
+                        downstream.onNext(item);
+                        if (cancelled) {
+                            return;
+                        }
+                        hasNext = iterator.hasNext();
+                    } catch (Exception ex) {
+                        cancelled = true;
+                        downstream.onError(ex);
+                        return;
+                    }
+                    if (!hasNext) {
+                        if (!cancelled) {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (r != Long.MAX_VALUE) {
+                        e++;
+                    }
+                }
+                r = get();
+                if (e == r) {
+                    r = addAndGet(-e);
+                    if (r == 0L) {
+                        return;
+                    }
+                    e = 0L;
+                }
+            }
+        }
+    }
+}
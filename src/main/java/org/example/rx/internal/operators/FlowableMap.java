@@ -0,0 +1,90 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Flowable;
+import org.example.rx.Subscriber;
+import org.example.rx.Subscription;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Applies a function to each item of the upstream Flowable.
+ * @param <T> The upstream item type
+ * @param <R> The downstream item type
+ */
+public final class FlowableMap<T, R> extends Flowable<R> {
+    private final Flowable<T> source;
+    private final Function<T, R> mapper;
+
+    public FlowableMap(Flowable<T> source, Function<T, R> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<R> subscriber) {
+        source.subscribe(new MapSubscriber<>(subscriber, mapper));
+    }
+
+    static final class MapSubscriber<T, R> implements Subscriber<T>, Subscription {
+        private final Subscriber<R> downstream;
+        private final Function<T, R> mapper;
+        private Subscription upstream;
+        private boolean done;
+
+        MapSubscriber(Subscriber<R> downstream, Function<T, R> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            R result;
+            try {
+                result = Objects.requireNonNull(mapper.apply(item), "The mapper returned a null value");
+            } catch (Exception e) {
+                upstream.cancel();
+                onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Flowable;
+import org.example.rx.MissingBackpressureException;
+import org.example.rx.Scheduler;
+import org.example.rx.Subscriber;
+import org.example.rx.Subscription;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscArrayQueue;
+import org.example.rx.internal.subscriptions.SubscriptionHelper;
+import org.example.rx.internal.util.BackpressureHelper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the signals of the upstream Flowable on a Worker of a Scheduler, one Worker per subscription.
+ * At most {@code prefetch} items are outstanding at any time: the upstream is asked for
+ * more only after three quarters of the previous batch have been consumed on the Scheduler.
+ * @param <T> The type of items being emitted
+ */
+public final class FlowableObserveOn<T> extends Flowable<T> {
+    private final Flowable<T> source;
+    private final Scheduler scheduler;
+    private final int prefetch;
+
+    public FlowableObserveOn(Flowable<T> source, Scheduler scheduler, int prefetch) {
+        this.source = source;
+        this.scheduler = scheduler;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<T> subscriber) {
+        source.subscribe(new ObserveOnSubscriber<>(subscriber, scheduler.createWorker(), prefetch));
+    }
+
+    static final class ObserveOnSubscriber<T> extends AtomicInteger implements Subscriber<T>, Subscription, Runnable {
+        private final Subscriber<T> downstream;
+        private final Scheduler.Worker worker;
+        private final int prefetch;
+        private final int limit;
+        private final SimpleQueue<T> queue;
+        private final AtomicLong requested = new AtomicLong();
+        private Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private Throwable error;
+        private long produced;
+
+        ObserveOnSubscriber(Subscriber<T> downstream, Scheduler.Worker worker, int prefetch) {
+            this.downstream = downstream;
+            this.worker = worker;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(prefetch);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            if (!queue.offer(item)) {
+                upstream.cancel();
+                onError(new MissingBackpressureException("The upstream emitted more than " + prefetch + " items without a request"));
+                return;
+            }
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            error = t;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            SubscriptionHelper.validate(n);
+            BackpressureHelper.add(requested, n);
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            upstream.cancel();
+            worker.dispose();
+            if (getAndIncrement() == 0) {
+                queue.clear();
+            }
+        }
+
+        private void schedule() {
+            if (getAndIncrement() == 0) {
+                worker.schedule(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            long e = produced;
+            for (;;) {
+                long r = requested.get();
+                while (e != r) {
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+                    if (checkTerminated(d, empty)) {
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    e++;
+                    if (e == limit) {
+                        if (r != Long.MAX_VALUE) {
+                            r = requested.addAndGet(-e);
+                        }
+                        upstream.request(e);
+                        e = 0L;
+                    }
+                }
+                if (e == r && checkTerminated(done, queue.isEmpty())) {
+                    return;
+                }
+                int w = get();
+                if (missed == w) {
+                    produced = e;
+                    missed = addAndGet(-missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                } else {
+                    missed = w;
+                }
+            }
+        }
+
+        private boolean checkTerminated(boolean d, boolean empty) {
+            if (cancelled) {
+                queue.clear();
+                return true;
+            }
+            if (d) {
+                Throwable ex = error;
+                if (ex != null) {
+                    cancelled = true;
+                    queue.clear();
+                    downstream.onError(ex);
+                    worker.dispose();
+                    return true;
+                }
+                if (empty) {
+                    cancelled = true;
+                    downstream.onComplete();
+                    worker.dispose();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Flowable;
+import org.example.rx.Subscriber;
+import org.example.rx.Subscription;
+import org.example.rx.internal.subscriptions.EmptySubscription;
+import org.example.rx.internal.subscriptions.SubscriptionHelper;
+import org.example.rx.internal.util.BackpressureHelper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Emits a range of integers as they are requested.
+ */
+public final class FlowableRange extends Flowable<Integer> {
+    private final int start;
+    private final int count;
+
+    public FlowableRange(int start, int count) {
+        this.start = start;
+        this.count = count;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<Integer> subscriber) {
+        if (count == 0) {
+            EmptySubscription.complete(subscriber);
+            return;
+        }
+        subscriber.onSubscribe(new RangeSubscription(subscriber, start, (long) start + count));
+    }
+
+    static final class RangeSubscription extends AtomicLong implements Subscription {
+        private final Subscriber<Integer> downstream;
+        private final long end;
+        private long index;
+        private volatile boolean cancelled;
+
+        RangeSubscription(Subscriber<Integer> downstream, long start, long end) {
+            this.downstream = downstream;
+            this.index = start;
+            this.end = end;
+        }
+
+        @Override
+        public void request(long n) {
+            SubscriptionHelper.validate(n);
+            if (BackpressureHelper.add(this, n) == 0L) {
+                emit(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void emit(long r) {
+            long e = 0L;
+            long i = index;
+            for (;;) {
+                while (e != r && i != end) {
+                    if (cancelled) {
+                        return;
+                    }
+                    downstream.onNext((int) i);
+                    i++;
+                    if (r != Long.MAX_VALUE) {
+                        e++;
+                    }
+                }
+                if (i == end) {
+                    if (!cancelled) {
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+                r = get();
+                if (e == r) {
+                    index = i;
+                    r = addAndGet(-e);
+                    if (r == 0L) {
+                        return;
+                    }
+                    e = 0L;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Flowable;
+import org.example.rx.Scheduler;
+import org.example.rx.Subscriber;
+import org.example.rx.Subscription;
+import org.example.rx.internal.subscriptions.SubscriptionHelper;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Subscribes to the upstream Flowable on a Scheduler.
+ * Requests issued before the upstream Subscription arrives are accumulated and replayed.
+ * @param <T> The type of items being emitted
+ */
+public final class FlowableSubscribeOn<T> extends Flowable<T> {
+    private final Flowable<T> source;
+    private final Scheduler scheduler;
+
+    public FlowableSubscribeOn(Flowable<T> source, Scheduler scheduler) {
+        this.source = source;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Subscriber<T> subscriber) {
+        SubscribeOnSubscriber<T> parent = new SubscribeOnSubscriber<>(subscriber, source);
+        subscriber.onSubscribe(parent);
+        scheduler.execute(parent);
+    }
+
+    static final class SubscribeOnSubscriber<T> implements Subscriber<T>, Subscription, Runnable {
+        private final Subscriber<T> downstream;
+        private final Flowable<T> source;
+        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        private final AtomicLong requested = new AtomicLong();
+
+        SubscribeOnSubscriber(Subscriber<T> downstream, Flowable<T> source) {
+            this.downstream = downstream;
+            this.source = source;
+        }
+
+        @Override
+        public void run() {
+            if (upstream.get() != SubscriptionHelper.CANCELLED) {
+                source.subscribe(this);
+            }
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            SubscriptionHelper.deferredSetOnce(upstream, requested, subscription);
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            SubscriptionHelper.deferredRequest(upstream, requested, n);
+        }
+
+        @Override
+        public void cancel() {
+            SubscriptionHelper.cancel(upstream);
+        }
+    }
+}
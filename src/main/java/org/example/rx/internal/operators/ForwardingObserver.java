@@ -0,0 +1,72 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.DisposableHelper;
+import org.example.rx.internal.jfr.PendingEvent;
+import org.example.rx.internal.jfr.SubscriptionEvent;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Wraps a plain Observer so that the subscription can be disposed from the outside.
+ * Disposing it disposes the upstream and stops forwarding signals to the wrapped Observer.
+ * @param <T> The type of items being observed
+ */
+public final class ForwardingObserver<T> implements Observer<T>, Disposable {
+    private final Observer<T> downstream;
+    private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+    // Only set while the JFR event is enabled
+    private final PendingEvent<SubscriptionEvent> event = PendingEvent.begin(new SubscriptionEvent());
+    private long items;
+
+    public ForwardingObserver(Observer<T> downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        if (DisposableHelper.setOnce(upstream, d)) {
+            downstream.onSubscribe(this);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (!isDisposed()) {
+            if (event != null) {
+                items++;
+            }
+            downstream.onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            upstream.lazySet(DisposableHelper.DISPOSED);
+            SubscriptionEvent.end(event, downstream.getClass(), "error", items, t);
+            downstream.onError(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            upstream.lazySet(DisposableHelper.DISPOSED);
+            SubscriptionEvent.end(event, downstream.getClass(), "complete", items, null);
+            downstream.onComplete();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(upstream);
+        SubscriptionEvent.end(event, downstream.getClass(), "dispose", items, null);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return upstream.get() == DisposableHelper.DISPOSED;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.DoubleObservable;
+import org.example.rx.DoubleObserver;
+import org.example.rx.IntObservable;
+import org.example.rx.IntObserver;
+
+/**
+ * Emits the arithmetic mean of the upstream values on completion, or just completes if there were none.
+ */
+public final class IntObservableAverage extends DoubleObservable {
+    private final IntObservable source;
+
+    public IntObservableAverage(IntObservable source) {
+        this.source = source;
+    }
+
+    @Override
+    protected void subscribeActual(DoubleObserver observer) {
+        source.subscribe(new AverageObserver(observer));
+    }
+
+    static final class AverageObserver implements IntObserver, Disposable {
+        private final DoubleObserver downstream;
+        private Disposable upstream;
+        private long sum;
+        private long count;
+        private boolean done;
+
+        AverageObserver(DoubleObserver downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(int value) {
+            if (!done) {
+                sum += value;
+                count++;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (count != 0) {
+                downstream.onNext((double) sum / count);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.IntObservable;
+import org.example.rx.IntObserver;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Emits only the values of the upstream that satisfy a predicate, without boxing.
+ */
+public final class IntObservableFilter extends IntObservable {
+    private final IntObservable source;
+    private final IntPredicate predicate;
+
+    public IntObservableFilter(IntObservable source, IntPredicate predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    protected void subscribeActual(IntObserver observer) {
+        source.subscribe(new FilterObserver(observer, predicate));
+    }
+
+    static final class FilterObserver implements IntObserver, Disposable {
+        private final IntObserver downstream;
+        private final IntPredicate predicate;
+        private Disposable upstream;
+        private boolean done;
+
+        FilterObserver(IntObserver downstream, IntPredicate predicate) {
+            this.downstream = downstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(int value) {
+            if (done) {
+                return;
+            }
+            boolean pass;
+            try {
+                pass = predicate.test(value);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            if (pass) {
+                downstream.onNext(value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
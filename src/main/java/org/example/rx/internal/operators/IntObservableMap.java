@@ -0,0 +1,87 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.IntObservable;
+import org.example.rx.IntObserver;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Applies a function to each value of the upstream without boxing.
+ */
+public final class IntObservableMap extends IntObservable {
+    private final IntObservable source;
+    private final IntUnaryOperator mapper;
+
+    public IntObservableMap(IntObservable source, IntUnaryOperator mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(IntObserver observer) {
+        source.subscribe(new MapObserver(observer, mapper));
+    }
+
+    static final class MapObserver implements IntObserver, Disposable {
+        private final IntObserver downstream;
+        private final IntUnaryOperator mapper;
+        private Disposable upstream;
+        private boolean done;
+
+        MapObserver(IntObserver downstream, IntUnaryOperator mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(int value) {
+            if (done) {
+                return;
+            }
+            int result;
+            try {
+                result = mapper.applyAsInt(value);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.IntObservable;
+import org.example.rx.IntObserver;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Bridges a IntObservable back to an Observable by mapping each value to an object.
+ * @param <R> The type of items emitted
+ */
+public final class IntObservableMapToObj<R> extends Observable<R> {
+    private final IntObservable source;
+    private final IntFunction<R> mapper;
+
+    public IntObservableMapToObj(IntObservable source, IntFunction<R> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<R> observer) {
+        source.subscribe(new MapToObjObserver<>(observer, mapper));
+    }
+
+    static final class MapToObjObserver<R> implements IntObserver, Disposable {
+        private final Observer<R> downstream;
+        private final IntFunction<R> mapper;
+        private Disposable upstream;
+        private boolean done;
+
+        MapToObjObserver(Observer<R> downstream, IntFunction<R> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(int value) {
+            if (done) {
+                return;
+            }
+            R result;
+            try {
+                result = Objects.requireNonNull(mapper.apply(value), "The mapper returned a null value");
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
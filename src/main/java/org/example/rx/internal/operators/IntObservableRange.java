@@ -0,0 +1,48 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.IntObservable;
+import org.example.rx.IntObserver;
+
+/**
+ * Emits a range of integers without boxing, stopping as soon as it is disposed.
+ */
+public final class IntObservableRange extends IntObservable {
+    private final int start;
+    private final int count;
+
+    public IntObservableRange(int start, int count) {
+        this.start = start;
+        this.count = count;
+    }
+
+    @Override
+    protected void subscribeActual(IntObserver observer) {
+        RangeDisposable d = new RangeDisposable();
+        observer.onSubscribe(d);
+        long end = (long) start + count;
+        for (long i = start; i < end; i++) {
+            if (d.disposed) {
+                return;
+            }
+            observer.onNext((int) i);
+        }
+        if (!d.disposed) {
+            observer.onComplete();
+        }
+    }
+
+    static final class RangeDisposable implements Disposable {
+        volatile boolean disposed;
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.IntObservable;
+import org.example.rx.IntObserver;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Folds the values of the upstream into a single int emitted on completion.
+ * Without a seed the first value starts the fold and an empty upstream just completes.
+ */
+public final class IntObservableReduce extends IntObservable {
+    private final IntObservable source;
+    private final boolean seeded;
+    private final int seed;
+    private final IntBinaryOperator reducer;
+
+    public IntObservableReduce(IntObservable source, int seed, IntBinaryOperator reducer) {
+        this(source, true, seed, reducer);
+    }
+
+    public IntObservableReduce(IntObservable source, IntBinaryOperator reducer) {
+        this(source, false, 0, reducer);
+    }
+
+    private IntObservableReduce(IntObservable source, boolean seeded, int seed, IntBinaryOperator reducer) {
+        this.source = source;
+        this.seeded = seeded;
+        this.seed = seed;
+        this.reducer = reducer;
+    }
+
+    @Override
+    protected void subscribeActual(IntObserver observer) {
+        source.subscribe(new ReduceObserver(observer, seeded, seed, reducer));
+    }
+
+    static final class ReduceObserver implements IntObserver, Disposable {
+        private final IntObserver downstream;
+        private final IntBinaryOperator reducer;
+        private Disposable upstream;
+        private boolean hasValue;
+        private int value;
+        private boolean done;
+
+        ReduceObserver(IntObserver downstream, boolean seeded, int seed, IntBinaryOperator reducer) {
+            this.downstream = downstream;
+            this.reducer = reducer;
+            this.hasValue = seeded;
+            this.value = seed;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(int item) {
+            if (done) {
+                return;
+            }
+            if (!hasValue) {
+                hasValue = true;
+                value = item;
+                return;
+            }
+            try {
+                value = reducer.applyAsInt(value, item);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (hasValue) {
+                downstream.onNext(value);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.LongObserver;
+import org.example.rx.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * LongObserver that forwards the signals to callbacks.
+ * A failing onNext callback disposes the upstream and is routed to the onError callback.
+ */
+public final class LambdaLongObserver implements LongObserver, Disposable {
+    private final LongConsumer onNext;
+    private final Consumer<Throwable> onError;
+    private final Runnable onComplete;
+    private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+
+    public LambdaLongObserver(LongConsumer onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        this.onNext = onNext;
+        this.onError = onError;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(upstream, d);
+    }
+
+    @Override
+    public void onNext(long value) {
+        if (!isDisposed()) {
+            try {
+                onNext.accept(value);
+            } catch (Throwable e) {
+                // The upstream may be missing if it never called onSubscribe
+                if (DisposableHelper.dispose(upstream)) {
+                    onError.accept(e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            upstream.lazySet(DisposableHelper.DISPOSED);
+            onError.accept(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            upstream.lazySet(DisposableHelper.DISPOSED);
+            onComplete.run();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(upstream);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return upstream.get() == DisposableHelper.DISPOSED;
+    }
+}
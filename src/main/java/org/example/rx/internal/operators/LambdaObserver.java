@@ -0,0 +1,83 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.DisposableHelper;
+import org.example.rx.internal.jfr.PendingEvent;
+import org.example.rx.internal.jfr.SubscriptionEvent;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Observer that forwards the signals to callbacks.
+ * A failing onNext callback disposes the upstream and is routed to the onError callback.
+ * @param <T> The type of items being observed
+ */
+public final class LambdaObserver<T> implements Observer<T>, Disposable {
+    private final Consumer<T> onNext;
+    private final Consumer<Throwable> onError;
+    private final Runnable onComplete;
+    private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+    // Only set while the JFR event is enabled
+    private final PendingEvent<SubscriptionEvent> event = PendingEvent.begin(new SubscriptionEvent());
+    private long items;
+
+    public LambdaObserver(Consumer<T> onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        this.onNext = onNext;
+        this.onError = onError;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public void onSubscribe(Disposable d) {
+        DisposableHelper.setOnce(upstream, d);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (!isDisposed()) {
+            if (event != null) {
+                items++;
+            }
+            try {
+                onNext.accept(item);
+            } catch (Throwable e) {
+                // The upstream may be missing if it never called onSubscribe
+                if (DisposableHelper.dispose(upstream)) {
+                    SubscriptionEvent.end(event, onNext.getClass(), "error", items, e);
+                    onError.accept(e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!isDisposed()) {
+            upstream.lazySet(DisposableHelper.DISPOSED);
+            SubscriptionEvent.end(event, onNext.getClass(), "error", items, t);
+            onError.accept(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            upstream.lazySet(DisposableHelper.DISPOSED);
+            SubscriptionEvent.end(event, onNext.getClass(), "complete", items, null);
+            onComplete.run();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(upstream);
+        SubscriptionEvent.end(event, onNext.getClass(), "dispose", items, null);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return upstream.get() == DisposableHelper.DISPOSED;
+    }
+}
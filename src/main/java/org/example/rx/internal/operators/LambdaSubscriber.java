@@ -0,0 +1,72 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Subscriber;
+import org.example.rx.Subscription;
+import org.example.rx.internal.subscriptions.SubscriptionHelper;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Subscriber that requests all items and forwards the signals to callbacks.
+ * A failing onNext callback cancels the upstream and is routed to the onError callback.
+ * @param <T> The type of items being observed
+ */
+public final class LambdaSubscriber<T> implements Subscriber<T>, Disposable {
+    private final Consumer<T> onNext;
+    private final Consumer<Throwable> onError;
+    private final Runnable onComplete;
+    private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+
+    public LambdaSubscriber(Consumer<T> onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        this.onNext = onNext;
+        this.onError = onError;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (SubscriptionHelper.setOnce(upstream, subscription)) {
+            subscription.request(Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (!isDisposed()) {
+            try {
+                onNext.accept(item);
+            } catch (Throwable e) {
+                upstream.get().cancel();
+                onError(e);
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (upstream.get() != SubscriptionHelper.CANCELLED) {
+            upstream.lazySet(SubscriptionHelper.CANCELLED);
+            onError.accept(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (upstream.get() != SubscriptionHelper.CANCELLED) {
+            upstream.lazySet(SubscriptionHelper.CANCELLED);
+            onComplete.run();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        SubscriptionHelper.cancel(upstream);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return upstream.get() == SubscriptionHelper.CANCELLED;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.LongObservable;
+import org.example.rx.LongObserver;
+
+import java.util.function.LongPredicate;
+
+/**
+ * Emits only the values of the upstream that satisfy a predicate, without boxing.
+ */
+public final class LongObservableFilter extends LongObservable {
+    private final LongObservable source;
+    private final LongPredicate predicate;
+
+    public LongObservableFilter(LongObservable source, LongPredicate predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    protected void subscribeActual(LongObserver observer) {
+        source.subscribe(new FilterObserver(observer, predicate));
+    }
+
+    static final class FilterObserver implements LongObserver, Disposable {
+        private final LongObserver downstream;
+        private final LongPredicate predicate;
+        private Disposable upstream;
+        private boolean done;
+
+        FilterObserver(LongObserver downstream, LongPredicate predicate) {
+            this.downstream = downstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(long value) {
+            if (done) {
+                return;
+            }
+            boolean pass;
+            try {
+                pass = predicate.test(value);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            if (pass) {
+                downstream.onNext(value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
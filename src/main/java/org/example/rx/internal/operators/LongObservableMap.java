@@ -0,0 +1,87 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.LongObservable;
+import org.example.rx.LongObserver;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Applies a function to each value of the upstream without boxing.
+ */
+public final class LongObservableMap extends LongObservable {
+    private final LongObservable source;
+    private final LongUnaryOperator mapper;
+
+    public LongObservableMap(LongObservable source, LongUnaryOperator mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(LongObserver observer) {
+        source.subscribe(new MapObserver(observer, mapper));
+    }
+
+    static final class MapObserver implements LongObserver, Disposable {
+        private final LongObserver downstream;
+        private final LongUnaryOperator mapper;
+        private Disposable upstream;
+        private boolean done;
+
+        MapObserver(LongObserver downstream, LongUnaryOperator mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(long value) {
+            if (done) {
+                return;
+            }
+            long result;
+            try {
+                result = mapper.applyAsLong(value);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
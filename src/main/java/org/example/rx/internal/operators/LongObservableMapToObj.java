@@ -0,0 +1,91 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.LongObservable;
+import org.example.rx.LongObserver;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * Bridges a LongObservable back to an Observable by mapping each value to an object.
+ * @param <R> The type of items emitted
+ */
+public final class LongObservableMapToObj<R> extends Observable<R> {
+    private final LongObservable source;
+    private final LongFunction<R> mapper;
+
+    public LongObservableMapToObj(LongObservable source, LongFunction<R> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<R> observer) {
+        source.subscribe(new MapToObjObserver<>(observer, mapper));
+    }
+
+    static final class MapToObjObserver<R> implements LongObserver, Disposable {
+        private final Observer<R> downstream;
+        private final LongFunction<R> mapper;
+        private Disposable upstream;
+        private boolean done;
+
+        MapToObjObserver(Observer<R> downstream, LongFunction<R> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(long value) {
+            if (done) {
+                return;
+            }
+            R result;
+            try {
+                result = Objects.requireNonNull(mapper.apply(value), "The mapper returned a null value");
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
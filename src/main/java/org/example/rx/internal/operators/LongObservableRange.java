@@ -0,0 +1,47 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.LongObservable;
+import org.example.rx.LongObserver;
+
+/**
+ * Emits a range of longs without boxing, stopping as soon as it is disposed.
+ */
+public final class LongObservableRange extends LongObservable {
+    private final long start;
+    private final long count;
+
+    public LongObservableRange(long start, long count) {
+        this.start = start;
+        this.count = count;
+    }
+
+    @Override
+    protected void subscribeActual(LongObserver observer) {
+        RangeDisposable d = new RangeDisposable();
+        observer.onSubscribe(d);
+        for (long i = 0; i < count; i++) {
+            if (d.disposed) {
+                return;
+            }
+            observer.onNext(start + i);
+        }
+        if (!d.disposed) {
+            observer.onComplete();
+        }
+    }
+
+    static final class RangeDisposable implements Disposable {
+        volatile boolean disposed;
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
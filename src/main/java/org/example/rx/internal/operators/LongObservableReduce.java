@@ -0,0 +1,109 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.LongObservable;
+import org.example.rx.LongObserver;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Folds the values of the upstream into a single long emitted on completion.
+ * Without a seed the first value starts the fold and an empty upstream just completes.
+ */
+public final class LongObservableReduce extends LongObservable {
+    private final LongObservable source;
+    private final boolean seeded;
+    private final long seed;
+    private final LongBinaryOperator reducer;
+
+    public LongObservableReduce(LongObservable source, long seed, LongBinaryOperator reducer) {
+        this(source, true, seed, reducer);
+    }
+
+    public LongObservableReduce(LongObservable source, LongBinaryOperator reducer) {
+        this(source, false, 0, reducer);
+    }
+
+    private LongObservableReduce(LongObservable source, boolean seeded, long seed, LongBinaryOperator reducer) {
+        this.source = source;
+        this.seeded = seeded;
+        this.seed = seed;
+        this.reducer = reducer;
+    }
+
+    @Override
+    protected void subscribeActual(LongObserver observer) {
+        source.subscribe(new ReduceObserver(observer, seeded, seed, reducer));
+    }
+
+    static final class ReduceObserver implements LongObserver, Disposable {
+        private final LongObserver downstream;
+        private final LongBinaryOperator reducer;
+        private Disposable upstream;
+        private boolean hasValue;
+        private long value;
+        private boolean done;
+
+        ReduceObserver(LongObserver downstream, boolean seeded, long seed, LongBinaryOperator reducer) {
+            this.downstream = downstream;
+            this.reducer = reducer;
+            this.hasValue = seeded;
+            this.value = seed;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(long item) {
+            if (done) {
+                return;
+            }
+            if (!hasValue) {
+                hasValue = true;
+                value = item;
+                return;
+            }
+            try {
+                value = reducer.applyAsLong(value, item);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (hasValue) {
+                downstream.onNext(value);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the items of the upstream into lists of a fixed size, each allocated with its final
+ * capacity up to {@value #MAX_CAPACITY} items so filling a typical list never copies, while a huge
+ * count doesn't allocate its whole array up front. The last list may be shorter and is emitted on completion.
+ * @param <T> The type of items being collected
+ */
+public final class ObservableBuffer<T> extends Observable<List<T>> {
+    static final int MAX_CAPACITY = 1024;
+
+    private final Observable<T> source;
+    private final int count;
+
+    public ObservableBuffer(Observable<T> source, int count) {
+        this.source = source;
+        this.count = count;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<List<T>> observer) {
+        source.subscribe(new BufferObserver<>(observer, count));
+    }
+
+    static final class BufferObserver<T> implements Observer<T>, Disposable {
+        private final Observer<List<T>> downstream;
+        private final int count;
+        private Disposable upstream;
+        private List<T> buffer;
+
+        BufferObserver(Observer<List<T>> downstream, int count) {
+            this.downstream = downstream;
+            this.count = count;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            List<T> b = buffer;
+            if (b == null) {
+                b = new ArrayList<>(Math.min(count, MAX_CAPACITY));
+                buffer = b;
+            }
+            b.add(item);
+            if (b.size() == count) {
+                buffer = null;
+                downstream.onNext(b);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            buffer = null;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            List<T> b = buffer;
+            if (b != null) {
+                buffer = null;
+                downstream.onNext(b);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.Scheduler;
+import org.example.rx.internal.disposables.SequentialDisposable;
+import org.example.rx.internal.queue.MpscLinkedQueue;
+import org.example.rx.internal.queue.SimpleQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the items of the upstream into lists emitted every timespan, or as soon as a list
+ * reaches the maximum size, which also restarts the timespan so no list waits longer than that.
+ * Empty lists are not emitted. A new list is allocated with the size of the previous one, up to
+ * {@link ObservableBuffer#MAX_CAPACITY} items, so under steady load filling it rarely copies.
+ * <p>
+ * The upstream and the timer of the Worker both close lists, so closed lists go through a queue
+ * drained by one thread at a time; the open list is guarded by a lock held only to add, or to swap
+ * and enqueue, so lists are queued in the order they were closed and none is queued after the last.
+ * @param <T> The type of items being collected
+ */
+public final class ObservableBufferTimed<T> extends Observable<List<T>> {
+    private static final int MIN_CAPACITY = 16;
+
+    private final Observable<T> source;
+    private final long timespan;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+    private final int maxSize;
+
+    public ObservableBufferTimed(Observable<T> source, long timespan, TimeUnit unit, Scheduler scheduler, int maxSize) {
+        this.source = source;
+        this.timespan = timespan;
+        this.unit = unit;
+        this.scheduler = scheduler;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<List<T>> observer) {
+        source.subscribe(new BufferTimedObserver<>(observer, timespan, unit, scheduler.createWorker(), maxSize));
+    }
+
+    static final class BufferTimedObserver<T> extends AtomicInteger implements Observer<T>, Disposable {
+        private final Observer<List<T>> downstream;
+        private final long timespan;
+        private final TimeUnit unit;
+        private final Scheduler.Worker worker;
+        private final int maxSize;
+        private final SimpleQueue<List<T>> queue = new MpscLinkedQueue<>();
+        private final SequentialDisposable timer = new SequentialDisposable();
+        private Disposable upstream;
+        // Guarded by this
+        private List<T> buffer;
+        private long generation;
+        private volatile boolean done;
+        private volatile boolean disposed;
+        private Throwable error;
+
+        BufferTimedObserver(Observer<List<T>> downstream, long timespan, TimeUnit unit, Scheduler.Worker worker, int maxSize) {
+            this.downstream = downstream;
+            this.timespan = timespan;
+            this.unit = unit;
+            this.worker = worker;
+            this.maxSize = maxSize;
+            this.buffer = new ArrayList<>(Math.min(maxSize, MIN_CAPACITY));
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+            startTimer(0L);
+        }
+
+        // Cancels the previous timer; a tick of it that already started is ignored
+        private void startTimer(long gen) {
+            timer.update(worker.schedulePeriodically(() -> tick(gen), timespan, timespan, unit));
+        }
+
+        private void tick(long gen) {
+            synchronized (this) {
+                List<T> b = buffer;
+                if (gen != generation || b == null || b.isEmpty()) {
+                    return;
+                }
+                buffer = new ArrayList<>(capacity(b.size()));
+                queue.offer(b);
+            }
+            drain();
+        }
+
+        private int capacity(int previous) {
+            return Math.min(Math.min(maxSize, ObservableBuffer.MAX_CAPACITY), Math.max(previous, MIN_CAPACITY));
+        }
+
+        @Override
+        public void onNext(T item) {
+            long gen;
+            synchronized (this) {
+                List<T> b = buffer;
+                if (b == null) {
+                    return;
+                }
+                b.add(item);
+                if (b.size() < maxSize) {
+                    return;
+                }
+                buffer = new ArrayList<>(capacity(maxSize));
+                gen = ++generation;
+                queue.offer(b);
+            }
+            startTimer(gen);
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this) {
+                if (buffer == null) {
+                    return;
+                }
+                buffer = null;
+            }
+            error = t;
+            done = true;
+            timer.dispose();
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                List<T> b = buffer;
+                if (b == null) {
+                    return;
+                }
+                buffer = null;
+                if (!b.isEmpty()) {
+                    queue.offer(b);
+                }
+            }
+            timer.dispose();
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) {
+                        queue.clear();
+                        return;
+                    }
+                    boolean d = done;
+                    List<T> b = queue.poll();
+                    boolean empty = b == null;
+                    if (d && empty) {
+                        disposed = true;
+                        worker.dispose();
+                        Throwable ex = error;
+                        if (ex != null) {
+                            downstream.onError(ex);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    downstream.onNext(b);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                upstream.dispose();
+                worker.dispose();
+                synchronized (this) {
+                    buffer = null;
+                }
+                if (getAndIncrement() == 0) {
+                    queue.clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
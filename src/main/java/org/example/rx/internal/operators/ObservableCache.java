@@ -0,0 +1,320 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Subscribes to the upstream once, on the first Observer, and replays the items it received
+ * to every Observer, before and after the upstream terminates. The upstream keeps running
+ * when Observers leave.
+ * <p>
+ * Items are appended to a linked list of fixed-size segments by the upstream alone and published
+ * by a volatile size, so each Observer reads them with its own cursor and never copies or locks.
+ * A bounded buffer only moves its head forward: segments behind it are collected once no lagging
+ * Observer still reads them, and a new Observer starts at the first item it is allowed to see.
+ * @param <T> The type of items being replayed
+ */
+public final class ObservableCache<T> extends Observable<T> {
+    private final Observable<T> source;
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private final CacheObserver<T> state;
+
+    /**
+     * Creates the operator.
+     * @param source The upstream
+     * @param segmentSize The number of items per segment
+     * @param maxSize The number of most recent items replayed, Long.MAX_VALUE for all of them
+     * @param maxAgeNanos The age of the oldest item replayed, Long.MAX_VALUE for any age
+     */
+    public ObservableCache(Observable<T> source, int segmentSize, long maxSize, long maxAgeNanos) {
+        this.source = source;
+        this.state = new CacheObserver<>(segmentSize, maxSize, maxAgeNanos);
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        CacheDisposable<T> d = new CacheDisposable<>(observer, state);
+        observer.onSubscribe(d);
+        // Positioned before joining, so items arriving in between are not missed
+        state.start(d);
+        state.add(d);
+        if (!connected.get() && connected.compareAndSet(false, true)) {
+            source.subscribe(state);
+        } else {
+            d.drain();
+        }
+    }
+
+    static final class Segment {
+        // Absolute index of the first item
+        final long start;
+        final Object[] items;
+        final long[] times;
+        // Written before the size that publishes its first item
+        Segment next;
+
+        Segment(long start, int size, boolean timed) {
+            this.start = start;
+            this.items = new Object[size];
+            this.times = timed ? new long[size] : null;
+        }
+    }
+
+    static final class CacheObserver<T> implements Observer<T> {
+        @SuppressWarnings("rawtypes")
+        static final CacheDisposable[] EMPTY = new CacheDisposable[0];
+        @SuppressWarnings("rawtypes")
+        static final CacheDisposable[] TERMINATED = new CacheDisposable[0];
+
+        final int segmentSize;
+        private final long maxSize;
+        private final long maxAgeNanos;
+        private final boolean timed;
+        private final AtomicReference<CacheDisposable<T>[]> observers;
+        // Written by the upstream only
+        private Segment tail;
+        private int tailOffset;
+        private volatile Segment head;
+        volatile long size;
+        volatile boolean done;
+        Throwable error;
+
+        @SuppressWarnings("unchecked")
+        CacheObserver(int segmentSize, long maxSize, long maxAgeNanos) {
+            this.segmentSize = segmentSize;
+            this.maxSize = maxSize;
+            this.maxAgeNanos = maxAgeNanos;
+            this.timed = maxAgeNanos != Long.MAX_VALUE;
+            this.observers = new AtomicReference<>(EMPTY);
+            Segment s = new Segment(0L, segmentSize, timed);
+            this.tail = s;
+            this.head = s;
+        }
+
+        void start(CacheDisposable<T> d) {
+            Segment n = head;
+            long s = size;
+            long index = Math.max(n.start, s - maxSize);
+            while (index - n.start >= segmentSize && n.next != null) {
+                n = n.next;
+            }
+            if (timed) {
+                long oldest = System.nanoTime() - maxAgeNanos;
+                while (index != s) {
+                    int offset = (int) (index - n.start);
+                    if (offset == segmentSize) {
+                        n = n.next;
+                        offset = 0;
+                    }
+                    if (n.times[offset] - oldest >= 0L) {
+                        break;
+                    }
+                    index++;
+                }
+            }
+            d.node = n;
+            d.index = index;
+        }
+
+        void add(CacheDisposable<T> d) {
+            for (;;) {
+                CacheDisposable<T>[] a = observers.get();
+                if (a == TERMINATED) {
+                    return;
+                }
+                int n = a.length;
+                @SuppressWarnings("unchecked")
+                CacheDisposable<T>[] b = new CacheDisposable[n + 1];
+                System.arraycopy(a, 0, b, 0, n);
+                b[n] = d;
+                if (observers.compareAndSet(a, b)) {
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void remove(CacheDisposable<T> d) {
+            for (;;) {
+                CacheDisposable<T>[] a = observers.get();
+                int n = a.length;
+                int j = -1;
+                for (int i = 0; i < n; i++) {
+                    if (a[i] == d) {
+                        j = i;
+                        break;
+                    }
+                }
+                if (j < 0) {
+                    return;
+                }
+                CacheDisposable<T>[] b;
+                if (n == 1) {
+                    b = EMPTY;
+                } else {
+                    b = new CacheDisposable[n - 1];
+                    System.arraycopy(a, 0, b, 0, j);
+                    System.arraycopy(a, j + 1, b, j, n - j - 1);
+                }
+                if (observers.compareAndSet(a, b)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            // The upstream runs to completion whether or not anyone is still observing
+        }
+
+        @Override
+        public void onNext(T item) {
+            Segment t = tail;
+            int offset = tailOffset;
+            if (offset == segmentSize) {
+                Segment n = new Segment(t.start + segmentSize, segmentSize, timed);
+                t.next = n;
+                tail = n;
+                t = n;
+                offset = 0;
+            }
+            long now = 0L;
+            if (timed) {
+                now = System.nanoTime();
+                t.times[offset] = now;
+            }
+            t.items[offset] = item;
+            tailOffset = offset + 1;
+            long s = size + 1;
+            size = s;
+            trim(s, now);
+            for (CacheDisposable<T> d : observers.get()) {
+                d.drain();
+            }
+        }
+
+        private void trim(long s, long now) {
+            Segment h = head;
+            Segment n = h;
+            long first = s - maxSize;
+            while (n != tail && n.start + segmentSize <= first) {
+                n = n.next;
+            }
+            if (timed) {
+                long oldest = now - maxAgeNanos;
+                while (n != tail && n.times[segmentSize - 1] - oldest < 0L) {
+                    n = n.next;
+                }
+            }
+            if (n != h) {
+                head = n;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            done = true;
+            terminate();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            terminate();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void terminate() {
+            for (CacheDisposable<T> d : observers.getAndSet(TERMINATED)) {
+                d.drain();
+            }
+        }
+    }
+
+    static final class CacheDisposable<T> extends AtomicInteger implements Disposable {
+        private final Observer<T> downstream;
+        private final CacheObserver<T> parent;
+        // Cursor, touched by the draining thread only
+        Segment node;
+        long index;
+        private volatile boolean disposed;
+
+        CacheDisposable(Observer<T> downstream, CacheObserver<T> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+        }
+
+        @SuppressWarnings("unchecked")
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            int segmentSize = parent.segmentSize;
+            Segment n = node;
+            long index = this.index;
+            for (;;) {
+                // Read done first: once it is set the size is final
+                boolean d = parent.done;
+                long s = parent.size;
+                while (index != s) {
+                    if (disposed) {
+                        node = null;
+                        return;
+                    }
+                    int offset = (int) (index - n.start);
+                    if (offset == segmentSize) {
+                        n = n.next;
+                        offset = 0;
+                    }
+                    downstream.onNext((T) n.items[offset]);
+                    index++;
+                }
+                if (disposed) {
+                    node = null;
+                    return;
+                }
+                if (d) {
+                    disposed = true;
+                    node = null;
+                    Throwable ex = parent.error;
+                    if (ex != null) {
+                        downstream.onError(ex);
+                    } else {
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+                node = n;
+                this.index = index;
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                parent.remove(this);
+                if (getAndIncrement() == 0) {
+                    // Let the segments this Observer was still reading be collected
+                    node = null;
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
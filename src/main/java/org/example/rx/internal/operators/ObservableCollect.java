@@ -0,0 +1,105 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.EmptyDisposable;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Adds the items of the upstream to a container created per subscription, emitted on completion.
+ * The container is a plain field, only touched by the thread delivering the items.
+ * @param <T> The upstream item type
+ * @param <C> The type of the container
+ */
+public final class ObservableCollect<T, C> extends Observable<C> {
+    private final Observable<T> source;
+    private final Supplier<C> containerSupplier;
+    private final BiConsumer<C, T> collector;
+
+    public ObservableCollect(Observable<T> source, Supplier<C> containerSupplier, BiConsumer<C, T> collector) {
+        this.source = source;
+        this.containerSupplier = containerSupplier;
+        this.collector = collector;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<C> observer) {
+        C container;
+        try {
+            container = Objects.requireNonNull(containerSupplier.get(), "The containerSupplier returned a null container");
+        } catch (Exception e) {
+            EmptyDisposable.error(e, observer);
+            return;
+        }
+        source.subscribe(new CollectObserver<>(observer, container, collector));
+    }
+
+    static final class CollectObserver<T, C> implements Observer<T>, Disposable {
+        private final Observer<C> downstream;
+        private final BiConsumer<C, T> collector;
+        private Disposable upstream;
+        private C container;
+        private boolean done;
+
+        CollectObserver(Observer<C> downstream, C container, BiConsumer<C, T> collector) {
+            this.downstream = downstream;
+            this.container = container;
+            this.collector = collector;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            try {
+                collector.accept(container, item);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            container = null;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            C c = container;
+            container = null;
+            downstream.onNext(c);
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+
+/**
+ * Counts the items of the upstream in a plain long and emits the count on completion.
+ * @param <T> The type of items being counted
+ */
+public final class ObservableCount<T> extends Observable<Long> {
+    private final Observable<T> source;
+
+    public ObservableCount(Observable<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<Long> observer) {
+        source.subscribe(new CountObserver<>(observer));
+    }
+
+    static final class CountObserver<T> implements Observer<T>, Disposable {
+        private final Observer<Long> downstream;
+        private Disposable upstream;
+        private long count;
+
+        CountObserver(Observer<Long> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            count++;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onNext(count);
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Cancellable;
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.ObservableEmitter;
+import org.example.rx.ObservableOnSubscribe;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.CancellableDisposable;
+import org.example.rx.internal.disposables.DisposableHelper;
+import org.example.rx.internal.metrics.OperatorMetrics;
+import org.example.rx.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs an {@link ObservableOnSubscribe} source for each Observer.
+ * The emitter doubles as the Disposable handed downstream, so disposal is visible to the
+ * source via {@link ObservableEmitter#isDisposed()} and runs its registered Cancellable.
+ * @param <T> The type of items being emitted
+ */
+public final class ObservableCreate<T> extends Observable<T> {
+    private final ObservableOnSubscribe<T> source;
+
+    public ObservableCreate(ObservableOnSubscribe<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        CreateEmitter<T> emitter = new CreateEmitter<>(observer);
+        observer.onSubscribe(emitter);
+        try {
+            source.subscribe(emitter);
+        } catch (Exception e) {
+            emitter.onError(e);
+        }
+    }
+
+    static final class CreateEmitter<T> extends AtomicReference<Disposable> implements ObservableEmitter<T>, Disposable {
+        private final Observer<T> downstream;
+        private final OperatorMetrics metrics;
+        private final LatencyHistogram latency;
+
+        CreateEmitter(Observer<T> downstream) {
+            this.downstream = downstream;
+            this.metrics = OperatorMetrics.of("create");
+            this.latency = metrics != null ? metrics.histogram("latency") : null;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (item == null) {
+                onError(new NullPointerException("onNext called with a null value."));
+                return;
+            }
+            if (!isDisposed()) {
+                if (metrics != null) {
+                    metrics.items.increment();
+                    long start = System.nanoTime();
+                    downstream.onNext(item);
+                    latency.record(System.nanoTime() - start);
+                } else {
+                    downstream.onNext(item);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (t == null) {
+                t = new NullPointerException("onError called with a null Throwable.");
+            }
+            if (!isDisposed()) {
+                if (metrics != null) {
+                    metrics.errors.increment();
+                }
+                try {
+                    downstream.onError(t);
+                } finally {
+                    dispose();
+                }
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!isDisposed()) {
+                try {
+                    downstream.onComplete();
+                } finally {
+                    dispose();
+                }
+            }
+        }
+
+        @Override
+        public void setDisposable(Disposable disposable) {
+            DisposableHelper.set(this, disposable);
+        }
+
+        @Override
+        public void setCancellable(Cancellable cancellable) {
+            setDisposable(cancellable == null ? null : new CancellableDisposable(cancellable));
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.EmptyDisposable;
+
+/**
+ * Completes immediately without emitting any item. Stateless, so a single instance is shared.
+ */
+public final class ObservableEmpty extends Observable<Object> {
+    public static final ObservableEmpty INSTANCE = new ObservableEmpty();
+
+    private ObservableEmpty() {
+    }
+
+    @Override
+    protected void subscribeActual(Observer<Object> observer) {
+        EmptyDisposable.complete(observer);
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.EmptyDisposable;
+import org.example.rx.io.ByteSlice;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Emits the lines of a file as slices of memory mappings, without copying or decoding them.
+ * The file is mapped in chunks of at most {@code chunkSize} bytes, so it may be larger than
+ * a single mapping can hold; a chunk starts at the beginning of the line that didn't fit into
+ * the previous one. Lines end at {@code \n}, a preceding {@code \r} is dropped.
+ * <p>
+ * The file can be read in {@code splits} parts: part i covers the lines that start within the
+ * i-th equal share of the bytes, so the parts don't overlap and need no coordination.
+ */
+public final class ObservableFileLines extends Observable<ByteSlice> {
+    /** Largest mapping used by default, 256 MB. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 28;
+
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private final Path path;
+    private final int split;
+    private final int splits;
+    private final int chunkSize;
+
+    /**
+     * Creates a source for one part of a file.
+     * @param path The file to read
+     * @param split The index of the part, from 0 to splits - 1
+     * @param splits The number of parts the file is read in
+     * @param chunkSize The largest number of bytes mapped at a time, grown for longer lines
+     */
+    public ObservableFileLines(Path path, int split, int splits, int chunkSize) {
+        this.path = path;
+        this.split = split;
+        this.splits = splits;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<ByteSlice> observer) {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            EmptyDisposable.error(e, observer);
+            return;
+        }
+        LinesDisposable d = new LinesDisposable();
+        observer.onSubscribe(d);
+        // Mappings stay valid after the channel is closed
+        try (channel) {
+            if (emit(channel, observer, d)) {
+                observer.onComplete();
+            }
+        } catch (Exception e) {
+            // Disposing a subscribeOn task interrupts it, which closes the channel
+            if (!d.disposed) {
+                d.disposed = true;
+                observer.onError(e);
+            }
+        }
+    }
+
+    // Returns false if disposed before the end of the part
+    private boolean emit(FileChannel channel, Observer<ByteSlice> observer, LinesDisposable d) throws IOException {
+        long size = channel.size();
+        long start = offset(size, split);
+        long end = offset(size, split + 1);
+        // A part that doesn't start at a line boundary skips the line it starts in
+        boolean skipping = start > 0;
+        long position = skipping ? start - 1 : 0L;
+        long mapSize = chunkSize;
+        while (position < size && (skipping || position < end)) {
+            int length = (int) Math.min(mapSize, size - position);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            boolean last = position + length == size;
+            int lineStart = 0;
+            for (;;) {
+                if (d.disposed) {
+                    return false;
+                }
+                int lineEnd = indexOfNewline(buffer, lineStart, length);
+                if (lineEnd < 0) {
+                    break;
+                }
+                if (skipping) {
+                    skipping = false;
+                } else if (position + lineStart >= end) {
+                    return true;
+                } else {
+                    observer.onNext(line(buffer, lineStart, lineEnd));
+                }
+                lineStart = lineEnd + 1;
+            }
+            if (last) {
+                if (lineStart < length && !skipping && position + lineStart < end) {
+                    observer.onNext(line(buffer, lineStart, length));
+                }
+                break;
+            }
+            if (lineStart == 0) {
+                // Not a single line end in the whole mapping, retry with a larger one
+                if (mapSize == Integer.MAX_VALUE) {
+                    throw new IOException("Line longer than " + Integer.MAX_VALUE + " bytes at offset " + position);
+                }
+                mapSize = Math.min(mapSize * 2, Integer.MAX_VALUE);
+            } else {
+                position += lineStart;
+                mapSize = chunkSize;
+            }
+        }
+        return !d.disposed;
+    }
+
+    // Start of the given part, computed without overflowing for large files
+    private long offset(long size, int part) {
+        return size / splits * part + size % splits * part / splits;
+    }
+
+    private static ByteSlice line(ByteBuffer buffer, int from, int to) {
+        if (to > from && buffer.get(to - 1) == '\r') {
+            to--;
+        }
+        return ByteSlice.of(buffer, from, to - from);
+    }
+
+    // Checks eight bytes at a time: a byte equal to \n turns into a zero byte after the XOR,
+    // and the classic has-zero-byte expression flags the first such byte with its high bit
+    private static int indexOfNewline(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long word = buffer.getLong(i) ^ NEWLINES;
+            long found = (word - ONES) & ~word & HIGH_BITS;
+            if (found != 0L) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static final class LinesDisposable implements Disposable {
+        volatile boolean disposed;
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.DisposableHelper;
+import org.example.rx.internal.jfr.FlatMapEvent;
+import org.example.rx.internal.jfr.PendingEvent;
+import org.example.rx.internal.metrics.OperatorMetrics;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Maps each upstream item to an inner Observable and merges the inner emissions.
+ * At most {@code maxConcurrency} inner Observables are subscribed at a time, the rest wait
+ * in a queue until an active one completes. Items are emitted directly when no other
+ * emission is in progress, otherwise they are queued per inner and a single drain loop
+ * delivers them, so the downstream is never called concurrently. The downstream completes
+ * only after the upstream and every inner Observable have completed.
+ * @param <T> The upstream item type
+ * @param <R> The type of items emitted by the inner Observables
+ */
+public final class ObservableFlatMap<T, R> extends Observable<R> {
+    private final Observable<T> source;
+    private final Function<T, Observable<R>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+
+    public ObservableFlatMap(Observable<T> source, Function<T, Observable<R>> mapper, int maxConcurrency, int prefetch) {
+        this.source = source;
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<R> observer) {
+        source.subscribe(new MergeObserver<>(observer, mapper, maxConcurrency, prefetch, OperatorMetrics.of("flatMap")));
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class MergeObserver<T, R> extends AtomicInteger implements Observer<T>, Disposable {
+        private static final InnerObserver[] EMPTY = new InnerObserver[0];
+        private static final InnerObserver[] TERMINATED = new InnerObserver[0];
+
+        private final Observer<R> downstream;
+        private final Function<T, Observable<R>> mapper;
+        private final int maxConcurrency;
+        private final int prefetch;
+        private final OperatorMetrics metrics;
+        // Only set while the JFR event is enabled
+        private final PendingEvent<FlatMapEvent> event;
+        private final AtomicLong inners;
+        private final AtomicInteger peakActive;
+        private final AtomicReference<InnerObserver[]> observers = new AtomicReference<>(EMPTY);
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        // Inner Observables waiting for a free slot and the number of active inners, guarded by this
+        private final Queue<Observable<R>> sources;
+        private int active;
+        private Disposable upstream;
+        private volatile boolean done;
+        private volatile boolean disposed;
+
+        MergeObserver(Observer<R> downstream, Function<T, Observable<R>> mapper, int maxConcurrency, int prefetch,
+                      OperatorMetrics metrics) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch = prefetch;
+            this.metrics = metrics;
+            this.sources = maxConcurrency != Integer.MAX_VALUE ? new ArrayDeque<>() : null;
+            this.event = PendingEvent.begin(new FlatMapEvent());
+            this.inners = event != null ? new AtomicLong() : null;
+            this.peakActive = event != null ? new AtomicInteger() : null;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            Observable<R> inner;
+            try {
+                inner = Objects.requireNonNull(mapper.apply(item), "The mapper returned a null Observable");
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            if (sources != null) {
+                synchronized (this) {
+                    if (active == maxConcurrency) {
+                        sources.offer(inner);
+                        return;
+                    }
+                    active++;
+                }
+            }
+            subscribeInner(inner);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            error.compareAndSet(null, t);
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                upstream.dispose();
+                disposeAll();
+                if (getAndIncrement() == 0) {
+                    clear();
+                }
+                endEvent("dispose");
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        private void subscribeInner(Observable<R> inner) {
+            InnerObserver<T, R> observer = new InnerObserver<>(this, prefetch);
+            if (add(observer)) {
+                inner.subscribe(observer);
+            }
+        }
+
+        private boolean add(InnerObserver<T, R> inner) {
+            for (;;) {
+                InnerObserver[] current = observers.get();
+                if (current == TERMINATED) {
+                    inner.dispose();
+                    return false;
+                }
+                int n = current.length;
+                InnerObserver[] next = new InnerObserver[n + 1];
+                System.arraycopy(current, 0, next, 0, n);
+                next[n] = inner;
+                if (observers.compareAndSet(current, next)) {
+                    if (event != null) {
+                        inners.incrementAndGet();
+                        peakActive.accumulateAndGet(n + 1, Math::max);
+                    }
+                    return true;
+                }
+            }
+        }
+
+        private void remove(InnerObserver<T, R> inner) {
+            for (;;) {
+                InnerObserver[] current = observers.get();
+                int n = current.length;
+                int index = -1;
+                for (int i = 0; i < n; i++) {
+                    if (current[i] == inner) {
+                        index = i;
+                        break;
+                    }
+                }
+                if (index < 0) {
+                    return;
+                }
+                InnerObserver[] next;
+                if (n == 1) {
+                    next = EMPTY;
+                } else {
+                    next = new InnerObserver[n - 1];
+                    System.arraycopy(current, 0, next, 0, index);
+                    System.arraycopy(current, index + 1, next, index, n - index - 1);
+                }
+                if (observers.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        private void disposeAll() {
+            InnerObserver[] current = observers.getAndSet(TERMINATED);
+            if (current != TERMINATED) {
+                for (InnerObserver inner : current) {
+                    inner.dispose();
+                }
+            }
+        }
+
+        private void clear() {
+            for (InnerObserver inner : observers.get()) {
+                inner.clear();
+            }
+            if (sources != null) {
+                synchronized (this) {
+                    sources.clear();
+                }
+            }
+        }
+
+        void tryEmit(R value, InnerObserver<T, R> inner) {
+            if (get() == 0 && compareAndSet(0, 1)) {
+                // Fast path: no emission in progress, hand the item over directly
+                emit(value);
+                if (decrementAndGet() == 0) {
+                    return;
+                }
+            } else {
+                inner.offer(value);
+                if (getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        private void emit(R value) {
+            if (metrics != null) {
+                metrics.items.increment();
+            }
+            downstream.onNext(value);
+        }
+
+        void innerError(Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                drain();
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drainLoop() {
+            int missed = 1;
+            for (;;) {
+                if (checkTerminate()) {
+                    return;
+                }
+                boolean d = done;
+                InnerObserver[] inners = observers.get();
+                int n = inners.length;
+                int pending = 0;
+                if (sources != null) {
+                    synchronized (this) {
+                        pending = sources.size();
+                    }
+                }
+                if (d && n == 0 && pending == 0) {
+                    disposed = true;
+                    endEvent("complete");
+                    downstream.onComplete();
+                    return;
+                }
+
+                int innerCompleted = 0;
+                for (InnerObserver raw : inners) {
+                    InnerObserver<T, R> inner = (InnerObserver<T, R>) raw;
+                    SimpleQueue<R> queue = inner.queue;
+                    if (queue != null) {
+                        for (;;) {
+                            if (checkTerminate()) {
+                                return;
+                            }
+                            R value = queue.poll();
+                            if (value == null) {
+                                break;
+                            }
+                            emit(value);
+                        }
+                    }
+                    // Read done before the queue: an inner may create its queue, offer and complete in between
+                    boolean innerDone = inner.done;
+                    queue = inner.queue;
+                    if (innerDone && (queue == null || queue.isEmpty())) {
+                        remove(inner);
+                        innerCompleted++;
+                    }
+                }
+
+                if (innerCompleted != 0) {
+                    if (sources != null) {
+                        while (innerCompleted-- != 0) {
+                            Observable<R> next;
+                            synchronized (this) {
+                                next = sources.poll();
+                                if (next == null) {
+                                    active--;
+                                    continue;
+                                }
+                            }
+                            subscribeInner(next);
+                        }
+                    }
+                    continue;
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void endEvent(String outcome) {
+            FlatMapEvent e = event != null ? event.take() : null;
+            if (e != null && e.shouldCommit()) {
+                e.outcome = outcome;
+                e.inners = inners.get();
+                e.peakActive = peakActive.get();
+                e.maxConcurrency = maxConcurrency;
+                e.commit();
+            }
+        }
+
+        private boolean checkTerminate() {
+            if (disposed) {
+                clear();
+                return true;
+            }
+            Throwable ex = error.get();
+            if (ex != null) {
+                disposed = true;
+                upstream.dispose();
+                disposeAll();
+                clear();
+                if (metrics != null) {
+                    metrics.errors.increment();
+                }
+                endEvent("error");
+                downstream.onError(ex);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    static final class InnerObserver<T, R> extends AtomicReference<Disposable> implements Observer<R>, Disposable {
+        private final MergeObserver<T, R> parent;
+        private final int prefetch;
+        // Only needed while another inner is emitting, so created on first use
+        volatile SimpleQueue<R> queue;
+        volatile boolean done;
+
+        InnerObserver(MergeObserver<T, R> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+        }
+
+        void offer(R value) {
+            SimpleQueue<R> q = queue;
+            if (q == null) {
+                q = new SpscLinkedArrayQueue<>(prefetch);
+                queue = q;
+            }
+            q.offer(value);
+        }
+
+        void clear() {
+            SimpleQueue<R> q = queue;
+            if (q != null) {
+                q.clear();
+            }
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(R item) {
+            parent.tryEmit(item, this);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.innerError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+    }
+}
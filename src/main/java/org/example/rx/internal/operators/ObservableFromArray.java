@@ -0,0 +1,92 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.fuseable.QueueDisposable;
+
+/**
+ * Emits the elements of an array in a plain loop, checking a volatile flag for disposal.
+ * A null element ends the sequence with a NullPointerException.
+ * Supports synchronous fusion, in which case the downstream polls the elements instead.
+ * @param <T> The type of items being emitted
+ */
+public final class ObservableFromArray<T> extends Observable<T> {
+    private final T[] array;
+
+    public ObservableFromArray(T[] array) {
+        this.array = array;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        ArrayDisposable<T> d = new ArrayDisposable<>(array);
+        observer.onSubscribe(d);
+        if (d.fused) {
+            return;
+        }
+        T[] a = array;
+        for (int i = 0; i < a.length; i++) {
+            if (d.disposed) {
+                return;
+            }
+            T item = a[i];
+            if (item == null) {
+                d.disposed = true;
+                observer.onError(new NullPointerException("The element at index " + i + " is null"));
+                return;
+            }
+            observer.onNext(item);
+        }
+        if (!d.disposed) {
+            observer.onComplete();
+        }
+    }
+
+    static final class ArrayDisposable<T> implements QueueDisposable<T> {
+        private final T[] array;
+        private int index;
+        private boolean fused;
+        private volatile boolean disposed;
+
+        ArrayDisposable(T[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean requestFusion(boolean boundary) {
+            fused = true;
+            return true;
+        }
+
+        @Override
+        public T poll() {
+            int i = index;
+            T[] a = array;
+            if (i == a.length) {
+                return null;
+            }
+            index = i + 1;
+            T item = a[i];
+            if (item == null) {
+                index = a.length;
+                throw new NullPointerException("The element at index " + i + " is null");
+            }
+            return item;
+        }
+
+        @Override
+        public void clear() {
+            index = array.length;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.EmptyDisposable;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Emits the items of an Iterable, checking a volatile flag for disposal between items.
+ * Failures of the Iterator and null items end the sequence with an error.
+ * Doesn't support fusion: the Iterator is user code, and the only fusing consumer, observeOn,
+ * would move it onto the Scheduler.
+ * @param <T> The type of items being emitted
+ */
+public final class ObservableFromIterable<T> extends Observable<T> {
+    private final Iterable<T> source;
+
+    public ObservableFromIterable(Iterable<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        Iterator<T> it;
+        boolean hasNext;
+        try {
+            it = source.iterator();
+            hasNext = it.hasNext();
+        } catch (Exception e) {
+            EmptyDisposable.error(e, observer);
+            return;
+        }
+        if (!hasNext) {
+            EmptyDisposable.complete(observer);
+            return;
+        }
+        IteratorDisposable d = new IteratorDisposable();
+        observer.onSubscribe(d);
+        for (;;) {
+            if (d.disposed) {
+                return;
+            }
+            try {
+                observer.onNext(Objects.requireNonNull(it.next(), "The iterator returned a null value"));
+                if (d.disposed) {
+                    return;
+                }
+                hasNext = it.hasNext();
+            } catch (Exception e) {
+                d.disposed = true;
+                observer.onError(e);
+                return;
+            }
+            if (!hasNext) {
+                if (!d.disposed) {
+                    observer.onComplete();
+                }
+                return;
+            }
+        }
+    }
+
+    static final class IteratorDisposable implements Disposable {
+        private volatile boolean disposed;
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
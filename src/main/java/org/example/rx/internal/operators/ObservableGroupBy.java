@@ -0,0 +1,369 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.GroupedObservable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.Scheduler;
+import org.example.rx.internal.disposables.EmptyDisposable;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscLinkedArrayQueue;
+import org.example.rx.internal.util.OpenHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Routes the items of the upstream to a group per key, emitting each group when its first item
+ * arrives. Groups live in an {@link OpenHashMap} and in a list ordered by last use, so the number
+ * of open groups can be bounded: beyond maxGroups the least recently used group is completed,
+ * and with an idle timeout a periodic sweep completes the groups that have not received an item
+ * for that long. A later item with the key of a completed group opens a new group.
+ * <p>
+ * Each group queues its items until its Observer subscribes and drains them itself, so a group
+ * that is slow or not subscribed yet never holds up the others. The map is guarded by a lock
+ * shared with the sweep, held only to find the group and queue the item.
+ * The upstream stays subscribed until the groups Observer and every open group are disposed.
+ * @param <T> The type of items being grouped
+ * @param <K> The type of keys
+ */
+public final class ObservableGroupBy<T, K> extends Observable<GroupedObservable<K, T>> {
+    // Sweeps per idle timeout: a group is completed after between 1 and 1.5 timeouts without an item
+    private static final int SWEEPS = 2;
+    private static final int GROUP_CAPACITY = 16;
+
+    private final Observable<T> source;
+    private final Function<T, K> keySelector;
+    private final int maxGroups;
+    private final long idleNanos;
+    private final Scheduler scheduler;
+
+    /**
+     * Creates the operator.
+     * @param source The upstream Observable
+     * @param keySelector Extracts the key of an item
+     * @param maxGroups The largest number of open groups
+     * @param idleNanos The idle time after which a group is completed, 0 to keep idle groups
+     * @param scheduler The Scheduler running the sweep, unused without an idle timeout
+     */
+    public ObservableGroupBy(Observable<T> source, Function<T, K> keySelector, int maxGroups, long idleNanos, Scheduler scheduler) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.maxGroups = maxGroups;
+        this.idleNanos = idleNanos;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<GroupedObservable<K, T>> observer) {
+        Scheduler.Worker worker = idleNanos > 0L ? scheduler.createWorker() : null;
+        source.subscribe(new GroupByObserver<>(observer, keySelector, maxGroups, idleNanos, worker));
+    }
+
+    // The count of the groups Observer and the open groups, the upstream is disposed when it reaches 0
+    static final class GroupByObserver<T, K> extends AtomicInteger implements Observer<T>, Disposable {
+        private final Observer<GroupedObservable<K, T>> downstream;
+        private final Function<T, K> keySelector;
+        private final int maxGroups;
+        private final long idleNanos;
+        private final Scheduler.Worker worker;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private Disposable upstream;
+        // Guarded by this: the map, the use-ordered list from head (newest) to tail, the sweep count
+        private final OpenHashMap<K, Group<K, T>> groups = new OpenHashMap<>();
+        private Group<K, T> head;
+        private Group<K, T> tail;
+        private long sweeps;
+        private boolean done;
+
+        GroupByObserver(Observer<GroupedObservable<K, T>> downstream, Function<T, K> keySelector,
+                        int maxGroups, long idleNanos, Scheduler.Worker worker) {
+            this.downstream = downstream;
+            this.keySelector = keySelector;
+            this.maxGroups = maxGroups;
+            this.idleNanos = idleNanos;
+            this.worker = worker;
+            lazySet(1);
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+            if (worker != null) {
+                long period = Math.max(1L, idleNanos / SWEEPS);
+                worker.schedulePeriodically(this::sweep, period, period, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            K key;
+            try {
+                key = Objects.requireNonNull(keySelector.apply(item), "The keySelector returned a null key");
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            Group<K, T> group;
+            Group<K, T> created = null;
+            Group<K, T> evicted = null;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                group = groups.get(key);
+                if (group == null) {
+                    if (cancelled.get()) {
+                        // Nobody is left to receive a new group
+                        return;
+                    }
+                    if (groups.size() == maxGroups) {
+                        evicted = tail;
+                        unlink(evicted);
+                        groups.remove(evicted.getKey());
+                        evicted.done = true;
+                    }
+                    group = new Group<>(key, this);
+                    groups.put(key, group);
+                    getAndIncrement();
+                    created = group;
+                    linkFirst(group);
+                } else if (group != head) {
+                    unlink(group);
+                    linkFirst(group);
+                }
+                group.sweep = sweeps;
+                group.queue.offer(item);
+            }
+            if (evicted != null) {
+                evicted.drain();
+                groupDone(evicted);
+            }
+            if (created != null) {
+                downstream.onNext(created);
+            }
+            group.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            for (Group<K, T> group : terminate()) {
+                group.error = t;
+                group.done = true;
+                group.drain();
+            }
+            if (!cancelled.get()) {
+                downstream.onError(t);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            for (Group<K, T> group : terminate()) {
+                group.done = true;
+                group.drain();
+            }
+            if (!cancelled.get()) {
+                downstream.onComplete();
+            }
+        }
+
+        private synchronized List<Group<K, T>> terminate() {
+            List<Group<K, T>> open = new ArrayList<>(groups.size());
+            if (!done) {
+                done = true;
+                for (Group<K, T> g = head; g != null; g = g.next) {
+                    open.add(g);
+                }
+                groups.clear();
+                head = null;
+                tail = null;
+            }
+            if (worker != null) {
+                worker.dispose();
+            }
+            return open;
+        }
+
+        // Completes the groups that have not been used for the idle timeout, the oldest being at the tail
+        private void sweep() {
+            List<Group<K, T>> idle = new ArrayList<>();
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                long now = ++sweeps;
+                Group<K, T> g = tail;
+                while (g != null && now - g.sweep > SWEEPS) {
+                    Group<K, T> previous = g.previous;
+                    unlink(g);
+                    groups.remove(g.getKey());
+                    g.done = true;
+                    idle.add(g);
+                    g = previous;
+                }
+            }
+            for (Group<K, T> group : idle) {
+                group.drain();
+                groupDone(group);
+            }
+        }
+
+        private void linkFirst(Group<K, T> group) {
+            group.previous = null;
+            group.next = head;
+            if (head != null) {
+                head.previous = group;
+            } else {
+                tail = group;
+            }
+            head = group;
+        }
+
+        private void unlink(Group<K, T> group) {
+            Group<K, T> previous = group.previous;
+            Group<K, T> next = group.next;
+            if (previous != null) {
+                previous.next = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.previous = previous;
+            } else {
+                tail = previous;
+            }
+            group.previous = null;
+            group.next = null;
+        }
+
+        void cancelGroup(Group<K, T> group) {
+            synchronized (this) {
+                if (groups.get(group.getKey()) == group) {
+                    groups.remove(group.getKey());
+                    unlink(group);
+                }
+            }
+            groupDone(group);
+        }
+
+        // Called once per group, when it completes or is disposed
+        void groupDone(Group<K, T> group) {
+            if (group.released.compareAndSet(false, true) && decrementAndGet() == 0) {
+                upstream.dispose();
+                if (worker != null) {
+                    worker.dispose();
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (cancelled.compareAndSet(false, true) && decrementAndGet() == 0) {
+                upstream.dispose();
+                if (worker != null) {
+                    worker.dispose();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled.get();
+        }
+    }
+
+    static final class Group<K, T> extends GroupedObservable<K, T> implements Disposable {
+        private final GroupByObserver<T, K> parent;
+        final SimpleQueue<T> queue = new SpscLinkedArrayQueue<>(GROUP_CAPACITY);
+        final AtomicBoolean released = new AtomicBoolean();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean once = new AtomicBoolean();
+        private volatile Observer<T> downstream;
+        volatile boolean done;
+        private volatile boolean disposed;
+        Throwable error;
+        // Guarded by the parent
+        Group<K, T> previous;
+        Group<K, T> next;
+        long sweep;
+
+        Group(K key, GroupByObserver<T, K> parent) {
+            super(key);
+            this.parent = parent;
+        }
+
+        @Override
+        protected void subscribeActual(Observer<T> observer) {
+            if (!once.compareAndSet(false, true)) {
+                EmptyDisposable.error(new IllegalStateException("A group allows only a single Observer"), observer);
+                return;
+            }
+            observer.onSubscribe(this);
+            downstream = observer;
+            drain();
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                Observer<T> a = downstream;
+                if (a != null) {
+                    for (;;) {
+                        if (disposed) {
+                            queue.clear();
+                            return;
+                        }
+                        boolean d = done;
+                        T item = queue.poll();
+                        boolean empty = item == null;
+                        if (d && empty) {
+                            disposed = true;
+                            Throwable ex = error;
+                            if (ex != null) {
+                                a.onError(ex);
+                            } else {
+                                a.onComplete();
+                            }
+                            return;
+                        }
+                        if (empty) {
+                            break;
+                        }
+                        a.onNext(item);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                parent.cancelGroup(this);
+                if (wip.getAndIncrement() == 0) {
+                    queue.clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
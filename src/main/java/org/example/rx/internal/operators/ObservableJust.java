@@ -0,0 +1,71 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.fuseable.QueueDisposable;
+
+/**
+ * Emits a single constant item and completes.
+ * Supports synchronous fusion, in which case the downstream polls the item instead.
+ * @param <T> The type of the item
+ */
+public final class ObservableJust<T> extends Observable<T> {
+    private final T value;
+
+    public ObservableJust(T value) {
+        this.value = value;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        ScalarDisposable<T> d = new ScalarDisposable<>(value);
+        observer.onSubscribe(d);
+        if (d.fused) {
+            return;
+        }
+        if (!d.disposed) {
+            observer.onNext(value);
+            if (!d.disposed) {
+                observer.onComplete();
+            }
+        }
+    }
+
+    static final class ScalarDisposable<T> implements QueueDisposable<T> {
+        private T value;
+        private boolean fused;
+        private volatile boolean disposed;
+
+        ScalarDisposable(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean requestFusion(boolean boundary) {
+            fused = true;
+            return true;
+        }
+
+        @Override
+        public T poll() {
+            T v = value;
+            value = null;
+            return v;
+        }
+
+        @Override
+        public void clear() {
+            value = null;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
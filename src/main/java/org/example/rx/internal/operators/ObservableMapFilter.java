@@ -0,0 +1,195 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.metrics.OperatorMetrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A run of consecutive map and filter stages fused into a single operator.
+ * Calling map or filter on it returns a new instance with one more stage instead of
+ * wrapping it, so any chain of these operators subscribes a single Observer that runs
+ * all stages in one loop with one done check per item.
+ * Instances are immutable and can be shared between chains.
+ * @param <T> The upstream item type
+ * @param <R> The type of items emitted after the last stage
+ */
+public final class ObservableMapFilter<T, R> extends Observable<R> {
+    private final Observable<T> source;
+    // Stage i is a filter if predicates[i] is set, a map otherwise
+    private final Function<Object, Object>[] mappers;
+    private final Predicate<Object>[] predicates;
+    private final String metricsName;
+
+    private ObservableMapFilter(Observable<T> source, Function<Object, Object>[] mappers, Predicate<Object>[] predicates) {
+        this.source = source;
+        this.mappers = mappers;
+        this.predicates = predicates;
+        this.metricsName = metricsName(predicates);
+    }
+
+    /**
+     * Creates a single map stage on top of the source.
+     * @param source The upstream Observable
+     * @param mapper The function to apply to each item
+     * @param <T> The upstream item type
+     * @param <R> The downstream item type
+     * @return the fused operator
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> ObservableMapFilter<T, R> map(Observable<T> source, Function<T, R> mapper) {
+        return new ObservableMapFilter<>(source,
+            new Function[] { mapper },
+            new Predicate[] { null });
+    }
+
+    /**
+     * Creates a single filter stage on top of the source.
+     * @param source The upstream Observable
+     * @param predicate The predicate to apply to each item
+     * @param <T> The type of items being filtered
+     * @return the fused operator
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ObservableMapFilter<T, T> filter(Observable<T> source, Predicate<T> predicate) {
+        return new ObservableMapFilter<>(source,
+            new Function[] { null },
+            new Predicate[] { predicate });
+    }
+
+    /**
+     * Returns a copy of this operator with a map stage appended.
+     * @param mapper The function to apply to each item
+     * @param <U> The type of items emitted after the new stage
+     * @return the fused operator
+     */
+    @SuppressWarnings("unchecked")
+    public <U> ObservableMapFilter<T, U> fuseMap(Function<R, U> mapper) {
+        int n = mappers.length;
+        Function<Object, Object>[] m = Arrays.copyOf(mappers, n + 1);
+        m[n] = (Function<Object, Object>) (Function<?, ?>) mapper;
+        return new ObservableMapFilter<>(source, m, Arrays.copyOf(predicates, n + 1));
+    }
+
+    /**
+     * Returns a copy of this operator with a filter stage appended.
+     * @param predicate The predicate to apply to each item
+     * @return the fused operator
+     */
+    @SuppressWarnings("unchecked")
+    public ObservableMapFilter<T, R> fuseFilter(Predicate<R> predicate) {
+        int n = predicates.length;
+        Predicate<Object>[] p = Arrays.copyOf(predicates, n + 1);
+        p[n] = (Predicate<Object>) (Predicate<?>) predicate;
+        return new ObservableMapFilter<>(source, Arrays.copyOf(mappers, n + 1), p);
+    }
+
+    @Override
+    protected void subscribeActual(Observer<R> observer) {
+        source.subscribe(new MapFilterObserver<>(observer, mappers, predicates, OperatorMetrics.of(metricsName)));
+    }
+
+    // "map" or "filter" if all stages are of one kind, "mapFilter" for a mixed chain
+    private static String metricsName(Predicate<Object>[] predicates) {
+        boolean maps = false;
+        boolean filters = false;
+        for (Predicate<Object> predicate : predicates) {
+            if (predicate != null) {
+                filters = true;
+            } else {
+                maps = true;
+            }
+        }
+        return maps && filters ? "mapFilter" : filters ? "filter" : "map";
+    }
+
+    static final class MapFilterObserver<T, R> implements Observer<T>, Disposable {
+        private final Observer<R> downstream;
+        private final Function<Object, Object>[] mappers;
+        private final Predicate<Object>[] predicates;
+        private final OperatorMetrics metrics;
+        private Disposable upstream;
+        private boolean done;
+
+        MapFilterObserver(Observer<R> downstream, Function<Object, Object>[] mappers, Predicate<Object>[] predicates,
+                          OperatorMetrics metrics) {
+            this.downstream = downstream;
+            this.mappers = mappers;
+            this.predicates = predicates;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            Function<Object, Object>[] m = mappers;
+            Predicate<Object>[] p = predicates;
+            Object value = item;
+            try {
+                for (int i = 0; i < m.length; i++) {
+                    Predicate<Object> predicate = p[i];
+                    if (predicate != null) {
+                        if (!predicate.test(value)) {
+                            return;
+                        }
+                    } else {
+                        value = Objects.requireNonNull(m[i].apply(value), "The mapper returned a null value");
+                    }
+                }
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            if (metrics != null) {
+                metrics.items.increment();
+            }
+            downstream.onNext((R) value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (metrics != null) {
+                metrics.errors.increment();
+            }
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.DoubleObservable;
+import org.example.rx.DoubleObserver;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Bridges an Observable to a DoubleObservable by mapping each item to a double.
+ * @param <T> The upstream item type
+ */
+public final class ObservableMapToDouble<T> extends DoubleObservable {
+    private final Observable<T> source;
+    private final ToDoubleFunction<T> mapper;
+
+    public ObservableMapToDouble(Observable<T> source, ToDoubleFunction<T> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(DoubleObserver observer) {
+        source.subscribe(new MapToDoubleObserver<>(observer, mapper));
+    }
+
+    static final class MapToDoubleObserver<T> implements Observer<T>, Disposable {
+        private final DoubleObserver downstream;
+        private final ToDoubleFunction<T> mapper;
+        private Disposable upstream;
+        private boolean done;
+
+        MapToDoubleObserver(DoubleObserver downstream, ToDoubleFunction<T> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            double result;
+            try {
+                result = mapper.applyAsDouble(item);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
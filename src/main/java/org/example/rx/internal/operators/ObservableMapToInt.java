@@ -0,0 +1,90 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.IntObservable;
+import org.example.rx.IntObserver;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Bridges an Observable to a IntObservable by mapping each item to a int.
+ * @param <T> The upstream item type
+ */
+public final class ObservableMapToInt<T> extends IntObservable {
+    private final Observable<T> source;
+    private final ToIntFunction<T> mapper;
+
+    public ObservableMapToInt(Observable<T> source, ToIntFunction<T> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(IntObserver observer) {
+        source.subscribe(new MapToIntObserver<>(observer, mapper));
+    }
+
+    static final class MapToIntObserver<T> implements Observer<T>, Disposable {
+        private final IntObserver downstream;
+        private final ToIntFunction<T> mapper;
+        private Disposable upstream;
+        private boolean done;
+
+        MapToIntObserver(IntObserver downstream, ToIntFunction<T> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            int result;
+            try {
+                result = mapper.applyAsInt(item);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.LongObservable;
+import org.example.rx.LongObserver;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Bridges an Observable to a LongObservable by mapping each item to a long.
+ * @param <T> The upstream item type
+ */
+public final class ObservableMapToLong<T> extends LongObservable {
+    private final Observable<T> source;
+    private final ToLongFunction<T> mapper;
+
+    public ObservableMapToLong(Observable<T> source, ToLongFunction<T> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    protected void subscribeActual(LongObserver observer) {
+        source.subscribe(new MapToLongObserver<>(observer, mapper));
+    }
+
+    static final class MapToLongObserver<T> implements Observer<T>, Disposable {
+        private final LongObserver downstream;
+        private final ToLongFunction<T> mapper;
+        private Disposable upstream;
+        private boolean done;
+
+        MapToLongObserver(LongObserver downstream, ToLongFunction<T> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            long result;
+            try {
+                result = mapper.applyAsLong(item);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.Scheduler;
+import org.example.rx.internal.fuseable.QueueDisposable;
+import org.example.rx.internal.jfr.ObserveOnDrainEvent;
+import org.example.rx.internal.metrics.OperatorMetrics;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscLinkedArrayQueue;
+import org.example.rx.metrics.Counter;
+import org.example.rx.metrics.LatencyHistogram;
+
+import jdk.jfr.EventType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers the signals of the upstream Observable on a Scheduler.
+ * Each subscription gets its own Worker, and a work-in-progress counter makes sure only one drain task is in flight,
+ * so items are delivered in order, never concurrently, and in batches per executed task.
+ * Terminal events are delivered after all queued items. A synchronous source that accepts
+ * fusion is polled directly on the Scheduler instead of emitting into the queue; fusion is
+ * requested as a boundary, so only sources that run no user code accept it.
+ * @param <T> The type of items being emitted
+ */
+public final class ObservableObserveOn<T> extends Observable<T> {
+    private static final EventType DRAIN_EVENT = EventType.getEventType(ObserveOnDrainEvent.class);
+
+    private final Observable<T> source;
+    private final Scheduler scheduler;
+
+    public ObservableObserveOn(Observable<T> source, Scheduler scheduler) {
+        this.source = source;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        source.subscribe(new ObserveOnObserver<>(observer, scheduler.createWorker()));
+    }
+
+    static final class ObserveOnObserver<T> extends AtomicInteger implements Observer<T>, Disposable, Runnable {
+        private final Observer<T> downstream;
+        private final Scheduler.Worker worker;
+        // Exactly one of them is set in onSubscribe, fused if the upstream is polled instead of emitting
+        private SimpleQueue<T> queue;
+        private QueueDisposable<T> fused;
+        // Only set while metrics are enabled: enqueue times parallel to the queue
+        private final OperatorMetrics metrics;
+        private final SimpleQueue<Long> timestamps;
+        private final Counter queueDepth;
+        private final LatencyHistogram latency;
+        private Disposable upstream;
+        private volatile boolean done;
+        private volatile boolean disposed;
+        private Throwable error;
+
+        ObserveOnObserver(Observer<T> downstream, Scheduler.Worker worker) {
+            this.downstream = downstream;
+            this.worker = worker;
+            this.metrics = OperatorMetrics.of("observeOn");
+            if (metrics != null) {
+                timestamps = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+                queueDepth = metrics.counter("queueDepth");
+                latency = metrics.histogram("latency");
+            } else {
+                timestamps = null;
+                queueDepth = null;
+                latency = null;
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            if (d instanceof QueueDisposable) {
+                QueueDisposable<T> qd = (QueueDisposable<T>) d;
+                if (qd.requestFusion(true)) {
+                    fused = qd;
+                    done = true;
+                    downstream.onSubscribe(this);
+                    schedule();
+                    return;
+                }
+            }
+            queue = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            if (metrics != null) {
+                // Offered before the item so the drain always finds it
+                timestamps.offer(System.nanoTime());
+                queueDepth.increment();
+            }
+            queue.offer(item);
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            error = t;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                upstream.dispose();
+                worker.dispose();
+                if (getAndIncrement() == 0 && fused == null) {
+                    clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        private void schedule() {
+            if (getAndIncrement() == 0) {
+                worker.schedule(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (fused != null) {
+                runFused();
+                return;
+            }
+            ObserveOnDrainEvent event = beginEvent();
+            long emitted = 0L;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) {
+                        clear();
+                        commit(event, emitted, true);
+                        return;
+                    }
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+                    if (d && empty) {
+                        disposed = true;
+                        Throwable ex = error;
+                        if (ex != null) {
+                            if (metrics != null) {
+                                metrics.errors.increment();
+                            }
+                            downstream.onError(ex);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        worker.dispose();
+                        commit(event, emitted, true);
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    if (metrics != null) {
+                        latency.record(System.nanoTime() - timestamps.poll());
+                        queueDepth.add(-1L);
+                        metrics.items.increment();
+                    }
+                    downstream.onNext(item);
+                    emitted++;
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+            commit(event, emitted, false);
+        }
+
+        // Pulls the whole upstream in one run, the only pending signal is its end
+        private void runFused() {
+            ObserveOnDrainEvent event = beginEvent();
+            QueueDisposable<T> q = fused;
+            long emitted = 0L;
+            for (;;) {
+                if (disposed) {
+                    q.clear();
+                    break;
+                }
+                T item;
+                try {
+                    item = q.poll();
+                } catch (Throwable ex) {
+                    disposed = true;
+                    q.dispose();
+                    if (metrics != null) {
+                        metrics.errors.increment();
+                    }
+                    downstream.onError(ex);
+                    worker.dispose();
+                    break;
+                }
+                if (item == null) {
+                    disposed = true;
+                    downstream.onComplete();
+                    worker.dispose();
+                    break;
+                }
+                if (metrics != null) {
+                    metrics.items.increment();
+                }
+                downstream.onNext(item);
+                emitted++;
+            }
+            commit(event, emitted, true);
+        }
+
+        // Allocates the event only while a recording has it enabled
+        private static ObserveOnDrainEvent beginEvent() {
+            if (!DRAIN_EVENT.isEnabled()) {
+                return null;
+            }
+            ObserveOnDrainEvent event = new ObserveOnDrainEvent();
+            event.begin();
+            return event;
+        }
+
+        private static void commit(ObserveOnDrainEvent event, long emitted, boolean terminated) {
+            if (event != null && event.shouldCommit()) {
+                event.items = emitted;
+                event.terminated = terminated;
+                event.commit();
+            }
+        }
+
+        private void clear() {
+            if (metrics != null) {
+                while (queue.poll() != null) {
+                    timestamps.poll();
+                    queueDepth.add(-1L);
+                }
+            } else {
+                queue.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.ConnectableObservable;
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Shares one subscription to the upstream between all current Observers. Items are not buffered:
+ * an Observer gets those emitted while it is subscribed, and items emitted without Observers are dropped.
+ * <p>
+ * The Observers of a connection are kept in a copy-on-write array swapped with CAS, so emitting
+ * is a plain loop over a snapshot of the array, without locks. Subscribing and disposing copy the
+ * array, which is cheap as long as Observers come and go less often than items.
+ * @param <T> The type of items being shared
+ */
+public final class ObservablePublish<T> extends ConnectableObservable<T> {
+    private final Observable<T> source;
+    private final AtomicReference<PublishConnection<T>> current = new AtomicReference<>();
+
+    public ObservablePublish(Observable<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        InnerDisposable<T> inner = new InnerDisposable<>(observer);
+        observer.onSubscribe(inner);
+        for (;;) {
+            PublishConnection<T> conn = current.get();
+            // A connection whose upstream terminated stays current until the next connect or reset
+            if (conn == null || (conn.isDisposed() && !conn.done)) {
+                PublishConnection<T> fresh = new PublishConnection<>(current);
+                if (!current.compareAndSet(conn, fresh)) {
+                    continue;
+                }
+                conn = fresh;
+            }
+            if (conn.add(inner)) {
+                inner.set(conn);
+                if (inner.disposed) {
+                    inner.dispose();
+                }
+                return;
+            }
+            // A connection disposed meanwhile is retried with the next one
+            if (conn.done) {
+                Throwable error = conn.error;
+                if (error != null) {
+                    inner.onError(error);
+                } else {
+                    inner.onComplete();
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void connect(Consumer<Disposable> connection) {
+        PublishConnection<T> conn = connection();
+        connection.accept(conn);
+        if (!conn.connected.get() && conn.connected.compareAndSet(false, true)) {
+            source.subscribe(conn);
+        }
+    }
+
+    @Override
+    public void reset() {
+        PublishConnection<T> conn = current.get();
+        if (conn != null && conn.done) {
+            current.compareAndSet(conn, null);
+        }
+    }
+
+    private PublishConnection<T> connection() {
+        for (;;) {
+            PublishConnection<T> conn = current.get();
+            if (conn != null && !conn.isDisposed()) {
+                return conn;
+            }
+            // Replaces a connection whose upstream terminated, or a disposed one not removed yet
+            PublishConnection<T> fresh = new PublishConnection<>(current);
+            if (current.compareAndSet(conn, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    static final class PublishConnection<T> extends AtomicReference<InnerDisposable<T>[]> implements Observer<T>, Disposable {
+        @SuppressWarnings("rawtypes")
+        static final InnerDisposable[] EMPTY = new InnerDisposable[0];
+        @SuppressWarnings("rawtypes")
+        static final InnerDisposable[] TERMINATED = new InnerDisposable[0];
+
+        private final AtomicReference<PublishConnection<T>> current;
+        final AtomicBoolean connected = new AtomicBoolean();
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        // Written before the Observers are swapped for TERMINATED
+        volatile boolean done;
+        volatile Throwable error;
+
+        @SuppressWarnings("unchecked")
+        PublishConnection(AtomicReference<PublishConnection<T>> current) {
+            super(EMPTY);
+            this.current = current;
+        }
+
+        boolean add(InnerDisposable<T> inner) {
+            for (;;) {
+                InnerDisposable<T>[] a = get();
+                if (a == TERMINATED) {
+                    return false;
+                }
+                int n = a.length;
+                @SuppressWarnings("unchecked")
+                InnerDisposable<T>[] b = new InnerDisposable[n + 1];
+                System.arraycopy(a, 0, b, 0, n);
+                b[n] = inner;
+                if (compareAndSet(a, b)) {
+                    return true;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void remove(InnerDisposable<T> inner) {
+            for (;;) {
+                InnerDisposable<T>[] a = get();
+                int n = a.length;
+                int j = -1;
+                for (int i = 0; i < n; i++) {
+                    if (a[i] == inner) {
+                        j = i;
+                        break;
+                    }
+                }
+                if (j < 0) {
+                    return;
+                }
+                InnerDisposable<T>[] b;
+                if (n == 1) {
+                    b = EMPTY;
+                } else {
+                    b = new InnerDisposable[n - 1];
+                    System.arraycopy(a, 0, b, 0, j);
+                    System.arraycopy(a, j + 1, b, j, n - j - 1);
+                }
+                if (compareAndSet(a, b)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            for (InnerDisposable<T> inner : get()) {
+                inner.onNext(item);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onError(Throwable t) {
+            error = t;
+            done = true;
+            InnerDisposable<T>[] a = getAndSet(TERMINATED);
+            upstream.lazySet(DisposableHelper.DISPOSED);
+            for (InnerDisposable<T> inner : a) {
+                inner.onError(t);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onComplete() {
+            done = true;
+            InnerDisposable<T>[] a = getAndSet(TERMINATED);
+            upstream.lazySet(DisposableHelper.DISPOSED);
+            for (InnerDisposable<T> inner : a) {
+                inner.onComplete();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void dispose() {
+            if (get() != TERMINATED) {
+                // The Observers of a disposed connection are dropped without a terminal event
+                set(TERMINATED);
+                current.compareAndSet(this, null);
+                DisposableHelper.dispose(upstream);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get() == TERMINATED;
+        }
+    }
+
+    static final class InnerDisposable<T> extends AtomicReference<PublishConnection<T>> implements Disposable {
+        private final Observer<T> downstream;
+        volatile boolean disposed;
+
+        InnerDisposable(Observer<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        void onNext(T item) {
+            if (!disposed) {
+                downstream.onNext(item);
+            }
+        }
+
+        void onError(Throwable t) {
+            if (!disposed) {
+                disposed = true;
+                downstream.onError(t);
+            }
+        }
+
+        void onComplete() {
+            if (!disposed) {
+                disposed = true;
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+            PublishConnection<T> conn = getAndSet(null);
+            if (conn != null) {
+                conn.remove(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.fuseable.QueueDisposable;
+
+/**
+ * Emits a range of integers in a plain loop, checking a volatile flag for disposal.
+ * Supports synchronous fusion, in which case the downstream polls the values instead.
+ */
+public final class ObservableRange extends Observable<Integer> {
+    private final int start;
+    private final int count;
+
+    public ObservableRange(int start, int count) {
+        this.start = start;
+        this.count = count;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<Integer> observer) {
+        RangeDisposable d = new RangeDisposable(start, (long) start + count);
+        observer.onSubscribe(d);
+        if (d.fused) {
+            return;
+        }
+        long end = d.end;
+        for (long i = start; i < end; i++) {
+            if (d.disposed) {
+                return;
+            }
+            observer.onNext((int) i);
+        }
+        if (!d.disposed) {
+            observer.onComplete();
+        }
+    }
+
+    static final class RangeDisposable implements QueueDisposable<Integer> {
+        private final long end;
+        private long index;
+        private boolean fused;
+        private volatile boolean disposed;
+
+        RangeDisposable(long start, long end) {
+            this.index = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean requestFusion(boolean boundary) {
+            fused = true;
+            return true;
+        }
+
+        @Override
+        public Integer poll() {
+            long i = index;
+            if (i == end) {
+                return null;
+            }
+            index = i + 1;
+            return (int) i;
+        }
+
+        @Override
+        public void clear() {
+            index = end;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
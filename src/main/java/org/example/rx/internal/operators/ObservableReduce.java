@@ -0,0 +1,111 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Folds the items of the upstream into a single value emitted on completion.
+ * With a seed an empty upstream emits the seed, without one the first item starts the fold and
+ * an empty upstream just completes. The running value is a plain field.
+ * @param <T> The upstream item type
+ * @param <R> The type of the result
+ */
+public final class ObservableReduce<T, R> extends Observable<R> {
+    private final Observable<T> source;
+    private final R seed;
+    private final BiFunction<R, T, R> reducer;
+
+    /**
+     * Creates the operator.
+     * @param source The upstream Observable
+     * @param seed The initial value, or null to start with the first item, in which case R is T
+     * @param reducer Combines the value so far with the next item
+     */
+    public ObservableReduce(Observable<T> source, R seed, BiFunction<R, T, R> reducer) {
+        this.source = source;
+        this.seed = seed;
+        this.reducer = reducer;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<R> observer) {
+        source.subscribe(new ReduceObserver<>(observer, seed, reducer));
+    }
+
+    static final class ReduceObserver<T, R> implements Observer<T>, Disposable {
+        private final Observer<R> downstream;
+        private final BiFunction<R, T, R> reducer;
+        private Disposable upstream;
+        private R value;
+        private boolean done;
+
+        ReduceObserver(Observer<R> downstream, R seed, BiFunction<R, T, R> reducer) {
+            this.downstream = downstream;
+            this.value = seed;
+            this.reducer = reducer;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            R v = value;
+            if (v == null) {
+                value = (R) item;
+                return;
+            }
+            try {
+                value = Objects.requireNonNull(reducer.apply(v, item), "The reducer returned a null value");
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            value = null;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            R v = value;
+            if (v != null) {
+                value = null;
+                downstream.onNext(v);
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.ConnectableObservable;
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.DisposableHelper;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Connects a ConnectableObservable when the first Observer subscribes and disposes the connection
+ * when the last one leaves. Only subscribing and leaving take the lock; items flow through untouched.
+ * @param <T> The type of items being emitted
+ */
+public final class ObservableRefCount<T> extends Observable<T> {
+    private final ConnectableObservable<T> source;
+    // Guarded by this
+    private RefConnection connection;
+
+    public ObservableRefCount(ConnectableObservable<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        RefConnection conn;
+        boolean connect;
+        synchronized (this) {
+            conn = connection;
+            // A connection that terminated is replaced even before its Observers are notified. Its upstream
+            // stays current in the source until reset, so an Observer that picked it just before still gets
+            // the terminal event rather than waiting on a connection nobody connects.
+            if (conn == null || conn.terminated()) {
+                source.reset();
+                conn = new RefConnection();
+                connection = conn;
+            }
+            conn.subscribers++;
+            connect = !conn.connected;
+            conn.connected = true;
+        }
+        source.subscribe(new RefCountObserver<>(observer, this, conn));
+        if (connect) {
+            source.connect(conn);
+        }
+    }
+
+    void cancel(RefConnection conn) {
+        synchronized (this) {
+            if (connection != conn || --conn.subscribers != 0) {
+                return;
+            }
+            connection = null;
+        }
+        conn.dispose();
+    }
+
+    void terminated(RefConnection conn) {
+        synchronized (this) {
+            if (connection == conn) {
+                connection = null;
+            }
+        }
+    }
+
+    /**
+     * Connection shared by the current Observers. Disposing it before the connect hands over
+     * its Disposable disposes that Disposable on arrival.
+     */
+    static final class RefConnection extends AtomicReference<Disposable> implements Consumer<Disposable>, Disposable {
+        // Guarded by the ObservableRefCount
+        long subscribers;
+        boolean connected;
+
+        @Override
+        public void accept(Disposable d) {
+            DisposableHelper.set(this, d);
+        }
+
+        boolean terminated() {
+            Disposable d = get();
+            return d != null && d.isDisposed();
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+    }
+
+    static final class RefCountObserver<T> extends AtomicBoolean implements Observer<T>, Disposable {
+        private final Observer<T> downstream;
+        private final ObservableRefCount<T> parent;
+        private final RefConnection connection;
+        private Disposable upstream;
+
+        RefCountObserver(Observer<T> downstream, ObservableRefCount<T> parent, RefConnection connection) {
+            this.downstream = downstream;
+            this.parent = parent;
+            this.connection = connection;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (compareAndSet(false, true)) {
+                parent.terminated(connection);
+                downstream.onError(t);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (compareAndSet(false, true)) {
+                parent.terminated(connection);
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+            if (compareAndSet(false, true)) {
+                parent.cancel(connection);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get();
+        }
+    }
+}
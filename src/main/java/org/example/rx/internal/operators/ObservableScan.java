@@ -0,0 +1,114 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Emits every intermediate result of folding the items of the upstream.
+ * With a seed the seed is emitted first, without one the first item starts the fold.
+ * The running value is a plain field, only touched by the thread delivering the items.
+ * @param <T> The upstream item type
+ * @param <R> The type of the accumulated values
+ */
+public final class ObservableScan<T, R> extends Observable<R> {
+    private final Observable<T> source;
+    private final R seed;
+    private final BiFunction<R, T, R> accumulator;
+
+    /**
+     * Creates the operator.
+     * @param source The upstream Observable
+     * @param seed The initial value, or null to start with the first item, in which case R is T
+     * @param accumulator Combines the value so far with the next item
+     */
+    public ObservableScan(Observable<T> source, R seed, BiFunction<R, T, R> accumulator) {
+        this.source = source;
+        this.seed = seed;
+        this.accumulator = accumulator;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<R> observer) {
+        source.subscribe(new ScanObserver<>(observer, seed, accumulator));
+    }
+
+    static final class ScanObserver<T, R> implements Observer<T>, Disposable {
+        private final Observer<R> downstream;
+        private final BiFunction<R, T, R> accumulator;
+        private Disposable upstream;
+        private R value;
+        private boolean done;
+
+        ScanObserver(Observer<R> downstream, R seed, BiFunction<R, T, R> accumulator) {
+            this.downstream = downstream;
+            this.value = seed;
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+            R v = value;
+            if (v != null) {
+                downstream.onNext(v);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            R v = value;
+            if (v == null) {
+                v = (R) item;
+            } else {
+                try {
+                    v = Objects.requireNonNull(accumulator.apply(v, item), "The accumulator returned a null value");
+                } catch (Exception e) {
+                    upstream.dispose();
+                    onError(e);
+                    return;
+                }
+            }
+            value = v;
+            downstream.onNext(v);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            value = null;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            value = null;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.io.SelectorLoop;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Emits the connections accepted by a ServerSocketChannel, already in non-blocking mode.
+ * Connections are emitted on the SelectorLoop, so the Observer must not block; it owns each
+ * channel and has to close it. Disposing stops accepting but leaves the server channel open.
+ */
+public final class ObservableSocketAccept extends Observable<SocketChannel> {
+    private final ServerSocketChannel server;
+    private final SelectorLoop loop;
+
+    public ObservableSocketAccept(ServerSocketChannel server, SelectorLoop loop) {
+        this.server = server;
+        this.loop = loop;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<SocketChannel> observer) {
+        AcceptHandler handler = new AcceptHandler(observer, server, loop);
+        observer.onSubscribe(handler);
+        try {
+            loop.execute(handler::register);
+        } catch (RejectedExecutionException e) {
+            handler.disposed = true;
+            observer.onError(e);
+        }
+    }
+
+    static final class AcceptHandler implements Runnable, Disposable {
+        private final Observer<SocketChannel> downstream;
+        private final ServerSocketChannel server;
+        private final SelectorLoop loop;
+        volatile boolean disposed;
+
+        AcceptHandler(Observer<SocketChannel> downstream, ServerSocketChannel server, SelectorLoop loop) {
+            this.downstream = downstream;
+            this.server = server;
+            this.loop = loop;
+        }
+
+        void register() {
+            if (disposed) {
+                return;
+            }
+            try {
+                server.configureBlocking(false);
+                loop.register(server, SelectionKey.OP_ACCEPT, this);
+            } catch (IOException e) {
+                disposed = true;
+                downstream.onError(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (;;) {
+                if (disposed) {
+                    return;
+                }
+                SocketChannel channel;
+                try {
+                    channel = server.accept();
+                    if (channel == null) {
+                        return;
+                    }
+                    channel.configureBlocking(false);
+                } catch (IOException e) {
+                    disposed = true;
+                    loop.deregister(server, SelectionKey.OP_ACCEPT);
+                    downstream.onError(e);
+                    return;
+                }
+                downstream.onNext(channel);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                try {
+                    loop.execute(() -> loop.deregister(server, SelectionKey.OP_ACCEPT));
+                } catch (RejectedExecutionException e) {
+                    // The loop is gone and its Selector with it
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
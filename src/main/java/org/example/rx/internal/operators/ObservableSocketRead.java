@@ -0,0 +1,132 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.io.SelectorLoop;
+import org.example.rx.io.ByteBufferPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Emits what arrives on a non-blocking SocketChannel as flipped buffers taken from a pool, and
+ * completes at the end of the stream. Items are emitted on the SelectorLoop, which serves many
+ * channels, so the Observer must not block; it owns each buffer and should release it to the pool.
+ * Disposing stops the reads but leaves the channel open.
+ */
+public final class ObservableSocketRead extends Observable<ByteBuffer> {
+    // Reads per readiness event, so a fast sender can't starve the other channels of the loop
+    private static final int MAX_READS = 16;
+
+    private final SocketChannel channel;
+    private final ByteBufferPool pool;
+    private final SelectorLoop loop;
+
+    public ObservableSocketRead(SocketChannel channel, ByteBufferPool pool, SelectorLoop loop) {
+        this.channel = channel;
+        this.pool = pool;
+        this.loop = loop;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<ByteBuffer> observer) {
+        ReadHandler handler = new ReadHandler(observer, channel, pool, loop);
+        observer.onSubscribe(handler);
+        try {
+            loop.execute(handler::register);
+        } catch (RejectedExecutionException e) {
+            handler.disposed = true;
+            observer.onError(e);
+        }
+    }
+
+    static final class ReadHandler implements Runnable, Disposable {
+        private final Observer<ByteBuffer> downstream;
+        private final SocketChannel channel;
+        private final ByteBufferPool pool;
+        private final SelectorLoop loop;
+        volatile boolean disposed;
+
+        ReadHandler(Observer<ByteBuffer> downstream, SocketChannel channel, ByteBufferPool pool, SelectorLoop loop) {
+            this.downstream = downstream;
+            this.channel = channel;
+            this.pool = pool;
+            this.loop = loop;
+        }
+
+        void register() {
+            if (disposed) {
+                return;
+            }
+            try {
+                channel.configureBlocking(false);
+                loop.register(channel, SelectionKey.OP_READ, this);
+            } catch (IOException e) {
+                disposed = true;
+                downstream.onError(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_READS; i++) {
+                if (disposed) {
+                    return;
+                }
+                ByteBuffer buffer = pool.acquire();
+                int n;
+                try {
+                    n = channel.read(buffer);
+                } catch (IOException e) {
+                    pool.release(buffer);
+                    terminate(e);
+                    return;
+                }
+                if (n <= 0) {
+                    pool.release(buffer);
+                    if (n < 0) {
+                        terminate(null);
+                    }
+                    return;
+                }
+                boolean drained = buffer.hasRemaining();
+                downstream.onNext(buffer.flip());
+                if (drained) {
+                    // A short read emptied the socket, don't spend a call on finding that out again
+                    return;
+                }
+            }
+        }
+
+        private void terminate(Throwable error) {
+            disposed = true;
+            loop.deregister(channel, SelectionKey.OP_READ);
+            if (error != null) {
+                downstream.onError(error);
+            } else {
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                try {
+                    loop.execute(() -> loop.deregister(channel, SelectionKey.OP_READ));
+                } catch (RejectedExecutionException e) {
+                    // The loop is gone and its Selector with it
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.DisposableHelper;
+import org.example.rx.internal.io.SelectorLoop;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscLinkedArrayQueue;
+import org.example.rx.io.ByteBufferPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes the buffers of an upstream Observable to a non-blocking SocketChannel and emits the
+ * number of bytes written once all of them are out. The buffers are queued and written from the
+ * SelectorLoop, up to {@link #MAX_GATHER} per gathering write; when the socket's send buffer is
+ * full the loop waits for the channel to become writable instead of blocking. Written buffers
+ * are released to the pool, if there is one. An upstream error is signalled after the buffers
+ * received before it have been written. Disposing leaves the channel open.
+ */
+public final class ObservableSocketWrite extends Observable<Long> {
+    /** Largest number of buffers passed to a single write, well below the usual IOV_MAX of 1024. */
+    static final int MAX_GATHER = 64;
+
+    private final Observable<ByteBuffer> source;
+    private final SocketChannel channel;
+    private final ByteBufferPool pool;
+    private final SelectorLoop loop;
+
+    /**
+     * Creates the sink.
+     * @param source The buffers to write, from their position to their limit
+     * @param channel The channel to write to
+     * @param pool The pool the written buffers are released to, or null to keep them
+     * @param loop The loop doing the writes
+     */
+    public ObservableSocketWrite(Observable<ByteBuffer> source, SocketChannel channel, ByteBufferPool pool, SelectorLoop loop) {
+        this.source = source;
+        this.channel = channel;
+        this.pool = pool;
+        this.loop = loop;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<Long> observer) {
+        WriteObserver parent = new WriteObserver(observer, channel, pool, loop);
+        observer.onSubscribe(parent);
+        source.subscribe(parent);
+    }
+
+    static final class WriteObserver extends AtomicInteger implements Observer<ByteBuffer>, Disposable {
+        private final Observer<Long> downstream;
+        private final SocketChannel channel;
+        private final ByteBufferPool pool;
+        private final SelectorLoop loop;
+        private final SimpleQueue<ByteBuffer> queue = new SpscLinkedArrayQueue<>(bufferSize());
+        private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        private final Runnable drainTask = this::drain;
+        private final Runnable writable = this::onWritable;
+        private volatile boolean done;
+        private Throwable error;
+        private volatile boolean disposed;
+        // Owned by the loop: buffers being written, the first one possibly partially
+        private final ByteBuffer[] gather = new ByteBuffer[MAX_GATHER];
+        private int count;
+        private long written;
+        private boolean configured;
+        private boolean waiting;
+
+        WriteObserver(Observer<Long> downstream, SocketChannel channel, ByteBufferPool pool, SelectorLoop loop) {
+            this.downstream = downstream;
+            this.channel = channel;
+            this.pool = pool;
+            this.loop = loop;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(upstream, d);
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            if (done) {
+                return;
+            }
+            queue.offer(buffer);
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            error = t;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (getAndIncrement() == 0) {
+                try {
+                    loop.execute(drainTask);
+                } catch (RejectedExecutionException e) {
+                    done = true;
+                    DisposableHelper.dispose(upstream);
+                    queue.clear();
+                    if (!disposed) {
+                        disposed = true;
+                        downstream.onError(e);
+                    }
+                }
+            }
+        }
+
+        private void onWritable() {
+            if (getAndIncrement() == 0) {
+                drain();
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) {
+                        releaseAll();
+                        return;
+                    }
+                    boolean d = done;
+                    while (count < MAX_GATHER) {
+                        ByteBuffer buffer = queue.poll();
+                        if (buffer == null) {
+                            break;
+                        }
+                        gather[count++] = buffer;
+                    }
+                    if (count != 0) {
+                        try {
+                            write();
+                        } catch (IOException e) {
+                            terminate(e);
+                            return;
+                        }
+                        if (count != 0) {
+                            // The send buffer is full, the loop calls back once the channel is writable
+                            break;
+                        }
+                    }
+                    if (d && queue.isEmpty()) {
+                        terminate(error);
+                        return;
+                    }
+                    if (queue.isEmpty()) {
+                        break;
+                    }
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void write() throws IOException {
+            if (!configured) {
+                configured = true;
+                channel.configureBlocking(false);
+            }
+            written += channel.write(gather, 0, count);
+            int n = 0;
+            while (n < count && !gather[n].hasRemaining()) {
+                if (pool != null) {
+                    pool.release(gather[n]);
+                }
+                n++;
+            }
+            if (n != 0) {
+                System.arraycopy(gather, n, gather, 0, count - n);
+                for (int i = count - n; i < count; i++) {
+                    gather[i] = null;
+                }
+                count -= n;
+            }
+            if (count != 0 && !waiting) {
+                waiting = true;
+                loop.register(channel, SelectionKey.OP_WRITE, writable);
+            } else if (count == 0 && waiting) {
+                // An always writable channel would otherwise wake the loop on every select
+                waiting = false;
+                loop.deregister(channel, SelectionKey.OP_WRITE);
+            }
+        }
+
+        private void terminate(Throwable e) {
+            disposed = true;
+            releaseAll();
+            if (e != null) {
+                DisposableHelper.dispose(upstream);
+                downstream.onError(e);
+            } else {
+                downstream.onNext(written);
+                downstream.onComplete();
+            }
+        }
+
+        private void releaseAll() {
+            if (waiting) {
+                waiting = false;
+                loop.deregister(channel, SelectionKey.OP_WRITE);
+            }
+            for (int i = 0; i < count; i++) {
+                if (pool != null) {
+                    pool.release(gather[i]);
+                }
+                gather[i] = null;
+            }
+            count = 0;
+            ByteBuffer buffer;
+            while ((buffer = queue.poll()) != null) {
+                if (pool != null) {
+                    pool.release(buffer);
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                DisposableHelper.dispose(upstream);
+                // The loop releases the buffers it holds
+                schedule();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.Scheduler;
+import org.example.rx.internal.disposables.DisposableHelper;
+import org.example.rx.internal.schedulers.InterruptibleRunnable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Subscribes to the upstream Observable on a Scheduler.
+ * Disposing before the task runs skips the subscription; disposing while the source
+ * is still running on the Scheduler thread interrupts that thread.
+ * @param <T> The type of items being emitted
+ */
+public final class ObservableSubscribeOn<T> extends Observable<T> {
+    private final Observable<T> source;
+    private final Scheduler scheduler;
+
+    public ObservableSubscribeOn(Observable<T> source, Scheduler scheduler) {
+        this.source = source;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        SubscribeOnObserver<T> parent = new SubscribeOnObserver<>(observer);
+        observer.onSubscribe(parent);
+        InterruptibleRunnable task = new InterruptibleRunnable(() -> source.subscribe(parent));
+        if (DisposableHelper.set(parent.task, task)) {
+            scheduler.execute(task);
+        }
+    }
+
+    static final class SubscribeOnObserver<T> extends AtomicReference<Disposable> implements Observer<T>, Disposable {
+        private final Observer<T> downstream;
+        final AtomicReference<Disposable> task = new AtomicReference<>();
+
+        SubscribeOnObserver(Observer<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            DisposableHelper.dispose(this);
+            DisposableHelper.dispose(task);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(get());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+
+/**
+ * Splits the items of the upstream into windows of a fixed size, each an Observable for a single
+ * Observer that queues its items until subscribed. A window is opened by its first item, so no
+ * window is empty. Disposing stops the upstream, and with it the open window.
+ * @param <T> The type of items being split
+ */
+public final class ObservableWindow<T> extends Observable<Observable<T>> {
+    private final Observable<T> source;
+    private final int count;
+
+    public ObservableWindow(Observable<T> source, int count) {
+        this.source = source;
+        this.count = count;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<Observable<T>> observer) {
+        source.subscribe(new WindowObserver<>(observer, count));
+    }
+
+    static final class WindowObserver<T> implements Observer<T>, Disposable {
+        private final Observer<Observable<T>> downstream;
+        private final int count;
+        private Disposable upstream;
+        private UnicastWindow<T> window;
+        private int size;
+
+        WindowObserver(Observer<Observable<T>> downstream, int count) {
+            this.downstream = downstream;
+            this.count = count;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            UnicastWindow<T> w = window;
+            if (w == null) {
+                w = new UnicastWindow<>(Math.min(count, bufferSize()));
+                window = w;
+                downstream.onNext(w);
+            }
+            w.onNext(item);
+            if (++size == count) {
+                window = null;
+                size = 0;
+                w.onComplete();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            UnicastWindow<T> w = window;
+            if (w != null) {
+                window = null;
+                w.onError(t);
+            }
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            UnicastWindow<T> w = window;
+            if (w != null) {
+                window = null;
+                w.onComplete();
+            }
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.Scheduler;
+import org.example.rx.internal.disposables.SequentialDisposable;
+import org.example.rx.internal.queue.MpscLinkedQueue;
+import org.example.rx.internal.queue.SimpleQueue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits the items of the upstream into windows closed every timespan, or as soon as a window
+ * reaches the maximum size, which also restarts the timespan. A window is opened by its first
+ * item, so no window is empty.
+ * <p>
+ * The upstream and the timer of the Worker both open and close windows, so the lock only
+ * records these signals, in order, in a queue; one thread at a time drains it and calls the
+ * windows and the downstream, never under the lock. Disposing stops the upstream and
+ * completes the open window.
+ * @param <T> The type of items being split
+ */
+public final class ObservableWindowTimed<T> extends Observable<Observable<T>> {
+    private final Observable<T> source;
+    private final long timespan;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+    private final int maxSize;
+
+    public ObservableWindowTimed(Observable<T> source, long timespan, TimeUnit unit, Scheduler scheduler, int maxSize) {
+        this.source = source;
+        this.timespan = timespan;
+        this.unit = unit;
+        this.scheduler = scheduler;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<Observable<T>> observer) {
+        source.subscribe(new WindowTimedObserver<>(observer, timespan, unit, scheduler.createWorker(), maxSize));
+    }
+
+    static final class WindowTimedObserver<T> extends AtomicInteger implements Observer<T>, Disposable {
+        // Queued signals besides the items themselves
+        private static final Object OPEN = new Object();
+        private static final Object CLOSE = new Object();
+
+        private final Observer<Observable<T>> downstream;
+        private final long timespan;
+        private final TimeUnit unit;
+        private final Scheduler.Worker worker;
+        private final int maxSize;
+        private final SimpleQueue<Object> queue = new MpscLinkedQueue<>();
+        private final SequentialDisposable timer = new SequentialDisposable();
+        private Disposable upstream;
+        // Guarded by this
+        private boolean open;
+        private int size;
+        private long generation;
+        private boolean terminated;
+        // Touched by the draining thread only
+        private UnicastWindow<T> window;
+        private volatile boolean done;
+        private volatile boolean disposed;
+        private Throwable error;
+
+        WindowTimedObserver(Observer<Observable<T>> downstream, long timespan, TimeUnit unit, Scheduler.Worker worker, int maxSize) {
+            this.downstream = downstream;
+            this.timespan = timespan;
+            this.unit = unit;
+            this.worker = worker;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+            startTimer(0L);
+        }
+
+        // Cancels the previous timer; a tick of it that already started is ignored
+        private void startTimer(long gen) {
+            timer.update(worker.schedulePeriodically(() -> tick(gen), timespan, timespan, unit));
+        }
+
+        private void tick(long gen) {
+            synchronized (this) {
+                if (gen != generation || !open) {
+                    return;
+                }
+                open = false;
+                size = 0;
+                queue.offer(CLOSE);
+            }
+            drain();
+        }
+
+        @Override
+        public void onNext(T item) {
+            long gen = -1L;
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                if (!open) {
+                    open = true;
+                    queue.offer(OPEN);
+                }
+                queue.offer(item);
+                if (++size == maxSize) {
+                    open = false;
+                    size = 0;
+                    gen = ++generation;
+                    queue.offer(CLOSE);
+                }
+            }
+            if (gen >= 0L) {
+                startTimer(gen);
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                terminated = true;
+            }
+            timer.dispose();
+            error = t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                terminated = true;
+            }
+            timer.dispose();
+            done = true;
+            drain();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) {
+                        clear();
+                        return;
+                    }
+                    boolean d = done;
+                    Object v = queue.poll();
+                    boolean empty = v == null;
+                    if (d && empty) {
+                        disposed = true;
+                        worker.dispose();
+                        UnicastWindow<T> w = window;
+                        window = null;
+                        Throwable ex = error;
+                        if (ex != null) {
+                            if (w != null) {
+                                w.onError(ex);
+                            }
+                            downstream.onError(ex);
+                        } else {
+                            if (w != null) {
+                                w.onComplete();
+                            }
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    if (v == OPEN) {
+                        UnicastWindow<T> w = new UnicastWindow<>(Math.min(maxSize, bufferSize()));
+                        window = w;
+                        downstream.onNext(w);
+                    } else if (v == CLOSE) {
+                        UnicastWindow<T> w = window;
+                        window = null;
+                        w.onComplete();
+                    } else {
+                        window.onNext((T) v);
+                    }
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        // Called by the draining thread once disposed
+        private void clear() {
+            queue.clear();
+            UnicastWindow<T> w = window;
+            if (w != null) {
+                window = null;
+                w.onComplete();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                upstream.dispose();
+                worker.dispose();
+                synchronized (this) {
+                    terminated = true;
+                }
+                if (getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observer;
+import org.example.rx.ParallelObservable;
+
+import java.util.function.Predicate;
+
+/**
+ * Keeps the items of each rail that satisfy a predicate, evaluated on the rail.
+ * The rail's Disposable is passed through unchanged, so an ordered merge still sees the rail.
+ * @param <T> The type of items being filtered
+ */
+public final class ParallelFilter<T> extends ParallelObservable<T> {
+    private final ParallelObservable<T> source;
+    private final Predicate<T> predicate;
+
+    public ParallelFilter(ParallelObservable<T> source, Predicate<T> predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public int parallelism() {
+        return source.parallelism();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void subscribeActual(Observer<T>[] observers) {
+        Observer<T>[] parents = new Observer[observers.length];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = new FilterObserver<>(observers[i], predicate);
+        }
+        source.subscribe(parents);
+    }
+
+    static final class FilterObserver<T> implements Observer<T> {
+        private final Observer<T> downstream;
+        private final Predicate<T> predicate;
+        private Disposable upstream;
+        private boolean done;
+
+        FilterObserver(Observer<T> downstream, Predicate<T> predicate) {
+            this.downstream = downstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            boolean pass;
+            try {
+                pass = predicate.test(item);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            if (pass) {
+                downstream.onNext(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.ParallelObservable;
+import org.example.rx.Scheduler;
+import org.example.rx.internal.disposables.DisposableHelper;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Deals the items of an Observable round-robin onto rails, each draining its own queue on its own
+ * Worker. Item i goes to rail i % parallelism, and every rail counts the items it has passed on,
+ * which lets an ordered merge tell an item filtered out on a rail from one still in flight.
+ * The upstream is disposed once every rail is.
+ * @param <T> The type of items being dealt
+ */
+public final class ParallelFromObservable<T> extends ParallelObservable<T> {
+    private final Observable<T> source;
+    private final int parallelism;
+    private final Scheduler scheduler;
+
+    public ParallelFromObservable(Observable<T> source, int parallelism, Scheduler scheduler) {
+        this.source = source;
+        this.parallelism = parallelism;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void subscribeActual(Observer<T>[] observers) {
+        DispatchObserver<T> parent = new DispatchObserver<>();
+        Rail<T>[] rails = new Rail[observers.length];
+        for (int i = 0; i < rails.length; i++) {
+            rails[i] = new Rail<>(observers[i], scheduler.createWorker(), parent);
+        }
+        parent.rails = rails;
+        parent.active.set(rails.length);
+        for (Rail<T> rail : rails) {
+            rail.downstream.onSubscribe(rail);
+        }
+        source.subscribe(parent);
+    }
+
+    static final class DispatchObserver<T> extends AtomicReference<Disposable> implements Observer<T> {
+        final AtomicInteger active = new AtomicInteger();
+        Rail<T>[] rails;
+        private int index;
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            DisposableHelper.setOnce(this, d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            Rail<T>[] r = rails;
+            int i = index;
+            r[i].onNext(item);
+            index = i + 1 == r.length ? 0 : i + 1;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            for (Rail<T> rail : rails) {
+                rail.onError(t);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            for (Rail<T> rail : rails) {
+                rail.onComplete();
+            }
+        }
+
+        void railDisposed() {
+            if (active.decrementAndGet() == 0) {
+                DisposableHelper.dispose(this);
+            }
+        }
+    }
+
+    /**
+     * One rail: a queue filled by the upstream and drained on the rail's Worker.
+     * It is also the Disposable its Observer receives.
+     */
+    static final class Rail<T> extends AtomicInteger implements Disposable, Runnable {
+        private static final AtomicLongFieldUpdater<Rail> CONSUMED = AtomicLongFieldUpdater.newUpdater(Rail.class, "consumed");
+
+        final Observer<T> downstream;
+        private final Scheduler.Worker worker;
+        private final DispatchObserver<T> parent;
+        private final SimpleQueue<T> queue = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+        private volatile boolean done;
+        private volatile boolean disposed;
+        private Throwable error;
+        private volatile long consumed;
+
+        Rail(Observer<T> downstream, Scheduler.Worker worker, DispatchObserver<T> parent) {
+            this.downstream = downstream;
+            this.worker = worker;
+            this.parent = parent;
+        }
+
+        /**
+         * @return the number of items that went through the rail's Observer so far
+         */
+        long consumed() {
+            return consumed;
+        }
+
+        void onNext(T item) {
+            if (!disposed) {
+                queue.offer(item);
+                schedule();
+            }
+        }
+
+        void onError(Throwable t) {
+            error = t;
+            done = true;
+            schedule();
+        }
+
+        void onComplete() {
+            done = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (getAndIncrement() == 0) {
+                worker.schedule(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            long c = consumed;
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (disposed) {
+                        queue.clear();
+                        return;
+                    }
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+                    if (d && empty) {
+                        disposed = true;
+                        Throwable ex = error;
+                        if (ex != null) {
+                            downstream.onError(ex);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        worker.dispose();
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    // Published after the item went through, so a merge seeing the count also sees any result
+                    CONSUMED.lazySet(this, ++c);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                worker.dispose();
+                parent.railDisposed();
+                if (getAndIncrement() == 0) {
+                    queue.clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observer;
+import org.example.rx.ParallelObservable;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Applies a function to the items of each rail, on the rail.
+ * The rail's Disposable is passed through unchanged, so an ordered merge still sees the rail.
+ * @param <T> The upstream item type
+ * @param <R> The downstream item type
+ */
+public final class ParallelMap<T, R> extends ParallelObservable<R> {
+    private final ParallelObservable<T> source;
+    private final Function<T, R> mapper;
+
+    public ParallelMap(ParallelObservable<T> source, Function<T, R> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public int parallelism() {
+        return source.parallelism();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void subscribeActual(Observer<R>[] observers) {
+        Observer<T>[] parents = new Observer[observers.length];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = new MapObserver<>(observers[i], mapper);
+        }
+        source.subscribe(parents);
+    }
+
+    static final class MapObserver<T, R> implements Observer<T> {
+        private final Observer<R> downstream;
+        private final Function<T, R> mapper;
+        private Disposable upstream;
+        private boolean done;
+
+        MapObserver(Observer<R> downstream, Function<T, R> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(d);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            R result;
+            try {
+                result = Objects.requireNonNull(mapper.apply(item), "The mapper returned a null value");
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observer;
+import org.example.rx.ParallelObservable;
+import org.example.rx.internal.disposables.EmptyDisposable;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Folds the items of each rail into a value emitted when the rail completes.
+ * @param <T> The upstream item type
+ * @param <R> The type of the per-rail values
+ */
+public final class ParallelReduce<T, R> extends ParallelObservable<R> {
+    private final ParallelObservable<T> source;
+    private final Supplier<R> seed;
+    private final BiFunction<R, T, R> reducer;
+
+    public ParallelReduce(ParallelObservable<T> source, Supplier<R> seed, BiFunction<R, T, R> reducer) {
+        this.source = source;
+        this.seed = seed;
+        this.reducer = reducer;
+    }
+
+    @Override
+    public int parallelism() {
+        return source.parallelism();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void subscribeActual(Observer<R>[] observers) {
+        Observer<T>[] parents = new Observer[observers.length];
+        for (int i = 0; i < parents.length; i++) {
+            R initial;
+            try {
+                initial = Objects.requireNonNull(seed.get(), "The seed is null");
+            } catch (Exception e) {
+                for (Observer<R> observer : observers) {
+                    EmptyDisposable.error(e, observer);
+                }
+                return;
+            }
+            parents[i] = new ReduceObserver<>(observers[i], initial, reducer);
+        }
+        source.subscribe(parents);
+    }
+
+    static final class ReduceObserver<T, R> implements Observer<T>, Disposable {
+        private final Observer<R> downstream;
+        private final BiFunction<R, T, R> reducer;
+        private Disposable upstream;
+        private R value;
+        private boolean done;
+
+        ReduceObserver(Observer<R> downstream, R seed, BiFunction<R, T, R> reducer) {
+            this.downstream = downstream;
+            this.value = seed;
+            this.reducer = reducer;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            try {
+                value = Objects.requireNonNull(reducer.apply(value, item), "The reducer returned a null value");
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            value = null;
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            R v = value;
+            value = null;
+            downstream.onNext(v);
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            upstream.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return upstream.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.ParallelObservable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+
+/**
+ * Folds the items of each rail on the rail, then combines the rail results as the rails complete.
+ * Without contention on the items, the only shared state is the running total touched once per rail.
+ * @param <T> The type of items and result
+ */
+public final class ParallelReduceAll<T> extends Observable<T> {
+    private final ParallelObservable<T> source;
+    private final BinaryOperator<T> reducer;
+
+    public ParallelReduceAll(ParallelObservable<T> source, BinaryOperator<T> reducer) {
+        this.source = source;
+        this.reducer = reducer;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        ReduceAllCoordinator<T> parent = new ReduceAllCoordinator<>(observer, source.parallelism(), reducer);
+        observer.onSubscribe(parent);
+        source.subscribe(parent.rails);
+    }
+
+    static final class ReduceAllCoordinator<T> extends AtomicInteger implements Disposable {
+        private final Observer<T> downstream;
+        private final BinaryOperator<T> reducer;
+        final RailObserver<T>[] rails;
+        private final AtomicBoolean terminated = new AtomicBoolean();
+        // Guarded by this
+        private T total;
+
+        @SuppressWarnings("unchecked")
+        ReduceAllCoordinator(Observer<T> downstream, int n, BinaryOperator<T> reducer) {
+            super(n);
+            this.downstream = downstream;
+            this.reducer = reducer;
+            this.rails = new RailObserver[n];
+            for (int i = 0; i < n; i++) {
+                rails[i] = new RailObserver<>(this);
+            }
+        }
+
+        T reduce(T a, T b) {
+            return Objects.requireNonNull(reducer.apply(a, b), "The reducer returned a null value");
+        }
+
+        void railDone(T value) {
+            if (value != null) {
+                T combined;
+                synchronized (this) {
+                    try {
+                        combined = total == null ? value : reduce(total, value);
+                    } catch (Exception e) {
+                        railError(e);
+                        return;
+                    }
+                    total = combined;
+                }
+            }
+            if (decrementAndGet() == 0 && terminated.compareAndSet(false, true)) {
+                T result;
+                synchronized (this) {
+                    result = total;
+                    total = null;
+                }
+                if (result != null) {
+                    downstream.onNext(result);
+                }
+                downstream.onComplete();
+            }
+        }
+
+        void railError(Throwable t) {
+            if (terminated.compareAndSet(false, true)) {
+                dispose();
+                downstream.onError(t);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            terminated.set(true);
+            for (RailObserver<T> rail : rails) {
+                rail.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return terminated.get();
+        }
+    }
+
+    static final class RailObserver<T> implements Observer<T> {
+        private final ReduceAllCoordinator<T> parent;
+        private volatile Disposable upstream;
+        private T value;
+        private boolean done;
+
+        RailObserver(ReduceAllCoordinator<T> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            this.upstream = d;
+            if (parent.isDisposed()) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            if (value == null) {
+                value = item;
+                return;
+            }
+            try {
+                value = parent.reduce(value, item);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            value = null;
+            parent.railError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            T v = value;
+            value = null;
+            parent.railDone(v);
+        }
+
+        void dispose() {
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.ParallelObservable;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Merges the rails of a ParallelObservable into one Observable. Each rail fills its own queue and
+ * a single drain, run by whichever rail thread gets there first, emits from the queues.
+ * <p>
+ * Unordered, the drain takes whatever is available. Ordered on top of
+ * {@link ParallelFromObservable}, item i of the upstream belongs to rail i % n: the results are
+ * tagged with the rail's item count and the drain walks the upstream positions, skipping a
+ * position once its rail has moved past it without a result. Otherwise ordered means rail by rail.
+ * Errors are signalled immediately and dispose every rail.
+ * @param <T> The type of items being merged
+ */
+public final class ParallelSequential<T> extends Observable<T> {
+    private final ParallelObservable<T> source;
+    private final boolean ordered;
+
+    public ParallelSequential(ParallelObservable<T> source, boolean ordered) {
+        this.source = source;
+        this.ordered = ordered;
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        MergeCoordinator<T> parent = new MergeCoordinator<>(observer, source.parallelism(), ordered);
+        observer.onSubscribe(parent);
+        source.subscribe(parent.rails);
+    }
+
+    static final class MergeCoordinator<T> extends AtomicInteger implements Disposable {
+        private final Observer<T> downstream;
+        private final boolean ordered;
+        final RailObserver<T>[] rails;
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final AtomicInteger remaining;
+        private volatile boolean disposed;
+        // Drain state: the next upstream position when tagged, the current rail otherwise
+        private long next;
+        private int index;
+
+        @SuppressWarnings("unchecked")
+        MergeCoordinator(Observer<T> downstream, int n, boolean ordered) {
+            this.downstream = downstream;
+            this.ordered = ordered;
+            this.rails = new RailObserver[n];
+            for (int i = 0; i < n; i++) {
+                rails[i] = new RailObserver<>(this, ordered);
+            }
+            this.remaining = new AtomicInteger(n);
+        }
+
+        void onError(Throwable t) {
+            if (error.compareAndSet(null, t)) {
+                disposeRails();
+                drain();
+            }
+        }
+
+        void onComplete() {
+            remaining.decrementAndGet();
+            drain();
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                disposeRails();
+                if (getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        private void disposeRails() {
+            for (RailObserver<T> rail : rails) {
+                rail.dispose();
+            }
+        }
+
+        private void clear() {
+            for (RailObserver<T> rail : rails) {
+                rail.head = null;
+                rail.queue.clear();
+            }
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                boolean terminated;
+                if (!ordered) {
+                    terminated = drainUnordered();
+                } else if (rails[0].rail != null) {
+                    terminated = drainTagged();
+                } else {
+                    terminated = drainRailByRail();
+                }
+                if (terminated) {
+                    return;
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        // Returns true once a terminal signal was emitted or the merge was disposed
+        private boolean checkTerminated(boolean done) {
+            if (disposed) {
+                clear();
+                return true;
+            }
+            Throwable ex = error.get();
+            if (ex != null) {
+                disposed = true;
+                clear();
+                downstream.onError(ex);
+                return true;
+            }
+            if (done) {
+                disposed = true;
+                downstream.onComplete();
+                return true;
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean drainUnordered() {
+            RailObserver<T>[] r = rails;
+            int n = r.length;
+            for (;;) {
+                boolean d = remaining.get() == 0;
+                boolean empty = true;
+                for (int i = 0; i < n; i++) {
+                    if (checkTerminated(false)) {
+                        return true;
+                    }
+                    Object item = r[i].queue.poll();
+                    if (item != null) {
+                        empty = false;
+                        downstream.onNext((T) item);
+                    }
+                }
+                if (empty) {
+                    return checkTerminated(d);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean drainTagged() {
+            RailObserver<T>[] r = rails;
+            int n = r.length;
+            for (;;) {
+                if (checkTerminated(false)) {
+                    return true;
+                }
+                boolean d = remaining.get() == 0;
+                RailObserver<T> rail = r[(int) (next % n)];
+                long position = next / n;
+                // Read before polling: a count past the position means its result, if any, is already queued
+                long consumed = rail.rail.consumed();
+                Slot<T> slot = rail.head;
+                if (slot == null) {
+                    slot = (Slot<T>) rail.queue.poll();
+                }
+                if (slot != null && slot.position == position) {
+                    rail.head = null;
+                    next++;
+                    downstream.onNext(slot.value);
+                } else if (slot != null || consumed > position) {
+                    // Filtered out on the rail, the slot belongs to a later position
+                    rail.head = slot;
+                    next++;
+                } else if (d && allEmpty()) {
+                    return checkTerminated(true);
+                } else {
+                    return false;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean drainRailByRail() {
+            RailObserver<T>[] r = rails;
+            for (;;) {
+                if (checkTerminated(false)) {
+                    return true;
+                }
+                if (index == r.length) {
+                    return checkTerminated(true);
+                }
+                RailObserver<T> rail = r[index];
+                boolean d = rail.done;
+                Object item = rail.queue.poll();
+                if (item != null) {
+                    downstream.onNext((T) item);
+                } else if (d) {
+                    index++;
+                } else {
+                    return false;
+                }
+            }
+        }
+
+        private boolean allEmpty() {
+            for (RailObserver<T> rail : rails) {
+                if (rail.head != null || !rail.queue.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    static final class Slot<T> {
+        final long position;
+        final T value;
+
+        Slot(long position, T value) {
+            this.position = position;
+            this.value = value;
+        }
+    }
+
+    static final class RailObserver<T> implements Observer<T> {
+        private final MergeCoordinator<T> parent;
+        private final boolean ordered;
+        final SimpleQueue<Object> queue = new SpscLinkedArrayQueue<>(Observable.bufferSize());
+        private volatile Disposable upstream;
+        // Set when the results can be tagged with their upstream position
+        ParallelFromObservable.Rail<?> rail;
+        volatile boolean done;
+        // Slot polled by a tagged drain that isn't due yet
+        Slot<T> head;
+
+        RailObserver(MergeCoordinator<T> parent, boolean ordered) {
+            this.parent = parent;
+            this.ordered = ordered;
+        }
+
+        @Override
+        public void onSubscribe(Disposable d) {
+            if (ordered && d instanceof ParallelFromObservable.Rail) {
+                rail = (ParallelFromObservable.Rail<?>) d;
+            }
+            this.upstream = d;
+            if (parent.isDisposed()) {
+                d.dispose();
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            queue.offer(rail != null ? new Slot<>(rail.consumed(), item) : item);
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            parent.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.onComplete();
+        }
+
+        void dispose() {
+            Disposable d = upstream;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.rx.internal.operators;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.internal.disposables.EmptyDisposable;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.internal.queue.SpscLinkedArrayQueue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Window of a window operator: an Observable for a single Observer that queues the signals it
+ * receives until that Observer subscribes, then relays them in order. Signals must be serialized
+ * by the caller. A second Observer gets an IllegalStateException.
+ * @param <T> The type of items in the window
+ */
+final class UnicastWindow<T> extends Observable<T> implements Disposable {
+    private final SimpleQueue<T> queue;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean once = new AtomicBoolean();
+    private volatile Observer<T> downstream;
+    private volatile boolean done;
+    private volatile boolean disposed;
+    private Throwable error;
+
+    UnicastWindow(int capacityHint) {
+        this.queue = new SpscLinkedArrayQueue<>(capacityHint);
+    }
+
+    @Override
+    protected void subscribeActual(Observer<T> observer) {
+        if (!once.compareAndSet(false, true)) {
+            EmptyDisposable.error(new IllegalStateException("A window allows only a single Observer"), observer);
+            return;
+        }
+        observer.onSubscribe(this);
+        downstream = observer;
+        drain();
+    }
+
+    void onNext(T item) {
+        if (!done && !disposed) {
+            queue.offer(item);
+            drain();
+        }
+    }
+
+    void onError(Throwable t) {
+        error = t;
+        done = true;
+        drain();
+    }
+
+    void onComplete() {
+        done = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            Observer<T> a = downstream;
+            if (a != null) {
+                for (;;) {
+                    if (disposed) {
+                        queue.clear();
+                        return;
+                    }
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+                    if (d && empty) {
+                        disposed = true;
+                        Throwable ex = error;
+                        if (ex != null) {
+                            a.onError(ex);
+                        } else {
+                            a.onComplete();
+                        }
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    a.onNext(item);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (!disposed) {
+            disposed = true;
+            if (wip.getAndIncrement() == 0) {
+                queue.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
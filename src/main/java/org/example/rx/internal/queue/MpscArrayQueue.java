@@ -0,0 +1,72 @@
+package org.example.rx.internal.queue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer single-consumer queue backed by a power of two sized array.
+ * Producers claim a slot by a CAS on the producer index and then fill it, so the consumer
+ * may briefly see a claimed but still empty slot and spins until the element arrives.
+ * The consumer index is read only when the cached producer limit is reached.
+ * @param <E> The type of elements held in the queue
+ */
+public final class MpscArrayQueue<E> extends QueueIndices implements SimpleQueue<E> {
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+
+    /**
+     * Creates a queue.
+     * @param capacity The minimum capacity, rounded up to a power of two
+     */
+    public MpscArrayQueue(int capacity) {
+        int length = Pow2.roundToPowerOfTwo(capacity);
+        this.buffer = new AtomicReferenceArray<>(length);
+        this.mask = length - 1;
+        soProducerLimit(length);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e, "Null is not a valid element");
+        long capacity = mask + 1L;
+        long limit = lvProducerLimit();
+        long index;
+        do {
+            index = lvProducerIndex();
+            if (index >= limit) {
+                limit = lvConsumerIndex() + capacity;
+                if (index >= limit) {
+                    return false;
+                }
+                soProducerLimit(limit);
+            }
+        } while (!casProducerIndex(index, index + 1));
+        buffer.lazySet((int) index & mask, e);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long index = lvConsumerIndex();
+        int offset = (int) index & mask;
+        E e = buffer.get(offset);
+        if (e == null) {
+            if (index == lvProducerIndex()) {
+                return null;
+            }
+            // A producer has claimed the slot but not filled it yet
+            do {
+                Thread.onSpinWait();
+                e = buffer.get(offset);
+            } while (e == null);
+        }
+        buffer.lazySet(offset, null);
+        soConsumerIndex(index + 1);
+        return e;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lvProducerIndex() == lvConsumerIndex();
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.rx.internal.queue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unbounded multi-producer single-consumer queue of linked nodes.
+ * Producers swap themselves in as the tail with a single getAndSet, which never fails under
+ * contention the way a CAS loop does, and then link the previous tail to their node.
+ * @param <E> The type of elements held in the queue
+ */
+public final class MpscLinkedQueue<E> implements SimpleQueue<E> {
+    private final AtomicReference<Node<E>> producerNode;
+    private final AtomicReference<Node<E>> consumerNode;
+
+    public MpscLinkedQueue() {
+        Node<E> stub = new Node<>(null);
+        this.producerNode = new AtomicReference<>(stub);
+        this.consumerNode = new AtomicReference<>(stub);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e, "Null is not a valid element");
+        Node<E> node = new Node<>(e);
+        Node<E> previous = producerNode.getAndSet(node);
+        previous.lazySet(node);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        Node<E> current = consumerNode.get();
+        Node<E> next = current.get();
+        if (next == null) {
+            if (current == producerNode.get()) {
+                return null;
+            }
+            // A producer has swapped in its node but not linked it yet
+            do {
+                Thread.onSpinWait();
+                next = current.get();
+            } while (next == null);
+        }
+        E e = next.value;
+        // The node becomes the new stub, drop its value so it can be collected
+        next.value = null;
+        consumerNode.lazySet(next);
+        return e;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerNode.get() == producerNode.get();
+    }
+
+    static final class Node<E> extends AtomicReference<Node<E>> {
+        E value;
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+}
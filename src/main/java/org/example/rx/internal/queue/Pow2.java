@@ -0,0 +1,21 @@
+package org.example.rx.internal.queue;
+
+/**
+ * Power of two helpers for sizing the array queues.
+ */
+final class Pow2 {
+    private Pow2() {
+    }
+
+    /**
+     * Rounds a capacity up to the next power of two.
+     * @param value The requested capacity, positive and at most 2^30
+     * @return the smallest power of two not less than the value
+     */
+    static int roundToPowerOfTwo(int value) {
+        if (value <= 0 || value > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be in (0, 2^30] but it was " + value);
+        }
+        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+}
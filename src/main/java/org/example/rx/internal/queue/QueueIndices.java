@@ -0,0 +1,67 @@
+package org.example.rx.internal.queue;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Producer and consumer indices of the array queues, padded so that each sits on its own
+ * cache lines and producers writing one don't invalidate the line the consumer reads the other from.
+ * The JVM lays superclass fields out before subclass fields, so the padding is spread over a class hierarchy.
+ */
+abstract class QueueIndices extends QueueIndicesPad2 {
+    private static final AtomicLongFieldUpdater<QueueProducerIndex> PRODUCER_INDEX =
+        AtomicLongFieldUpdater.newUpdater(QueueProducerIndex.class, "producerIndex");
+    private static final AtomicLongFieldUpdater<QueueProducerIndex> PRODUCER_LIMIT =
+        AtomicLongFieldUpdater.newUpdater(QueueProducerIndex.class, "producerLimit");
+    private static final AtomicLongFieldUpdater<QueueConsumerIndex> CONSUMER_INDEX =
+        AtomicLongFieldUpdater.newUpdater(QueueConsumerIndex.class, "consumerIndex");
+
+    final long lvProducerIndex() {
+        return producerIndex;
+    }
+
+    final void soProducerIndex(long index) {
+        PRODUCER_INDEX.lazySet(this, index);
+    }
+
+    final boolean casProducerIndex(long expected, long index) {
+        return PRODUCER_INDEX.compareAndSet(this, expected, index);
+    }
+
+    final long lvProducerLimit() {
+        return producerLimit;
+    }
+
+    final void soProducerLimit(long limit) {
+        PRODUCER_LIMIT.lazySet(this, limit);
+    }
+
+    final long lvConsumerIndex() {
+        return consumerIndex;
+    }
+
+    final void soConsumerIndex(long index) {
+        CONSUMER_INDEX.lazySet(this, index);
+    }
+}
+
+abstract class QueueIndicesPad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07, p08, p09, p10, p11, p12, p13, p14;
+}
+
+abstract class QueueProducerIndex extends QueueIndicesPad0 {
+    volatile long producerIndex;
+    // Index up to which producers may write without reading the consumer index again
+    volatile long producerLimit;
+}
+
+abstract class QueueIndicesPad1 extends QueueProducerIndex {
+    long p15, p16, p17, p18, p19, p20, p21, p22, p23, p24, p25, p26, p27, p28;
+}
+
+abstract class QueueConsumerIndex extends QueueIndicesPad1 {
+    volatile long consumerIndex;
+}
+
+abstract class QueueIndicesPad2 extends QueueConsumerIndex {
+    long p29, p30, p31, p32, p33, p34, p35, p36, p37, p38, p39, p40, p41, p42, p43;
+}
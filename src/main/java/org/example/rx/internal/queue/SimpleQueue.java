@@ -0,0 +1,38 @@
+package org.example.rx.internal.queue;
+
+/**
+ * Minimal non-blocking queue used by the operators to buffer items.
+ * Null elements are not allowed, so {@link #poll()} returning null means empty.
+ * Implementations name their supported number of producers and consumers; {@link #poll()},
+ * {@link #isEmpty()} and {@link #clear()} may only be called from the consumer side.
+ * @param <E> The type of elements held in the queue
+ */
+public interface SimpleQueue<E> {
+    /**
+     * Adds an element to the queue.
+     * @param e The element to add, not null
+     * @return true if the element was added, false if a bounded queue is full
+     */
+    boolean offer(E e);
+
+    /**
+     * Removes the head of the queue.
+     * @return the head of the queue, or null if it is empty
+     */
+    E poll();
+
+    /**
+     * Checks whether the queue is empty.
+     * @return true if there is no element to poll
+     */
+    boolean isEmpty();
+
+    /**
+     * Removes all elements from the queue.
+     */
+    default void clear() {
+        while (poll() != null) {
+            // Drop the element
+        }
+    }
+}
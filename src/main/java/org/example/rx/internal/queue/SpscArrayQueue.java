@@ -0,0 +1,66 @@
+package org.example.rx.internal.queue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded single-producer single-consumer queue backed by a power of two sized array.
+ * The producer checks a slot a quarter of the array ahead for emptiness, so it reads
+ * the consumer's writes only once per look-ahead step instead of once per element.
+ * @param <E> The type of elements held in the queue
+ */
+public final class SpscArrayQueue<E> extends QueueIndices implements SimpleQueue<E> {
+    private static final int MAX_LOOK_AHEAD_STEP = 4096;
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final int lookAheadStep;
+
+    /**
+     * Creates a queue.
+     * @param capacity The minimum capacity, rounded up to a power of two
+     */
+    public SpscArrayQueue(int capacity) {
+        int length = Pow2.roundToPowerOfTwo(capacity);
+        this.buffer = new AtomicReferenceArray<>(length);
+        this.mask = length - 1;
+        this.lookAheadStep = Math.min(length / 4, MAX_LOOK_AHEAD_STEP);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e, "Null is not a valid element");
+        AtomicReferenceArray<E> buffer = this.buffer;
+        int mask = this.mask;
+        long index = lvProducerIndex();
+        if (index >= lvProducerLimit()) {
+            int step = lookAheadStep;
+            if (step > 0 && buffer.get((int) (index + step) & mask) == null) {
+                soProducerLimit(index + step);
+            } else if (buffer.get((int) index & mask) != null) {
+                return false;
+            }
+        }
+        buffer.lazySet((int) index & mask, e);
+        soProducerIndex(index + 1);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long index = lvConsumerIndex();
+        int offset = (int) index & mask;
+        E e = buffer.get(offset);
+        if (e == null) {
+            return null;
+        }
+        buffer.lazySet(offset, null);
+        soConsumerIndex(index + 1);
+        return e;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lvProducerIndex() == lvConsumerIndex();
+    }
+}
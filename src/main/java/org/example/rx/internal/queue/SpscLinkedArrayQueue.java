@@ -0,0 +1,97 @@
+package org.example.rx.internal.queue;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Unbounded single-producer single-consumer queue made of linked array chunks.
+ * When the current chunk is full the producer links a new one from its last slot and
+ * leaves a marker where the consumer should jump, so the queue only allocates as it grows.
+ * @param <E> The type of elements held in the queue
+ */
+public final class SpscLinkedArrayQueue<E> extends QueueIndices implements SimpleQueue<E> {
+    private static final int MAX_LOOK_AHEAD_STEP = 4096;
+    private static final Object HAS_NEXT = new Object();
+
+    private final int mask;
+    private final int lookAheadStep;
+    // Written by the producer and the consumer only
+    private AtomicReferenceArray<Object> producerBuffer;
+    private AtomicReferenceArray<Object> consumerBuffer;
+
+    /**
+     * Creates a queue.
+     * @param chunkSize The number of elements per chunk, rounded up to a power of two between 8 and 2^30
+     */
+    public SpscLinkedArrayQueue(int chunkSize) {
+        int length = Pow2.roundToPowerOfTwo(Math.max(8, Math.min(chunkSize, 1 << 30)));
+        this.mask = length - 1;
+        this.lookAheadStep = Math.min(length / 4, MAX_LOOK_AHEAD_STEP);
+        // One extra slot holds the link to the next chunk
+        AtomicReferenceArray<Object> buffer = new AtomicReferenceArray<>(length + 1);
+        this.producerBuffer = buffer;
+        this.consumerBuffer = buffer;
+        soProducerLimit(mask - 1L);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e, "Null is not a valid element");
+        AtomicReferenceArray<Object> buffer = producerBuffer;
+        long index = lvProducerIndex();
+        int mask = this.mask;
+        int offset = (int) index & mask;
+        if (index < lvProducerLimit()) {
+            write(buffer, e, index, offset);
+        } else if (buffer.get((int) (index + lookAheadStep) & mask) == null) {
+            soProducerLimit(index + lookAheadStep - 1);
+            write(buffer, e, index, offset);
+        } else if (buffer.get((int) (index + 1) & mask) == null) {
+            // Keep one slot free so the chunk can still hold the jump marker
+            write(buffer, e, index, offset);
+        } else {
+            AtomicReferenceArray<Object> next = new AtomicReferenceArray<>(buffer.length());
+            producerBuffer = next;
+            soProducerLimit(index + mask - 1);
+            next.lazySet(offset, e);
+            buffer.lazySet(mask + 1, next);
+            // The marker is published after the link, so the consumer always finds the next chunk
+            buffer.lazySet(offset, HAS_NEXT);
+            soProducerIndex(index + 1);
+        }
+        return true;
+    }
+
+    private void write(AtomicReferenceArray<Object> buffer, E e, long index, int offset) {
+        buffer.lazySet(offset, e);
+        soProducerIndex(index + 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        AtomicReferenceArray<Object> buffer = consumerBuffer;
+        long index = lvConsumerIndex();
+        int offset = (int) index & mask;
+        Object e = buffer.get(offset);
+        if (e == HAS_NEXT) {
+            AtomicReferenceArray<Object> next = (AtomicReferenceArray<Object>) buffer.get(mask + 1);
+            // Unlink so that the consumed chunk can be collected
+            buffer.lazySet(mask + 1, null);
+            consumerBuffer = next;
+            buffer = next;
+            e = buffer.get(offset);
+        }
+        if (e == null) {
+            return null;
+        }
+        buffer.lazySet(offset, null);
+        soConsumerIndex(index + 1);
+        return (E) e;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return lvProducerIndex() == lvConsumerIndex();
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.rx.internal.schedulers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Daemon thread running the tasks of its own lock-free queue one after another.
+ * An idle loop parks until a task arrives. When the loop is part of a work-stealing
+ * group, an idle loop first tries to take tasks from the queues of its peers, and a busy
+ * loop wakes an idle peer whenever it receives a task.
+ */
+public final class EventLoop extends Thread implements Executor {
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final int index;
+    // The whole group when work-stealing is enabled, null otherwise
+    private EventLoop[] peers;
+    private volatile boolean sleeping;
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a loop, which must be started by the caller.
+     * @param name The name of the thread
+     * @param index The position of this loop in its group
+     */
+    public EventLoop(String name, int index) {
+        super(name);
+        this.index = index;
+        setDaemon(true);
+    }
+
+    /**
+     * Enables work-stealing between the loops of a group. Must be called before the loops are started.
+     * @param group Every loop of the group, including this one
+     */
+    public void setPeers(EventLoop[] group) {
+        this.peers = group;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException(getName() + " is shut down");
+        }
+        queue.offer(task);
+        if (sleeping) {
+            LockSupport.unpark(this);
+        } else if (peers != null) {
+            wakeIdlePeer();
+        }
+    }
+
+    /**
+     * Stops accepting tasks, the loop exits once the queued ones have run.
+     */
+    public void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(this);
+    }
+
+    /**
+     * Tells whether {@link #shutdown()} has been called.
+     * @return true if the loop no longer accepts tasks
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public void run() {
+        for (;;) {
+            Runnable task = poll();
+            if (task == null) {
+                if (shutdown) {
+                    break;
+                }
+                sleeping = true;
+                // Re-check after publishing the flag, so a concurrent execute() either sees it or we see its task
+                task = poll();
+                if (task == null && !shutdown) {
+                    LockSupport.park(this);
+                }
+                sleeping = false;
+                if (task == null) {
+                    continue;
+                }
+            }
+            runSafely(task);
+        }
+    }
+
+    private Runnable poll() {
+        Runnable task = queue.poll();
+        if (task == null && peers != null) {
+            int n = peers.length;
+            for (int i = 1; i < n && task == null; i++) {
+                task = peers[(index + i) % n].queue.poll();
+            }
+        }
+        return task;
+    }
+
+    private void wakeIdlePeer() {
+        EventLoop[] group = peers;
+        int n = group.length;
+        for (int i = 1; i < n; i++) {
+            EventLoop peer = group[(index + i) % n];
+            if (peer.sleeping) {
+                LockSupport.unpark(peer);
+                return;
+            }
+        }
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            // A failing task must not kill the loop
+            getUncaughtExceptionHandler().uncaughtException(this, e);
+        } finally {
+            // Don't let an interrupt aimed at the finished task hit the next one
+            Thread.interrupted();
+        }
+    }
+}
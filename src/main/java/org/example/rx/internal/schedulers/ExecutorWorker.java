@@ -0,0 +1,272 @@
+package org.example.rx.internal.schedulers;
+
+import org.example.rx.Disposable;
+import org.example.rx.Scheduler;
+import org.example.rx.internal.disposables.CompositeDisposable;
+import org.example.rx.internal.disposables.EmptyDisposable;
+import org.example.rx.internal.disposables.SequentialDisposable;
+import org.example.rx.internal.queue.MpscLinkedQueue;
+import org.example.rx.internal.queue.SimpleQueue;
+import org.example.rx.plugins.RxPlugins;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker that serializes its tasks on top of a shared Executor.
+ * Tasks are queued and a single drain task runs them in order, so a Worker occupies
+ * at most one pool thread at a time. Delays are handled by a ScheduledExecutorService
+ * that only hands the due task over to the queue.
+ */
+public final class ExecutorWorker extends Scheduler.Worker implements Runnable {
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final SimpleQueue<Runnable> queue = new MpscLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    // Pending delayed and periodic tasks, cancelled when the worker is disposed
+    private final CompositeDisposable timed = new CompositeDisposable();
+    private volatile boolean disposed;
+
+    /**
+     * Creates a Worker.
+     * @param executor The Executor running the tasks
+     * @param timer The ScheduledExecutorService used to wait for delayed tasks
+     */
+    public ExecutorWorker(Executor executor, ScheduledExecutorService timer) {
+        this.executor = executor;
+        this.timer = timer;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+        return enqueue(RxPlugins.onSchedule(task));
+    }
+
+    private Disposable enqueue(Runnable task) {
+        if (disposed) {
+            return EmptyDisposable.INSTANCE;
+        }
+        BooleanTask booleanTask = new BooleanTask(task);
+        queue.offer(booleanTask);
+        if (wip.getAndIncrement() == 0) {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                disposed = true;
+                queue.clear();
+                return EmptyDisposable.INSTANCE;
+            }
+        }
+        return booleanTask;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        if (delay <= 0L) {
+            return schedule(task);
+        }
+        if (disposed) {
+            return EmptyDisposable.INSTANCE;
+        }
+        // Decorated now, on the scheduling thread, rather than on the timer thread when due
+        Runnable decorated = RxPlugins.onSchedule(task);
+        TimedHandle handle = new TimedHandle();
+        timed.add(handle);
+        Future<?> future;
+        try {
+            future = timer.schedule(() -> {
+                timed.delete(handle);
+                handle.current.replace(enqueue(decorated));
+            }, delay, unit);
+        } catch (RejectedExecutionException e) {
+            timed.delete(handle);
+            return EmptyDisposable.INSTANCE;
+        }
+        // Only install the timer handle if the task has not fired already
+        handle.current.compareAndSet(null, new FutureDisposable(future));
+        return handle;
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0L) {
+            throw new IllegalArgumentException("period > 0 required but it was " + period);
+        }
+        if (disposed) {
+            return EmptyDisposable.INSTANCE;
+        }
+        PeriodicTask periodic = new PeriodicTask(RxPlugins.onSchedule(task), unit.toNanos(period),
+            System.nanoTime() + unit.toNanos(Math.max(0L, initialDelay)));
+        timed.add(periodic.handle);
+        periodic.scheduleNext();
+        return periodic.handle;
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        for (;;) {
+            for (;;) {
+                if (disposed) {
+                    queue.clear();
+                    return;
+                }
+                Runnable task = queue.poll();
+                if (task == null) {
+                    break;
+                }
+                task.run();
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (!disposed) {
+            disposed = true;
+            timed.dispose();
+            if (wip.getAndIncrement() == 0) {
+                queue.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    /**
+     * Handle of a delayed or periodic task that stops tracking it once disposed.
+     */
+    final class TimedHandle implements Disposable {
+        final SequentialDisposable current = new SequentialDisposable();
+
+        @Override
+        public void dispose() {
+            current.dispose();
+            timed.delete(this);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return current.isDisposed();
+        }
+    }
+
+    private static void report(Throwable e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    static final class BooleanTask extends AtomicBoolean implements Runnable, Disposable {
+        private final Runnable task;
+
+        BooleanTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (get()) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // A failing task must not stop the tasks queued behind it
+                report(e);
+            } finally {
+                lazySet(true);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            lazySet(true);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return get();
+        }
+    }
+
+    static final class FutureDisposable implements Disposable {
+        private final Future<?> future;
+
+        FutureDisposable(Future<?> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void dispose() {
+            future.cancel(false);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return future.isDone();
+        }
+    }
+
+    /**
+     * Periodic task that waits on the timer, runs on the worker and then computes its next
+     * start from the original schedule, so the rate doesn't drift with the run time.
+     */
+    final class PeriodicTask implements Runnable {
+        final TimedHandle handle = new TimedHandle();
+        private final Runnable task;
+        private final long periodNanos;
+        private long nextStart;
+
+        PeriodicTask(Runnable task, long periodNanos, long firstStart) {
+            this.task = task;
+            this.periodNanos = periodNanos;
+            this.nextStart = firstStart;
+        }
+
+        void scheduleNext() {
+            long delay = nextStart - System.nanoTime();
+            try {
+                Future<?> future = timer.schedule(() -> handle.current.replace(enqueue(this)), delay, TimeUnit.NANOSECONDS);
+                handle.current.replace(new FutureDisposable(future));
+            } catch (RejectedExecutionException e) {
+                handle.dispose();
+            }
+        }
+
+        @Override
+        public void run() {
+            if (handle.isDisposed()) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // Stop the schedule rather than leave a handle that never fires again
+                handle.dispose();
+                report(e);
+                return;
+            }
+            if (!handle.isDisposed()) {
+                long now = System.nanoTime();
+                nextStart += periodNanos;
+                if (nextStart < now - periodNanos) {
+                    // Fell behind by more than a period, skip the missed runs
+                    nextStart = now;
+                }
+                scheduleNext();
+            }
+        }
+    }
+}
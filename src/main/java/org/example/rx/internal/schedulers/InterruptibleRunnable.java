@@ -0,0 +1,77 @@
+package org.example.rx.internal.schedulers;
+
+import org.example.rx.Disposable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runnable wrapper that can be disposed before it runs and interrupts its thread
+ * if disposed while running. The interrupt flag never leaks into a later task
+ * executed by the same pool thread.
+ */
+public final class InterruptibleRunnable extends AtomicInteger implements Runnable, Disposable {
+    private static final int READY = 0;
+    private static final int RUNNING = 1;
+    private static final int FINISHED = 2;
+    private static final int DISPOSED = 3;
+    private static final int INTERRUPTING = 4;
+    private static final int INTERRUPTED = 5;
+
+    private final Runnable task;
+    private volatile Thread thread;
+
+    public InterruptibleRunnable(Runnable task) {
+        this.task = task;
+    }
+
+    @Override
+    public void run() {
+        if (get() != READY) {
+            return;
+        }
+        thread = Thread.currentThread();
+        if (compareAndSet(READY, RUNNING)) {
+            try {
+                task.run();
+            } finally {
+                thread = null;
+                if (!compareAndSet(RUNNING, FINISHED)) {
+                    // dispose() is interrupting us, wait for it and clear the flag
+                    while (get() == INTERRUPTING) {
+                        Thread.yield();
+                    }
+                    Thread.interrupted();
+                }
+            }
+        } else {
+            thread = null;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (;;) {
+            int state = get();
+            if (state >= FINISHED) {
+                return;
+            }
+            if (state == READY) {
+                if (compareAndSet(READY, DISPOSED)) {
+                    return;
+                }
+            } else if (compareAndSet(RUNNING, INTERRUPTING)) {
+                Thread t = thread;
+                if (t != null) {
+                    t.interrupt();
+                }
+                set(INTERRUPTED);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return get() >= FINISHED;
+    }
+}
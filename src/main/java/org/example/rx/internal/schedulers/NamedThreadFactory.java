@@ -0,0 +1,23 @@
+package org.example.rx.internal.schedulers;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ThreadFactory creating daemon threads named with a prefix and a sequence number,
+ * so Scheduler threads are recognizable in thread dumps and never keep the JVM alive.
+ */
+public final class NamedThreadFactory extends AtomicInteger implements ThreadFactory {
+    private final String prefix;
+
+    public NamedThreadFactory(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, prefix + "-" + incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.rx.internal.schedulers;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Daemon thread that waits out the delays of a Scheduler's Workers.
+ * It only hands due tasks over to the Workers, so a single thread serves the whole Scheduler.
+ * The thread is started by the first delayed task, not when the timer is created.
+ */
+public final class SchedulerTimer {
+    private final ScheduledExecutorService timer;
+
+    /**
+     * Returns the timer shared by the Workers of Schedulers that don't have their own.
+     * @return The shared ScheduledExecutorService, created on first use
+     */
+    public static ScheduledExecutorService shared() {
+        return Holder.SHARED.get();
+    }
+
+    /**
+     * Creates the timer.
+     * @param name The name of the timer thread
+     */
+    public SchedulerTimer(String name) {
+        this.timer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory(name));
+    }
+
+    /**
+     * Returns the timer.
+     * @return The ScheduledExecutorService waiting for delayed tasks
+     */
+    public ScheduledExecutorService get() {
+        return timer;
+    }
+
+    /**
+     * Stops the timer, pending delayed tasks never fire.
+     */
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private static final class Holder {
+        static final SchedulerTimer SHARED = new SchedulerTimer("Scheduler-timer");
+    }
+}
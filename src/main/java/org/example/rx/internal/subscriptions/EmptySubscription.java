@@ -0,0 +1,40 @@
+package org.example.rx.internal.subscriptions;
+
+import org.example.rx.Subscriber;
+import org.example.rx.Subscription;
+
+/**
+ * A Subscription that does nothing, used to terminate a Subscriber right after onSubscribe.
+ */
+public enum EmptySubscription implements Subscription {
+    INSTANCE;
+
+    @Override
+    public void request(long n) {
+        SubscriptionHelper.validate(n);
+    }
+
+    @Override
+    public void cancel() {
+        // deliberately ignored
+    }
+
+    /**
+     * Sets the empty Subscription on the Subscriber and completes it.
+     * @param s The target Subscriber
+     */
+    public static void complete(Subscriber<?> s) {
+        s.onSubscribe(INSTANCE);
+        s.onComplete();
+    }
+
+    /**
+     * Sets the empty Subscription on the Subscriber and signals the error to it.
+     * @param e The error to signal
+     * @param s The target Subscriber
+     */
+    public static void error(Throwable e, Subscriber<?> s) {
+        s.onSubscribe(INSTANCE);
+        s.onError(e);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.rx.internal.subscriptions;
+
+import org.example.rx.Subscription;
+import org.example.rx.internal.util.BackpressureHelper;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Utility methods for validating requests and managing Subscriptions held in atomic references.
+ */
+public enum SubscriptionHelper implements Subscription {
+    /**
+     * Marker for an already cancelled Subscription.
+     */
+    CANCELLED;
+
+    @Override
+    public void request(long n) {
+        // deliberately ignored
+    }
+
+    @Override
+    public void cancel() {
+        // deliberately ignored
+    }
+
+    /**
+     * Checks that a request amount is positive.
+     * @param n The request amount
+     * @throws IllegalArgumentException if n is not positive
+     */
+    public static void validate(long n) {
+        if (n <= 0L) {
+            throw new IllegalArgumentException("n > 0 required but it was " + n);
+        }
+    }
+
+    /**
+     * Atomically sets the Subscription if the field is still empty, cancels it otherwise.
+     * @param field The target field
+     * @param s The new Subscription
+     * @return true if the Subscription was set
+     */
+    public static boolean setOnce(AtomicReference<Subscription> field, Subscription s) {
+        Objects.requireNonNull(s, "s is null");
+        if (!field.compareAndSet(null, s)) {
+            s.cancel();
+            if (field.get() != CANCELLED) {
+                throw new IllegalStateException("Subscription already set!");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Atomically cancels the Subscription in the field and marks the field as cancelled.
+     * @param field The target field
+     * @return true if this call cancelled the Subscription
+     */
+    public static boolean cancel(AtomicReference<Subscription> field) {
+        Subscription current = field.get();
+        if (current != CANCELLED) {
+            current = field.getAndSet(CANCELLED);
+            if (current != CANCELLED) {
+                if (current != null) {
+                    current.cancel();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the Subscription once and requests the amount accumulated before it arrived.
+     * @param field The target field
+     * @param requested The requests accumulated so far
+     * @param s The new Subscription
+     * @return true if the Subscription was set
+     */
+    public static boolean deferredSetOnce(AtomicReference<Subscription> field, AtomicLong requested, Subscription s) {
+        if (setOnce(field, s)) {
+            long r = requested.getAndSet(0L);
+            if (r != 0L) {
+                s.request(r);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Requests from the Subscription if already set, otherwise accumulates the amount until it arrives.
+     * @param field The target field
+     * @param requested The requests accumulated so far
+     * @param n The request amount
+     */
+    public static void deferredRequest(AtomicReference<Subscription> field, AtomicLong requested, long n) {
+        Subscription s = field.get();
+        if (s != null) {
+            s.request(n);
+        } else {
+            validate(n);
+            BackpressureHelper.add(requested, n);
+            s = field.get();
+            if (s != null) {
+                long r = requested.getAndSet(0L);
+                if (r != 0L) {
+                    s.request(r);
+                }
+            }
+        }
+    }
+}
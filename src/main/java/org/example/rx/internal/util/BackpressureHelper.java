@@ -0,0 +1,64 @@
+package org.example.rx.internal.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility methods for manipulating request amounts, capping them at Long.MAX_VALUE.
+ */
+public final class BackpressureHelper {
+    private BackpressureHelper() {
+        throw new IllegalStateException("No instances!");
+    }
+
+    /**
+     * Adds two non-negative request amounts, capping the result at Long.MAX_VALUE.
+     * @param a The first amount
+     * @param b The second amount
+     * @return the capped sum
+     */
+    public static long addCap(long a, long b) {
+        long u = a + b;
+        return u < 0L ? Long.MAX_VALUE : u;
+    }
+
+    /**
+     * Atomically adds n to the requested amount, capping it at Long.MAX_VALUE.
+     * @param requested The requested amount
+     * @param n The amount to add
+     * @return the amount before the addition
+     */
+    public static long add(AtomicLong requested, long n) {
+        for (;;) {
+            long r = requested.get();
+            if (r == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long u = addCap(r, n);
+            if (requested.compareAndSet(r, u)) {
+                return r;
+            }
+        }
+    }
+
+    /**
+     * Atomically subtracts n emitted items from the requested amount unless it is unbounded.
+     * @param requested The requested amount
+     * @param n The number of items emitted
+     * @return the amount after the subtraction
+     */
+    public static long produced(AtomicLong requested, long n) {
+        for (;;) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long update = current - n;
+            if (update < 0L) {
+                update = 0L;
+            }
+            if (requested.compareAndSet(current, update)) {
+                return update;
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.rx.internal.util;
+
+import java.util.Arrays;
+
+/**
+ * Hash map with open addressing and linear probing over two flat arrays, so an entry costs two
+ * array slots instead of a node object, and a lookup touches consecutive memory. Removal shifts
+ * the following entries back instead of leaving tombstones, so lookups stay short under churn.
+ * Keys and values must not be null. Not thread-safe.
+ * @param <K> The type of keys
+ * @param <V> The type of values
+ */
+public final class OpenHashMap<K, V> {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public OpenHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Looks up the value of a key.
+     * @param key The key
+     * @return the value, or null if the key is absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Object[] k = keys;
+        int m = mask;
+        for (int i = slot(key, m); ; i = (i + 1) & m) {
+            Object current = k[i];
+            if (current == null) {
+                return null;
+            }
+            if (current.equals(key)) {
+                return (V) values[i];
+            }
+        }
+    }
+
+    /**
+     * Associates a value with a key.
+     * @param key The key
+     * @param value The value
+     * @return the previous value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Object[] k = keys;
+        int m = mask;
+        int i = slot(key, m);
+        for (;;) {
+            Object current = k[i];
+            if (current == null) {
+                break;
+            }
+            if (current.equals(key)) {
+                V old = (V) values[i];
+                values[i] = value;
+                return old;
+            }
+            i = (i + 1) & m;
+        }
+        k[i] = key;
+        values[i] = value;
+        if (++size > resizeAt) {
+            rehash();
+        }
+        return null;
+    }
+
+    /**
+     * Removes a key.
+     * @param key The key
+     * @return the value it had, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        Object[] k = keys;
+        Object[] v = values;
+        int m = mask;
+        int i = slot(key, m);
+        for (;;) {
+            Object current = k[i];
+            if (current == null) {
+                return null;
+            }
+            if (current.equals(key)) {
+                break;
+            }
+            i = (i + 1) & m;
+        }
+        V old = (V) v[i];
+        size--;
+        // Move back every following entry of the run that may live in the freed slot
+        int free = i;
+        for (int j = (i + 1) & m; ; j = (j + 1) & m) {
+            Object current = k[j];
+            if (current == null) {
+                break;
+            }
+            int ideal = slot(current, m);
+            // The entry can move to the free slot unless its ideal slot lies cyclically in (free, j]
+            boolean between = free <= j ? free < ideal && ideal <= j : free < ideal || ideal <= j;
+            if (!between) {
+                k[free] = current;
+                v[free] = v[j];
+                free = j;
+            }
+        }
+        k[free] = null;
+        v[free] = null;
+        return old;
+    }
+
+    /**
+     * Removes all entries, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private static int slot(Object key, int mask) {
+        // Spread the bits, hash codes like those of Integer are sequential
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : capacity / 4 * 3;
+    }
+
+    private void rehash() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        if (oldKeys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("OpenHashMap is full");
+        }
+        allocate(oldKeys.length << 1);
+        Object[] k = keys;
+        int m = mask;
+        for (int j = 0; j < oldKeys.length; j++) {
+            Object key = oldKeys[j];
+            if (key != null) {
+                int i = slot(key, m);
+                while (k[i] != null) {
+                    i = (i + 1) & m;
+                }
+                k[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
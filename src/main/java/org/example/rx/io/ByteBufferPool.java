@@ -0,0 +1,79 @@
+package org.example.rx.io;
+
+import java.nio.ByteBuffer;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe pool of equally sized ByteBuffers, so reading from sockets doesn't allocate a
+ * buffer per read. The most recently released buffer is handed out first, as it is the most
+ * likely to still be in a CPU cache. A buffer must not be used after it has been released.
+ */
+public final class ByteBufferPool {
+    private final int bufferSize;
+    private final int maxPooled;
+    private final boolean direct;
+    private final Deque<ByteBuffer> free = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    /**
+     * Creates an empty pool.
+     * @param bufferSize The capacity of the buffers
+     * @param maxPooled The largest number of idle buffers kept, more are left to the garbage collector
+     * @param direct Whether to allocate direct buffers, which the socket channels read into without copying
+     */
+    public ByteBufferPool(int bufferSize, int maxPooled, boolean direct) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        }
+        if (maxPooled < 0) {
+            throw new IllegalArgumentException("maxPooled >= 0 required but it was " + maxPooled);
+        }
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+        this.direct = direct;
+    }
+
+    /**
+     * Takes an idle buffer, or allocates one if there is none.
+     * @return a cleared buffer of {@link #bufferSize()} bytes
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = free.pollFirst();
+        if (buffer == null) {
+            return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+        }
+        pooled.decrementAndGet();
+        return buffer.clear();
+    }
+
+    /**
+     * Returns a buffer to the pool. Buffers that the pool could not have allocated are ignored.
+     * @param buffer A buffer the caller no longer uses
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() != bufferSize || buffer.isDirect() != direct || buffer.isReadOnly()) {
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        free.offerFirst(buffer);
+    }
+
+    /**
+     * @return the capacity of the buffers
+     */
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return the number of idle buffers
+     */
+    public int pooled() {
+        return pooled.get();
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.rx.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Read-only view of a range of bytes in a ByteBuffer, such as one line of a memory-mapped file.
+ * Creating a slice copies nothing; the bytes are read from the underlying buffer on access,
+ * and a slice keeps its buffer, and with it the file mapping, alive while it is referenced.
+ * Equality and hash code are based on the content.
+ */
+public final class ByteSlice {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    private ByteSlice(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Creates a view of a range of a buffer. The buffer's position and limit are ignored and left untouched.
+     * @param buffer The buffer holding the bytes
+     * @param offset The absolute index of the first byte
+     * @param length The number of bytes
+     * @return the slice
+     */
+    public static ByteSlice of(ByteBuffer buffer, int offset, int length) {
+        Objects.requireNonNull(buffer, "buffer is null");
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        return new ByteSlice(buffer, offset, length);
+    }
+
+    /**
+     * Creates a view of a byte array, which is not copied.
+     * @param bytes The bytes
+     * @return the slice
+     */
+    public static ByteSlice wrap(byte[] bytes) {
+        return new ByteSlice(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    /**
+     * Returns the number of bytes in this slice.
+     * @return the length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns a byte of this slice.
+     * @param index The index within the slice
+     * @return the byte
+     * @throws IndexOutOfBoundsException if the index is outside of the slice
+     */
+    public byte byteAt(int index) {
+        Objects.checkIndex(index, length);
+        return buffer.get(offset + index);
+    }
+
+    /**
+     * Finds the first occurrence of a byte.
+     * @param b The byte to look for
+     * @return its index within the slice, or -1 if not found
+     */
+    public int indexOf(byte b) {
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether this slice starts with the given bytes.
+     * @param prefix The bytes to compare with
+     * @return true if the first bytes of this slice equal the prefix
+     */
+    public boolean startsWith(byte[] prefix) {
+        if (prefix.length > length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(offset + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a view of part of this slice, without copying.
+     * @param from The first index, inclusive
+     * @param to The last index, exclusive
+     * @return the sub-slice
+     */
+    public ByteSlice slice(int from, int to) {
+        Objects.checkFromToIndex(from, to, length);
+        return new ByteSlice(buffer, offset + from, to - from);
+    }
+
+    /**
+     * Returns the bytes as a read-only ByteBuffer sharing the content of this slice.
+     * @return a new buffer positioned at the first byte, with the slice length as limit
+     */
+    public ByteBuffer asByteBuffer() {
+        return buffer.slice(offset, length).asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the bytes into a new array.
+     * @return the bytes of this slice
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return bytes;
+    }
+
+    /**
+     * Decodes the bytes into a String.
+     * @param charset The charset of the bytes
+     * @return the decoded String
+     */
+    public String toString(Charset charset) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + offset, length, charset);
+        }
+        return new String(toByteArray(), charset);
+    }
+
+    /**
+     * Decodes the bytes as UTF-8.
+     * @return the decoded String
+     */
+    @Override
+    public String toString() {
+        return toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ByteSlice)) {
+            return false;
+        }
+        ByteSlice other = (ByteSlice) o;
+        return length == other.length && asByteBuffer().equals(other.asByteBuffer());
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + buffer.get(offset + i);
+        }
+        return h;
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.rx.io;
+
+import org.example.rx.Observable;
+import org.example.rx.internal.io.SelectorLoop;
+import org.example.rx.internal.operators.ObservableSocketAccept;
+import org.example.rx.internal.operators.ObservableSocketRead;
+import org.example.rx.internal.operators.ObservableSocketWrite;
+import org.example.rx.plugins.RxPlugins;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+
+/**
+ * Non-blocking socket sources and sinks, all served by a single shared selector thread instead
+ * of a thread per connection. The sources emit on that thread, so their Observers must not block;
+ * hand heavy work over with {@code observeOn}. Channels are switched to non-blocking mode and
+ * are never closed by these operators.
+ */
+public final class Sockets {
+    /** Capacity of the buffers of the default pool, 64 KB. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private Sockets() {
+    }
+
+    // Created on first use
+    private static final class Holder {
+        static final SelectorLoop LOOP = startLoop();
+        static final ByteBufferPool POOL = new ByteBufferPool(DEFAULT_BUFFER_SIZE, 256, true);
+
+        private static SelectorLoop startLoop() {
+            try {
+                SelectorLoop loop = new SelectorLoop("Sockets-selector");
+                loop.start();
+                return loop;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the pool of direct buffers of {@link #DEFAULT_BUFFER_SIZE} bytes used by {@link #read(SocketChannel)}.
+     * @return the shared pool
+     */
+    public static ByteBufferPool defaultPool() {
+        return Holder.POOL;
+    }
+
+    /**
+     * Creates an Observable that emits the bytes received on a connection, using the default pool.
+     * @param channel The connected channel
+     * @return A new Observable emitting buffers ready to be read, completing at the end of the stream
+     * @see #read(SocketChannel, ByteBufferPool)
+     */
+    public static Observable<ByteBuffer> read(SocketChannel channel) {
+        return read(channel, defaultPool());
+    }
+
+    /**
+     * Creates an Observable that emits the bytes received on a connection, read into buffers of a pool.
+     * Each buffer belongs to the Observer, which should release it to the pool once done with it,
+     * for example by passing the pool to {@link #write(Observable, SocketChannel, ByteBufferPool)}.
+     * @param channel The connected channel
+     * @param pool The pool providing the buffers
+     * @return A new Observable emitting buffers ready to be read, completing at the end of the stream
+     */
+    public static Observable<ByteBuffer> read(SocketChannel channel, ByteBufferPool pool) {
+        Objects.requireNonNull(channel, "channel is null");
+        Objects.requireNonNull(pool, "pool is null");
+        return RxPlugins.onAssembly(new ObservableSocketRead(channel, pool, Holder.LOOP));
+    }
+
+    /**
+     * Creates an Observable that emits the connections accepted by a bound server channel.
+     * @param server The bound server channel
+     * @return A new Observable emitting non-blocking channels, which the Observer has to close
+     */
+    public static Observable<SocketChannel> accept(ServerSocketChannel server) {
+        Objects.requireNonNull(server, "server is null");
+        return RxPlugins.onAssembly(new ObservableSocketAccept(server, Holder.LOOP));
+    }
+
+    /**
+     * Creates an Observable that writes the buffers of a source to a connection.
+     * @param source The buffers to write, from their position to their limit
+     * @param channel The connected channel
+     * @return A new Observable emitting the number of bytes written once the source completed and everything was written
+     * @see #write(Observable, SocketChannel, ByteBufferPool)
+     */
+    public static Observable<Long> write(Observable<ByteBuffer> source, SocketChannel channel) {
+        Objects.requireNonNull(source, "source is null");
+        Objects.requireNonNull(channel, "channel is null");
+        return RxPlugins.onAssembly(new ObservableSocketWrite(source, channel, null, Holder.LOOP));
+    }
+
+    /**
+     * Creates an Observable that writes the buffers of a source to a connection with gathering writes,
+     * and releases them to a pool once written. The source must not touch a buffer after emitting it.
+     * @param source The buffers to write, from their position to their limit
+     * @param channel The connected channel
+     * @param pool The pool the written buffers are released to
+     * @return A new Observable emitting the number of bytes written once the source completed and everything was written
+     */
+    public static Observable<Long> write(Observable<ByteBuffer> source, SocketChannel channel, ByteBufferPool pool) {
+        Objects.requireNonNull(source, "source is null");
+        Objects.requireNonNull(channel, "channel is null");
+        Objects.requireNonNull(pool, "pool is null");
+        return RxPlugins.onAssembly(new ObservableSocketWrite(source, channel, pool, Holder.LOOP));
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.rx.metrics;
+
+/**
+ * Counter updated by the instrumented operators.
+ * Counters that track a level, such as a queue depth, also receive negative deltas.
+ */
+public interface Counter {
+    /**
+     * Adds a delta to the counter.
+     * @param delta The amount to add, negative to decrease the counter
+     */
+    void add(long delta);
+
+    /**
+     * Adds one to the counter.
+     */
+    default void increment() {
+        add(1L);
+    }
+
+    /**
+     * Returns the current value.
+     * @return the sum of all deltas
+     */
+    long get();
+}
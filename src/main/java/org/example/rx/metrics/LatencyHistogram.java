@@ -0,0 +1,18 @@
+package org.example.rx.metrics;
+
+/**
+ * Distribution of latencies recorded by the instrumented operators, in nanoseconds.
+ */
+public interface LatencyHistogram {
+    /**
+     * Records one latency.
+     * @param nanos The latency in nanoseconds, negative values are recorded as 0
+     */
+    void record(long nanos);
+
+    /**
+     * Returns a consistent-enough view of the recorded latencies.
+     * @return the current statistics
+     */
+    LatencySnapshot snapshot();
+}
@@ -0,0 +1,36 @@
+package org.example.rx.metrics;
+
+import java.util.Map;
+
+/**
+ * Pluggable store of the metrics recorded by the instrumented operators.
+ * Implementations adapt them to a monitoring system; {@link SimpleMetricsRegistry} keeps them in memory.
+ * Lookups happen once per subscription, never per item, and must be thread-safe.
+ */
+public interface MetricsRegistry {
+    /**
+     * Returns the counter with the given name, creating it if needed.
+     * @param name The metric name, e.g. {@code rx.map.items}
+     * @return the counter, always the same instance for a name
+     */
+    Counter counter(String name);
+
+    /**
+     * Returns the latency histogram with the given name, creating it if needed.
+     * @param name The metric name, e.g. {@code rx.observeOn.latency}
+     * @return the histogram, always the same instance for a name
+     */
+    LatencyHistogram histogram(String name);
+
+    /**
+     * Returns all counters created so far.
+     * @return the counters by name
+     */
+    Map<String, Counter> counters();
+
+    /**
+     * Returns all histograms created so far.
+     * @return the histograms by name
+     */
+    Map<String, LatencyHistogram> histograms();
+}
@@ -0,0 +1,121 @@
+package org.example.rx.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Switch for the opt-in operator instrumentation.
+ * While a registry is installed, map/filter, flatMap, observeOn and create record
+ * {@code rx.<operator>.items} and {@code rx.<operator>.errors} counters; observeOn also tracks
+ * its buffered items in {@code rx.observeOn.queueDepth} and the time from upstream emission
+ * to downstream delivery in the {@code rx.observeOn.latency} histogram, and create records the
+ * time its downstream takes to process each item in {@code rx.create.latency}.
+ * Operators look the registry up when subscribed, so enabling or disabling affects new
+ * subscriptions only, and a disabled subscription costs a null check per item.
+ */
+public final class RxMetrics {
+    private static final String OBJECT_NAME = "org.example.rx:type=Metrics";
+
+    private static volatile MetricsRegistry registry;
+
+    private RxMetrics() {
+        throw new IllegalStateException("No instances!");
+    }
+
+    /**
+     * Starts recording metrics into a new {@link SimpleMetricsRegistry}.
+     * @return the installed registry
+     */
+    public static MetricsRegistry enable() {
+        SimpleMetricsRegistry r = new SimpleMetricsRegistry();
+        enable(r);
+        return r;
+    }
+
+    /**
+     * Starts recording metrics into the given registry.
+     * @param metricsRegistry The registry to record into
+     */
+    public static void enable(MetricsRegistry metricsRegistry) {
+        if (metricsRegistry == null) {
+            throw new NullPointerException("metricsRegistry is null");
+        }
+        registry = metricsRegistry;
+    }
+
+    /**
+     * Stops recording metrics for subsequent subscriptions.
+     */
+    public static void disable() {
+        registry = null;
+    }
+
+    /**
+     * Returns the active registry.
+     * @return the registry, or null if metrics are disabled
+     */
+    public static MetricsRegistry registry() {
+        return registry;
+    }
+
+    /**
+     * Registers the {@link RxMetricsMXBean} under {@code org.example.rx:type=Metrics}
+     * in the platform MBean server. Does nothing if it is already registered.
+     */
+    public static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsView(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register the metrics MBean", e);
+        }
+    }
+
+    /**
+     * Removes the MBean registered by {@link #registerMBean()}, if any.
+     */
+    public static void unregisterMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (InstanceNotFoundException e) {
+            // Not registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to unregister the metrics MBean", e);
+        }
+    }
+
+    static final class MetricsView implements RxMetricsMXBean {
+        @Override
+        public boolean isEnabled() {
+            return registry != null;
+        }
+
+        @Override
+        public Map<String, Long> getCounters() {
+            Map<String, Long> result = new TreeMap<>();
+            MetricsRegistry r = registry;
+            if (r != null) {
+                r.counters().forEach((name, counter) -> result.put(name, counter.get()));
+            }
+            return result;
+        }
+
+        @Override
+        public Map<String, LatencySnapshot> getLatencies() {
+            Map<String, LatencySnapshot> result = new TreeMap<>();
+            MetricsRegistry r = registry;
+            if (r != null) {
+                r.histograms().forEach((name, histogram) -> result.put(name, histogram.snapshot()));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.rx.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the active {@link MetricsRegistry}, registered by {@link RxMetrics#registerMBean()}.
+ */
+public interface RxMetricsMXBean {
+    /**
+     * @return true if operators are currently recording metrics
+     */
+    boolean isEnabled();
+
+    /**
+     * @return the current value of every counter by name
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * @return the statistics of every latency histogram by name
+     */
+    Map<String, LatencySnapshot> getLatencies();
+}
@@ -0,0 +1,41 @@
+package org.example.rx.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory MetricsRegistry backed by LongAdder counters and {@link LogLinearHistogram}s.
+ */
+public final class SimpleMetricsRegistry implements MetricsRegistry {
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, k -> new AdderCounter());
+    }
+
+    @Override
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, k -> new LogLinearHistogram());
+    }
+
+    @Override
+    public Map<String, Counter> counters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    @Override
+    public Map<String, LatencyHistogram> histograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    static final class AdderCounter extends LongAdder implements Counter {
+        @Override
+        public long get() {
+            return sum();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package org.example.rx.plugins;
+
+import org.example.rx.ConnectableObservable;
+import org.example.rx.DoubleObservable;
+import org.example.rx.IntObservable;
+import org.example.rx.LongObservable;
+import org.example.rx.Observable;
+import org.example.rx.Observer;
+import org.example.rx.ParallelObservable;
+import org.example.rx.Scheduler;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Global hooks that intercept the library without touching call sites.
+ * <ul>
+ *     <li>schedule: wraps every Runnable given to {@link Scheduler#execute(Runnable)} or to a
+ *     {@link Scheduler.Worker}, on the scheduling thread, e.g. to propagate a context;</li>
+ *     <li>assembly: wraps every Observable returned by a factory or an operator. Connectable,
+ *     parallel and primitive Observables have a hook of their own, so that a hook can't change
+ *     their type; a Connectable one is not passed to the Observable hook. Flowable has no
+ *     assembly hook;</li>
+ *     <li>subscribe: wraps every Observer subscribed to an Observable, including the ones
+ *     operators subscribe upstream;</li>
+ *     <li>scheduler: replaces the shared instances returned by {@code Schedulers}, e.g. to
+ *     A/B test an alternative implementation.</li>
+ * </ul>
+ * Hooks are read on every call, so they should be installed before the affected code runs.
+ * With no hook installed each interception point costs a volatile read.
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public final class RxPlugins {
+    private static volatile Function<Runnable, Runnable> onSchedule;
+    private static volatile Function<Observable, Observable> onObservableAssembly;
+    private static volatile Function<ConnectableObservable, ConnectableObservable> onConnectableAssembly;
+    private static volatile Function<ParallelObservable, ParallelObservable> onParallelAssembly;
+    private static volatile Function<IntObservable, IntObservable> onIntAssembly;
+    private static volatile Function<LongObservable, LongObservable> onLongAssembly;
+    private static volatile Function<DoubleObservable, DoubleObservable> onDoubleAssembly;
+    private static volatile BiFunction<Observable, Observer, Observer> onObservableSubscribe;
+    private static volatile BiFunction<String, Scheduler, Scheduler> onScheduler;
+
+    private RxPlugins() {
+        throw new IllegalStateException("No instances!");
+    }
+
+    /**
+     * Sets the hook wrapping scheduled tasks.
+     * @param handler The hook, or null to remove it
+     */
+    public static void setScheduleHandler(Function<Runnable, Runnable> handler) {
+        onSchedule = handler;
+    }
+
+    /**
+     * Sets the hook wrapping assembled Observables.
+     * @param handler The hook, or null to remove it
+     */
+    public static void setOnObservableAssembly(Function<Observable, Observable> handler) {
+        onObservableAssembly = handler;
+    }
+
+    /**
+     * Sets the hook wrapping assembled ConnectableObservables.
+     * @param handler The hook, or null to remove it
+     */
+    public static void setOnConnectableObservableAssembly(Function<ConnectableObservable, ConnectableObservable> handler) {
+        onConnectableAssembly = handler;
+    }
+
+    /**
+     * Sets the hook wrapping assembled ParallelObservables.
+     * @param handler The hook, or null to remove it
+     */
+    public static void setOnParallelObservableAssembly(Function<ParallelObservable, ParallelObservable> handler) {
+        onParallelAssembly = handler;
+    }
+
+    /**
+     * Sets the hook wrapping assembled IntObservables.
+     * @param handler The hook, or null to remove it
+     */
+    public static void setOnIntObservableAssembly(Function<IntObservable, IntObservable> handler) {
+        onIntAssembly = handler;
+    }
+
+    /**
+     * Sets the hook wrapping assembled LongObservables.
+     * @param handler The hook, or null to remove it
+     */
+    public static void setOnLongObservableAssembly(Function<LongObservable, LongObservable> handler) {
+        onLongAssembly = handler;
+    }
+
+    /**
+     * Sets the hook wrapping assembled DoubleObservables.
+     * @param handler The hook, or null to remove it
+     */
+    public static void setOnDoubleObservableAssembly(Function<DoubleObservable, DoubleObservable> handler) {
+        onDoubleAssembly = handler;
+    }
+
+    /**
+     * Sets the hook wrapping subscribed Observers.
+     * @param handler The hook receiving the Observable and the Observer, or null to remove it
+     */
+    public static void setOnObservableSubscribe(BiFunction<Observable, Observer, Observer> handler) {
+        onObservableSubscribe = handler;
+    }
+
+    /**
+     * Sets the hook replacing the shared Schedulers.
+     * @param handler The hook receiving the kind ("computation", "io", "single" or "virtual")
+     *                and the default instance, or null to remove it
+     */
+    public static void setSchedulerHandler(BiFunction<String, Scheduler, Scheduler> handler) {
+        onScheduler = handler;
+    }
+
+    /**
+     * Removes all hooks.
+     */
+    public static void reset() {
+        onSchedule = null;
+        onObservableAssembly = null;
+        onConnectableAssembly = null;
+        onParallelAssembly = null;
+        onIntAssembly = null;
+        onLongAssembly = null;
+        onDoubleAssembly = null;
+        onObservableSubscribe = null;
+        onScheduler = null;
+    }
+
+    /**
+     * Applies the schedule hook.
+     * @param task The task being scheduled
+     * @return the task to schedule instead
+     */
+    public static Runnable onSchedule(Runnable task) {
+        Function<Runnable, Runnable> f = onSchedule;
+        return f != null ? apply(f, task, "schedule") : task;
+    }
+
+    /**
+     * Applies the assembly hook.
+     * @param source The assembled Observable
+     * @param <T> The type of items being emitted
+     * @return the Observable to return instead
+     */
+    public static <T> Observable<T> onAssembly(Observable<T> source) {
+        Function<Observable, Observable> f = onObservableAssembly;
+        return f != null ? apply(f, source, "assembly") : source;
+    }
+
+    /**
+     * Applies the ConnectableObservable assembly hook.
+     * @param source The assembled ConnectableObservable
+     * @param <T> The type of items being emitted
+     * @return the ConnectableObservable to return instead
+     */
+    public static <T> ConnectableObservable<T> onAssembly(ConnectableObservable<T> source) {
+        Function<ConnectableObservable, ConnectableObservable> f = onConnectableAssembly;
+        return f != null ? apply(f, source, "assembly") : source;
+    }
+
+    /**
+     * Applies the ParallelObservable assembly hook.
+     * @param source The assembled ParallelObservable
+     * @param <T> The type of items being processed
+     * @return the ParallelObservable to return instead
+     */
+    public static <T> ParallelObservable<T> onAssembly(ParallelObservable<T> source) {
+        Function<ParallelObservable, ParallelObservable> f = onParallelAssembly;
+        return f != null ? apply(f, source, "assembly") : source;
+    }
+
+    /**
+     * Applies the IntObservable assembly hook.
+     * @param source The assembled IntObservable
+     * @return the IntObservable to return instead
+     */
+    public static IntObservable onAssembly(IntObservable source) {
+        Function<IntObservable, IntObservable> f = onIntAssembly;
+        return f != null ? apply(f, source, "assembly") : source;
+    }
+
+    /**
+     * Applies the LongObservable assembly hook.
+     * @param source The assembled LongObservable
+     * @return the LongObservable to return instead
+     */
+    public static LongObservable onAssembly(LongObservable source) {
+        Function<LongObservable, LongObservable> f = onLongAssembly;
+        return f != null ? apply(f, source, "assembly") : source;
+    }
+
+    /**
+     * Applies the DoubleObservable assembly hook.
+     * @param source The assembled DoubleObservable
+     * @return the DoubleObservable to return instead
+     */
+    public static DoubleObservable onAssembly(DoubleObservable source) {
+        Function<DoubleObservable, DoubleObservable> f = onDoubleAssembly;
+        return f != null ? apply(f, source, "assembly") : source;
+    }
+
+    /**
+     * Applies the subscribe hook.
+     * @param source The Observable being subscribed to
+     * @param observer The subscribing Observer
+     * @param <T> The type of items being observed
+     * @return the Observer to subscribe instead
+     */
+    public static <T> Observer<T> onSubscribe(Observable<T> source, Observer<T> observer) {
+        BiFunction<Observable, Observer, Observer> f = onObservableSubscribe;
+        if (f == null) {
+            return observer;
+        }
+        Observer<T> result = f.apply(source, observer);
+        if (result == null) {
+            throw new NullPointerException("The subscribe hook returned a null Observer");
+        }
+        return result;
+    }
+
+    /**
+     * Applies the scheduler hook.
+     * @param kind The kind of shared Scheduler
+     * @param defaultScheduler The instance that would be returned without the hook
+     * @return the Scheduler to return instead
+     */
+    public static Scheduler onScheduler(String kind, Scheduler defaultScheduler) {
+        BiFunction<String, Scheduler, Scheduler> f = onScheduler;
+        if (f == null) {
+            return defaultScheduler;
+        }
+        Scheduler result = f.apply(kind, defaultScheduler);
+        if (result == null) {
+            throw new NullPointerException("The scheduler hook returned a null Scheduler");
+        }
+        return result;
+    }
+
+    private static <T, R> R apply(Function<T, R> f, T value, String hook) {
+        R result = f.apply(value);
+        if (result == null) {
+            throw new NullPointerException("The " + hook + " hook returned null");
+        }
+        return result;
+    }
+}
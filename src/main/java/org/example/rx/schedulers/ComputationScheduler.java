@@ -1,25 +1,95 @@
 package org.example.rx.schedulers;
 
 import org.example.rx.Scheduler;
+import org.example.rx.internal.schedulers.EventLoop;
+import org.example.rx.internal.schedulers.ExecutorWorker;
+import org.example.rx.internal.schedulers.SchedulerTimer;
+import org.example.rx.plugins.RxPlugins;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Scheduler that uses a fixed thread pool for computation operations.
+ * Scheduler that uses one event loop per processor for computation operations.
  * Similar to RxJava's Schedulers.computation().
+ * Each loop is a single thread with its own lock-free queue. Workers, and therefore
+ * observeOn subscriptions, are assigned to the loops round-robin and stay on their loop,
+ * which keeps their data in the same core's cache. With work-stealing enabled an idle
+ * loop takes tasks queued on busy ones, trading that locality for better balance.
  */
 public class ComputationScheduler implements Scheduler {
-    private final ExecutorService executor;
+    private final SchedulerStats stats = new SchedulerStats("ComputationScheduler");
+    private final EventLoop[] loops;
+    private final AtomicInteger next = new AtomicInteger();
+    private final SchedulerTimer timer = new SchedulerTimer("ComputationScheduler-timer");
 
     public ComputationScheduler() {
-        // Use number of available processors for the thread pool size
-        int processors = Runtime.getRuntime().availableProcessors();
-        this.executor = Executors.newFixedThreadPool(processors);
+        // Use number of available processors for the number of loops
+        this(Runtime.getRuntime().availableProcessors(), false);
+    }
+
+    /**
+     * Creates a Scheduler with the given number of event loops.
+     * @param parallelism The number of loops, at least 1
+     * @param workStealing Whether idle loops take tasks from the queues of busy ones
+     */
+    public ComputationScheduler(int parallelism, boolean workStealing) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism > 0 required but it was " + parallelism);
+        }
+        loops = new EventLoop[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            loops[i] = new EventLoop("ComputationScheduler-loop-" + i, i);
+        }
+        for (EventLoop loop : loops) {
+            if (workStealing) {
+                loop.setPeers(loops);
+            }
+            loop.start();
+        }
     }
 
     @Override
     public void execute(Runnable task) {
-        executor.execute(task);
+        stats.execute(nextLoop(), RxPlugins.onSchedule(task));
+    }
+
+    @Override
+    public Worker createWorker() {
+        EventLoop loop = nextLoop();
+        return new ExecutorWorker(task -> stats.execute(loop, task), timer.get());
+    }
+
+    @Override
+    public SchedulerStats stats() {
+        return stats;
+    }
+
+    @Override
+    public void shutdown() {
+        stats.unregisterMBean();
+        timer.shutdown();
+        for (EventLoop loop : loops) {
+            loop.shutdown();
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (EventLoop loop : loops) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0L) {
+                TimeUnit.NANOSECONDS.timedJoin(loop, remaining);
+            }
+            if (loop.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private EventLoop nextLoop() {
+        return loops[Math.floorMod(next.getAndIncrement(), loops.length)];
     }
-} 
\ No newline at end of file
+}
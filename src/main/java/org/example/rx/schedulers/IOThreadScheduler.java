@@ -1,23 +1,52 @@
 package org.example.rx.schedulers;
 
 import org.example.rx.Scheduler;
+import org.example.rx.internal.schedulers.ExecutorWorker;
+import org.example.rx.internal.schedulers.NamedThreadFactory;
+import org.example.rx.internal.schedulers.SchedulerTimer;
+import org.example.rx.plugins.RxPlugins;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Scheduler that uses a cached thread pool for I/O operations.
  * Similar to RxJava's Schedulers.io().
  */
 public class IOThreadScheduler implements Scheduler {
+    private final SchedulerStats stats = new SchedulerStats("IOThreadScheduler");
     private final ExecutorService executor;
+    private final SchedulerTimer timer = new SchedulerTimer("IOThreadScheduler-timer");
 
     public IOThreadScheduler() {
-        this.executor = Executors.newCachedThreadPool();
+        this.executor = Executors.newCachedThreadPool(new NamedThreadFactory("IOThreadScheduler"));
     }
 
     @Override
     public void execute(Runnable task) {
-        executor.execute(task);
+        stats.execute(executor, RxPlugins.onSchedule(task));
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Worker createWorker() {
+        return new ExecutorWorker(task -> stats.execute(executor, task), timer.get());
+    }
+
+    @Override
+    public SchedulerStats stats() {
+        return stats;
+    }
+
+    @Override
+    public void shutdown() {
+        stats.unregisterMBean();
+        timer.shutdown();
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,226 @@
+package org.example.rx.schedulers;
+
+import org.example.rx.internal.jfr.SchedulerTaskEvent;
+import org.example.rx.metrics.LatencySnapshot;
+import org.example.rx.metrics.LogLinearHistogram;
+
+import jdk.jfr.EventType;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live statistics of a Scheduler, gathered by wrapping every task handed to its threads.
+ * A Worker hands its whole drain loop over as one task, so a burst of Worker tasks counts once.
+ * {@link #registerMBean()} publishes them under {@code org.example.rx:type=Scheduler,name=<name>},
+ * and each task is also recorded as an {@code org.example.rx.SchedulerTask} JFR event.
+ * <p>
+ * Gathering is opt-in for all Schedulers, see {@link #enable()}: while disabled the statistics stay
+ * where they were. The JFR event only depends on the recording, so tasks are handed over unwrapped
+ * when neither is on, at the cost of two volatile reads per task.
+ */
+public final class SchedulerStats implements SchedulerStatsMXBean {
+    private static final AtomicInteger IDS = new AtomicInteger();
+    private static final SchedulerStats NONE = new SchedulerStats("none");
+    private static final EventType TASK_EVENT = EventType.getEventType(SchedulerTaskEvent.class);
+
+    private static volatile boolean enabled;
+
+    private final String name;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final LogLinearHistogram waitTime = new LogLinearHistogram();
+    private final LogLinearHistogram runTime = new LogLinearHistogram();
+
+    /**
+     * Creates the statistics of one Scheduler instance.
+     * @param schedulerName The kind of Scheduler, made unique with a sequence number
+     */
+    public SchedulerStats(String schedulerName) {
+        this.name = schedulerName + "-" + IDS.incrementAndGet();
+    }
+
+    /**
+     * Starts gathering statistics for the tasks submitted from now on, on every Scheduler.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stops gathering statistics; tasks already wrapped are still recorded when they run.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * @return true if statistics are being gathered
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the statistics of Schedulers that don't gather any, which stay at zero.
+     * @return The shared instance
+     */
+    public static SchedulerStats none() {
+        return NONE;
+    }
+
+    /**
+     * Hands a task to an executor, recording its wait and run times if statistics are enabled
+     * and its JFR event if a recording has it enabled.
+     * @param executor The executor of the Scheduler
+     * @param task The task to run
+     * @throws RejectedExecutionException if the executor rejects the task, which is then not counted
+     */
+    public void execute(Executor executor, Runnable task) {
+        boolean gather = enabled;
+        if (!gather && !TASK_EVENT.isEnabled()) {
+            executor.execute(task);
+            return;
+        }
+        if (gather) {
+            submitted.increment();
+        }
+        try {
+            executor.execute(new TimedTask(task, gather, System.nanoTime()));
+        } catch (RejectedExecutionException e) {
+            if (gather) {
+                submitted.decrement();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getSubmittedTasks() {
+        return submitted.sum();
+    }
+
+    @Override
+    public long getCompletedTasks() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getQueueSize() {
+        return Math.max(0L, submitted.sum() - started.sum());
+    }
+
+    @Override
+    public int getActiveThreads() {
+        return active.get();
+    }
+
+    @Override
+    public int getPeakThreads() {
+        return peak.get();
+    }
+
+    @Override
+    public LatencySnapshot getWaitTime() {
+        return waitTime.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getRunTime() {
+        return runTime.snapshot();
+    }
+
+    /**
+     * Registers these statistics in the platform MBean server. Does nothing if already registered.
+     */
+    public void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName());
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register the scheduler MBean", e);
+        }
+    }
+
+    /**
+     * Removes the MBean registered by {@link #registerMBean()}, if any.
+     */
+    public void unregisterMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName());
+        } catch (InstanceNotFoundException e) {
+            // Not registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to unregister the scheduler MBean", e);
+        }
+    }
+
+    /**
+     * Returns the JMX name of these statistics.
+     * @return {@code org.example.rx:type=Scheduler,name=<name>}
+     */
+    public ObjectName objectName() {
+        try {
+            return new ObjectName("org.example.rx:type=Scheduler,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    final class TimedTask implements Runnable {
+        private final Runnable task;
+        private final boolean gather;
+        private final long submittedAt;
+
+        TimedTask(Runnable task, boolean gather, long submittedAt) {
+            this.task = task;
+            this.gather = gather;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public void run() {
+            SchedulerTaskEvent event = new SchedulerTaskEvent();
+            event.begin();
+            long start = System.nanoTime();
+            if (gather) {
+                waitTime.record(start - submittedAt);
+                started.increment();
+                int running = active.incrementAndGet();
+                if (running > peak.get()) {
+                    peak.accumulateAndGet(running, Math::max);
+                }
+            }
+            try {
+                task.run();
+            } finally {
+                if (gather) {
+                    active.decrementAndGet();
+                    runTime.record(System.nanoTime() - start);
+                    completed.increment();
+                }
+                if (event.shouldCommit()) {
+                    event.scheduler = name;
+                    event.queueTime = start - submittedAt;
+                    event.commit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.rx.schedulers;
+
+import org.example.rx.metrics.LatencySnapshot;
+
+/**
+ * JMX view of a Scheduler's {@link SchedulerStats}.
+ */
+public interface SchedulerStatsMXBean {
+    /**
+     * @return the name the Scheduler is registered under
+     */
+    String getName();
+
+    /**
+     * @return the number of tasks handed to the Scheduler's threads
+     */
+    long getSubmittedTasks();
+
+    /**
+     * @return the number of tasks that finished running, normally or not
+     */
+    long getCompletedTasks();
+
+    /**
+     * @return the number of tasks waiting for a thread
+     */
+    long getQueueSize();
+
+    /**
+     * @return the number of threads currently running a task
+     */
+    int getActiveThreads();
+
+    /**
+     * @return the highest number of threads that ran tasks at the same time
+     */
+    int getPeakThreads();
+
+    /**
+     * @return the time tasks spent waiting for a thread, in nanoseconds
+     */
+    LatencySnapshot getWaitTime();
+
+    /**
+     * @return the time tasks spent running, in nanoseconds
+     */
+    LatencySnapshot getRunTime();
+}
@@ -0,0 +1,161 @@
+package org.example.rx.schedulers;
+
+import org.example.rx.Scheduler;
+import org.example.rx.plugins.RxPlugins;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared Scheduler instances, created on first use and backed by daemon threads.
+ * Prefer these over creating a Scheduler per pipeline: each new Scheduler owns its own threads.
+ * {@link #shutdown()} stops every shared instance created so far; the accessors then fail
+ * until {@link #start()} is called, after which fresh instances are created on demand.
+ * A scheduler hook installed with {@link RxPlugins#setSchedulerHandler} can substitute the returned instances.
+ */
+public final class Schedulers {
+    private static volatile Scheduler computation;
+    private static volatile Scheduler io;
+    private static volatile Scheduler single;
+    private static volatile Scheduler virtual;
+    // Guarded by Schedulers.class
+    private static boolean shutdown;
+    private static final List<Scheduler> terminating = new ArrayList<>();
+
+    private Schedulers() {
+        throw new IllegalStateException("No instances!");
+    }
+
+    /**
+     * Returns the shared Scheduler for CPU-bound work, see {@link ComputationScheduler}.
+     * @return The computation Scheduler
+     */
+    public static Scheduler computation() {
+        Scheduler s = computation;
+        if (s == null) {
+            synchronized (Schedulers.class) {
+                s = computation;
+                if (s == null) {
+                    checkRunning();
+                    s = new ComputationScheduler();
+                    computation = s;
+                }
+            }
+        }
+        return RxPlugins.onScheduler("computation", s);
+    }
+
+    /**
+     * Returns the shared Scheduler for blocking I/O, see {@link IOThreadScheduler}.
+     * @return The I/O Scheduler
+     */
+    public static Scheduler io() {
+        Scheduler s = io;
+        if (s == null) {
+            synchronized (Schedulers.class) {
+                s = io;
+                if (s == null) {
+                    checkRunning();
+                    s = new IOThreadScheduler();
+                    io = s;
+                }
+            }
+        }
+        return RxPlugins.onScheduler("io", s);
+    }
+
+    /**
+     * Returns the shared single-threaded Scheduler, see {@link SingleThreadScheduler}.
+     * @return The single Scheduler
+     */
+    public static Scheduler single() {
+        Scheduler s = single;
+        if (s == null) {
+            synchronized (Schedulers.class) {
+                s = single;
+                if (s == null) {
+                    checkRunning();
+                    s = new SingleThreadScheduler();
+                    single = s;
+                }
+            }
+        }
+        return RxPlugins.onScheduler("single", s);
+    }
+
+    /**
+     * Returns the shared Scheduler running every task on its own virtual thread, see {@link VirtualThreadScheduler}.
+     * @return The virtual thread Scheduler
+     */
+    public static Scheduler virtual() {
+        Scheduler s = virtual;
+        if (s == null) {
+            synchronized (Schedulers.class) {
+                s = virtual;
+                if (s == null) {
+                    checkRunning();
+                    s = new VirtualThreadScheduler();
+                    virtual = s;
+                }
+            }
+        }
+        return RxPlugins.onScheduler("virtual", s);
+    }
+
+    /**
+     * Allows the shared Schedulers to be created again after {@link #shutdown()}.
+     * Does nothing if they are running.
+     */
+    public static synchronized void start() {
+        shutdown = false;
+    }
+
+    /**
+     * Shuts down every shared Scheduler created so far. Tasks already submitted still run.
+     */
+    public static synchronized void shutdown() {
+        shutdown = true;
+        Scheduler[] current = { computation, io, single, virtual };
+        computation = null;
+        io = null;
+        single = null;
+        virtual = null;
+        for (Scheduler s : current) {
+            if (s != null) {
+                s.shutdown();
+                terminating.add(s);
+            }
+        }
+    }
+
+    /**
+     * Blocks until the Schedulers stopped by {@link #shutdown()} have run all their tasks, or the timeout elapses.
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     * @return true if all of them terminated, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        List<Scheduler> pending;
+        synchronized (Schedulers.class) {
+            pending = new ArrayList<>(terminating);
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Scheduler s : pending) {
+            if (!s.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+            synchronized (Schedulers.class) {
+                terminating.remove(s);
+            }
+        }
+        return true;
+    }
+
+    private static void checkRunning() {
+        if (shutdown) {
+            throw new IllegalStateException("Schedulers have been shut down, call Schedulers.start() first");
+        }
+    }
+}
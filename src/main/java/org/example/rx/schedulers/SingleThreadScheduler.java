@@ -1,23 +1,49 @@
 package org.example.rx.schedulers;
 
 import org.example.rx.Scheduler;
+import org.example.rx.internal.schedulers.ExecutorWorker;
+import org.example.rx.internal.schedulers.NamedThreadFactory;
+import org.example.rx.plugins.RxPlugins;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Scheduler that uses a single thread for sequential operations.
  * Similar to RxJava's Schedulers.single().
  */
 public class SingleThreadScheduler implements Scheduler {
-    private final ExecutorService executor;
+    private final SchedulerStats stats = new SchedulerStats("SingleThreadScheduler");
+    private final ScheduledThreadPoolExecutor executor;
 
     public SingleThreadScheduler() {
-        this.executor = Executors.newSingleThreadExecutor();
+        this.executor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("SingleThreadScheduler"));
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
     }
 
     @Override
     public void execute(Runnable task) {
-        executor.execute(task);
+        stats.execute(executor, RxPlugins.onSchedule(task));
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Worker createWorker() {
+        return new ExecutorWorker(task -> stats.execute(executor, task), executor);
+    }
+
+    @Override
+    public SchedulerStats stats() {
+        return stats;
+    }
+
+    @Override
+    public void shutdown() {
+        stats.unregisterMBean();
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+}
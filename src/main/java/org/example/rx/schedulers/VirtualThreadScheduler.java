@@ -0,0 +1,76 @@
+package org.example.rx.schedulers;
+
+import org.example.rx.Scheduler;
+import org.example.rx.internal.schedulers.ExecutorWorker;
+import org.example.rx.internal.schedulers.NamedThreadFactory;
+import org.example.rx.internal.schedulers.SchedulerTimer;
+import org.example.rx.plugins.RxPlugins;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler that runs every task on its own virtual thread, for blocking I/O sources
+ * that need to scale far beyond the number of platform threads.
+ * On a JDK without virtual threads it falls back to a cached pool of daemon platform threads,
+ * which behaves like {@link IOThreadScheduler}.
+ */
+public class VirtualThreadScheduler implements Scheduler {
+    private final SchedulerStats stats = new SchedulerStats("VirtualThreadScheduler");
+    private final ExecutorService executor;
+    private final boolean virtual;
+    private final SchedulerTimer timer = new SchedulerTimer("VirtualThreadScheduler-timer");
+
+    public VirtualThreadScheduler() {
+        ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+        this.virtual = virtualExecutor != null;
+        this.executor = virtual ? virtualExecutor : Executors.newCachedThreadPool(new NamedThreadFactory("VirtualThreadScheduler-fallback"));
+    }
+
+    /**
+     * Tells whether the tasks run on virtual threads or on the platform thread fallback.
+     * @return true if virtual threads are supported by the running JDK
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        stats.execute(executor, RxPlugins.onSchedule(task));
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new ExecutorWorker(task -> stats.execute(executor, task), timer.get());
+    }
+
+    @Override
+    public SchedulerStats stats() {
+        return stats;
+    }
+
+    @Override
+    public void shutdown() {
+        stats.unregisterMBean();
+        timer.shutdown();
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    // Looked up reflectively so the library still compiles and runs on JDKs before 21
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package org.example.rx;
 
-import org.example.rx.schedulers.ComputationScheduler;
-import org.example.rx.schedulers.IOThreadScheduler;
+import org.example.rx.schedulers.Schedulers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -126,7 +126,7 @@ class AdvancedScenariosTest {
             observer.onNext(1);
             observer.onComplete();
         })
-        .subscribeOn(new IOThreadScheduler())
+        .subscribeOn(Schedulers.io())
         .subscribe(
             item -> {},
             error -> fail("Unexpected error"),
@@ -234,7 +234,7 @@ class AdvancedScenariosTest {
         Observable.<Integer>create(observer -> {
             throw new IllegalStateException(errorMessage);
         })
-        .subscribeOn(new IOThreadScheduler())
+        .subscribeOn(Schedulers.io())
         .map(x -> {
             throw new RuntimeException("Should not reach here");
         })
@@ -272,14 +272,14 @@ class AdvancedScenariosTest {
             observer.onComplete();
         });
 
-        source.subscribeOn(new IOThreadScheduler())
+        source.subscribeOn(Schedulers.io())
             .subscribe(
                 item -> totalReceived.incrementAndGet(),
                 error -> fail("Unexpected error"),
                 () -> latch.countDown()
             );
 
-        source.subscribeOn(new ComputationScheduler())
+        source.subscribeOn(Schedulers.computation())
             .subscribe(
                 item -> totalReceived.incrementAndGet(),
                 error -> fail("Unexpected error"),
@@ -289,4 +289,111 @@ class AdvancedScenariosTest {
         assertTrue(latch.await(2, TimeUnit.SECONDS));
         assertEquals(expectedPerSubscription * 2, totalReceived.get());
     }
-} 
\ No newline at end of file
+
+    /**
+     * Тест проверяет завершение flatMap с асинхронными внутренними Observable
+     * - Каждый внутренний Observable эмитит значение с задержкой в отдельном потоке
+     * - Проверяется, что получены все значения, включая пришедшие после завершения внешнего потока
+     * - Проверяется, что onComplete вызывается после последнего значения
+     */
+    @Test
+    void testFlatMapWaitsForAsyncInners() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> receivedValues = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger receivedAtCompletion = new AtomicInteger(-1);
+        Scheduler scheduler = Schedulers.io();
+
+        Observable.<Integer>create(observer -> {
+            for (int i = 0; i < 5; i++) {
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        })
+        .flatMap(x -> Observable.<Integer>create(observer -> {
+            Thread.sleep(50);
+            observer.onNext(x * 10);
+            observer.onComplete();
+        }).subscribeOn(scheduler))
+        .subscribe(
+            item -> receivedValues.add(item),
+            error -> fail("Unexpected error"),
+            () -> {
+                receivedAtCompletion.set(receivedValues.size());
+                latch.countDown();
+            }
+        );
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(5, receivedAtCompletion.get());
+        assertTrue(receivedValues.containsAll(List.of(0, 10, 20, 30, 40)));
+    }
+
+    /**
+     * Тест проверяет ограничение параллелизма flatMap
+     * - Создается 20 внутренних Observable на IOThreadScheduler
+     * - Одновременно разрешено не более 3 активных внутренних Observable
+     * - Проверяется, что ограничение соблюдается и все значения получены
+     */
+    @Test
+    void testFlatMapMaxConcurrency() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger(0);
+        AtomicInteger maxActive = new AtomicInteger(0);
+        AtomicInteger receivedCount = new AtomicInteger(0);
+        Scheduler scheduler = Schedulers.io();
+
+        Observable.<Integer>create(observer -> {
+            for (int i = 0; i < 20; i++) {
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        })
+        .flatMap(x -> Observable.<Integer>create(observer -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            active.decrementAndGet();
+            observer.onNext(x);
+            observer.onComplete();
+        }).subscribeOn(scheduler), 3, 16)
+        .subscribe(
+            item -> receivedCount.incrementAndGet(),
+            error -> fail("Unexpected error"),
+            () -> latch.countDown()
+        );
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(20, receivedCount.get());
+        assertTrue(maxActive.get() <= 3, "Too many concurrent inners: " + maxActive.get());
+    }
+
+    /**
+     * Тест проверяет, что flatMap не теряет значения при гонке завершения внутренних Observable
+     * - Внутренние Observable эмитят и завершаются в разных потоках, пока другой эмитит
+     * - Проверяется, что в каждом раунде получены все значения и onComplete вызывается
+     */
+    @Test
+    void testFlatMapKeepsItemsOfInnersCompletingDuringDrain() throws InterruptedException {
+        int inners = 4;
+        int count = 50;
+        for (int round = 0; round < 500; round++) {
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicInteger receivedCount = new AtomicInteger(0);
+
+            Observable.range(0, inners)
+                .flatMap(x -> Observable.<Integer>create(observer -> {
+                    for (int i = 0; i < count; i++) {
+                        observer.onNext(i);
+                    }
+                    observer.onComplete();
+                }).subscribeOn(Schedulers.computation()))
+                .subscribe(
+                    item -> receivedCount.incrementAndGet(),
+                    error -> fail("Unexpected error"),
+                    () -> latch.countDown()
+                );
+
+            assertTrue(latch.await(2, TimeUnit.SECONDS), "Completion lost in round " + round);
+            assertEquals(inners * count, receivedCount.get(), "Items lost in round " + round);
+        }
+    }
+}
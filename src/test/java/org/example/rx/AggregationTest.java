@@ -0,0 +1,83 @@
+package org.example.rx;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AggregationTest {
+    private static <T> List<T> collect(Observable<T> source) {
+        List<T> received = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        source.subscribe(received::add, error::set, () -> { });
+        assertNull(error.get());
+        return received;
+    }
+
+    @Test
+    void testScan() {
+        assertEquals(List.of(1, 3, 6, 10), collect(Observable.range(1, 4).scan(Integer::sum)));
+        assertEquals(List.of("", "a", "ab"), collect(Observable.fromArray("a", "b").scan("", (s, x) -> s + x)));
+        assertEquals(List.of(0), collect(Observable.<Integer>empty().scan(0, Integer::sum)));
+        assertEquals(List.of(), collect(Observable.<Integer>empty().scan(Integer::sum)));
+    }
+
+    @Test
+    void testReduce() {
+        assertEquals(List.of(5050), collect(Observable.range(1, 100).reduce(Integer::sum)));
+        assertEquals(List.of(), collect(Observable.<Integer>empty().reduce(Integer::sum)));
+        assertEquals(List.of(5050L), collect(Observable.range(1, 100).reduce(0L, (sum, i) -> sum + i)));
+        assertEquals(List.of(7L), collect(Observable.<Integer>empty().reduce(7L, (sum, i) -> sum + i)));
+    }
+
+    @Test
+    void testCollectCountToList() {
+        assertEquals(List.of(new TreeSet<>(List.of(1, 2, 3))),
+            collect(Observable.fromArray(3, 1, 2, 1).collect(TreeSet::new, TreeSet::add)));
+        assertEquals(List.of(1_000_000L), collect(Observable.range(0, 1_000_000).count()));
+        assertEquals(List.of(0L), collect(Observable.empty().count()));
+        assertEquals(List.of(List.of(1, 2, 3)), collect(Observable.range(1, 3).toList(3)));
+        assertEquals(List.of(List.of()), collect(Observable.empty().toList()));
+    }
+
+    @Test
+    void testEachSubscriptionGetsItsOwnState() {
+        Observable<List<Integer>> list = Observable.range(1, 2).toList();
+        Observable<Integer> scan = Observable.range(1, 2).scan(Integer::sum);
+
+        assertEquals(List.of(List.of(1, 2)), collect(list));
+        assertEquals(List.of(List.of(1, 2)), collect(list));
+        assertEquals(List.of(1, 3), collect(scan));
+        assertEquals(List.of(1, 3), collect(scan));
+    }
+
+    @Test
+    void testFailingFunctionsEndWithError() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Integer> received = new ArrayList<>();
+
+        Observable.range(1, 5).scan((a, b) -> {
+            if (b == 3) {
+                throw new IllegalStateException("Failure");
+            }
+            return a + b;
+        }).subscribe(received::add, error::set, () -> fail("Unexpected completion"));
+        assertEquals(List.of(1, 3), received);
+        assertEquals("Failure", error.get().getMessage());
+
+        error.set(null);
+        Observable.range(1, 5).collect(ArrayList::new, (list, i) -> {
+            throw new IllegalStateException("Failure");
+        }).subscribe(list -> fail("Unexpected item"), error::set, () -> fail("Unexpected completion"));
+        assertEquals("Failure", error.get().getMessage());
+
+        error.set(null);
+        Observable.range(1, 5).collect(() -> null, (list, i) -> { })
+            .subscribe(list -> fail("Unexpected item"), error::set, () -> fail("Unexpected completion"));
+        assertTrue(error.get() instanceof NullPointerException);
+    }
+}
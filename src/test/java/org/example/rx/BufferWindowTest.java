@@ -0,0 +1,262 @@
+package org.example.rx;
+
+import org.example.rx.schedulers.Schedulers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BufferWindowTest {
+    private static <T> List<T> await(Observable<T> source) throws InterruptedException {
+        List<T> received = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        source.subscribe(received::add, e -> {
+            error.set(e);
+            latch.countDown();
+        }, latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNull(error.get());
+        return received;
+    }
+
+    // Emits 1, 2, 3, pauses well beyond the timespans used below, then emits 4 and completes
+    private static Observable<Integer> withPause() {
+        return Observable.<Integer>create(emitter -> {
+            emitter.onNext(1);
+            emitter.onNext(2);
+            emitter.onNext(3);
+            Thread.sleep(300);
+            emitter.onNext(4);
+            emitter.onComplete();
+        }).subscribeOn(Schedulers.io());
+    }
+
+    private static <T> Observable<List<T>> collectWindows(Observable<Observable<T>> windows) {
+        return Observable.create(emitter -> {
+            List<List<T>> lists = Collections.synchronizedList(new ArrayList<>());
+            List<CountDownLatch> closed = Collections.synchronizedList(new ArrayList<>());
+            windows.subscribe(window -> {
+                List<T> list = Collections.synchronizedList(new ArrayList<>());
+                CountDownLatch latch = new CountDownLatch(1);
+                lists.add(list);
+                closed.add(latch);
+                window.subscribe(list::add, emitter::onError, latch::countDown);
+            }, emitter::onError, () -> {
+                for (int i = 0; i < lists.size(); i++) {
+                    try {
+                        assertTrue(closed.get(i).await(1, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        emitter.onError(e);
+                        return;
+                    }
+                    emitter.onNext(lists.get(i));
+                }
+                emitter.onComplete();
+            });
+        });
+    }
+
+    // Counts the periodic tasks scheduled on its Workers that were not disposed yet
+    static final class PeriodicCountingScheduler implements Scheduler {
+        final AtomicInteger live = new AtomicInteger();
+        final AtomicInteger scheduled = new AtomicInteger();
+        private final Scheduler actual = Schedulers.computation();
+
+        @Override
+        public void execute(Runnable task) {
+            actual.execute(task);
+        }
+
+        @Override
+        public Worker createWorker() {
+            Worker w = actual.createWorker();
+            return new Worker() {
+                @Override
+                public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+                    return w.schedule(task, delay, unit);
+                }
+
+                @Override
+                public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+                    Disposable d = w.schedulePeriodically(task, initialDelay, period, unit);
+                    scheduled.incrementAndGet();
+                    live.incrementAndGet();
+                    AtomicBoolean once = new AtomicBoolean();
+                    return new Disposable() {
+                        @Override
+                        public void dispose() {
+                            if (once.compareAndSet(false, true)) {
+                                live.decrementAndGet();
+                            }
+                            d.dispose();
+                        }
+
+                        @Override
+                        public boolean isDisposed() {
+                            return d.isDisposed();
+                        }
+                    };
+                }
+
+                @Override
+                public void dispose() {
+                    w.dispose();
+                }
+
+                @Override
+                public boolean isDisposed() {
+                    return w.isDisposed();
+                }
+            };
+        }
+    }
+
+    @Test
+    void testFullBatchesCancelTheirTimer() {
+        for (int i = 0; i < 2; i++) {
+            PeriodicCountingScheduler scheduler = new PeriodicCountingScheduler();
+            AtomicReference<ObservableEmitter<Integer>> source = new AtomicReference<>();
+            Observable<Integer> upstream = Observable.create(source::set);
+            Observable<?> timed = i == 0
+                ? upstream.buffer(1, TimeUnit.HOURS, scheduler, 10)
+                : upstream.window(1, TimeUnit.HOURS, scheduler, 10);
+            Disposable d = timed.subscribe(item -> { }, error -> fail("Unexpected error"), () -> { });
+
+            for (int j = 0; j < 1000; j++) {
+                source.get().onNext(j);
+            }
+
+            assertEquals(101, scheduler.scheduled.get());
+            assertEquals(1, scheduler.live.get());
+            d.dispose();
+        }
+    }
+
+    @Test
+    void testBufferCount() throws InterruptedException {
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7)), await(Observable.range(1, 7).buffer(3)));
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4)), await(Observable.range(1, 4).buffer(2)));
+        assertEquals(List.of(), await(Observable.<Integer>empty().buffer(2)));
+        assertThrows(IllegalArgumentException.class, () -> Observable.range(1, 4).buffer(0));
+        // A huge count doesn't allocate its whole list up front
+        assertEquals(List.of(List.of(1, 2, 3)), await(Observable.range(1, 3).buffer(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    void testTimedBufferClosesOnMaxSize() throws InterruptedException {
+        assertEquals(List.of(List.of(1, 2, 3, 4), List.of(5, 6, 7, 8), List.of(9, 10)),
+            await(Observable.range(1, 10).buffer(1, TimeUnit.HOURS, 4)));
+        assertEquals(List.of(List.of(1, 2, 3)), await(Observable.range(1, 3).buffer(1, TimeUnit.HOURS, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    void testTimedBufferClosesOnTimeWithoutEmptyLists() throws InterruptedException {
+        // Several timespans pass during the pause, none of them emits an empty list
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4)), await(withPause().buffer(50, TimeUnit.MILLISECONDS, 100)));
+    }
+
+    @Test
+    void testTimedBufferKeepsOrderUnderTimerRaces() throws InterruptedException {
+        int count = 200_000;
+        Observable<Integer> source = Observable.<Integer>create(emitter -> {
+            for (int i = 0; i < count; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        }).subscribeOn(Schedulers.io());
+
+        // A 1 ms timespan makes ticks race with full batches and with completion
+        List<Integer> flattened = new ArrayList<>(count);
+        for (List<Integer> batch : await(source.buffer(1, TimeUnit.MILLISECONDS, Schedulers.computation(), 7))) {
+            flattened.addAll(batch);
+        }
+
+        assertEquals(count, flattened.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, flattened.get(i));
+        }
+    }
+
+    @Test
+    void testTimedBufferError() throws InterruptedException {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        List<List<Integer>> received = new ArrayList<>();
+
+        Observable.<Integer>create(emitter -> {
+            emitter.onNext(1);
+            emitter.onNext(2);
+            emitter.onError(new IllegalStateException("Failure"));
+        }).buffer(1, TimeUnit.HOURS, 2).subscribe(received::add, e -> {
+            error.set(e);
+            latch.countDown();
+        }, () -> fail("Unexpected completion"));
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1, 2)), received);
+        assertEquals("Failure", error.get().getMessage());
+    }
+
+    @Test
+    void testDisposeStopsTimedBuffer() throws InterruptedException {
+        List<List<Integer>> received = Collections.synchronizedList(new ArrayList<>());
+        Disposable d = withPause().buffer(50, TimeUnit.MILLISECONDS, 100)
+            .subscribe(received::add, e -> fail(e), () -> fail("Unexpected completion"));
+
+        Thread.sleep(150);
+        d.dispose();
+        Thread.sleep(300);
+        assertEquals(List.of(List.of(1, 2, 3)), received);
+    }
+
+    @Test
+    void testWindowCount() throws InterruptedException {
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7)), await(collectWindows(Observable.range(1, 7).window(3))));
+        assertEquals(List.of(), await(collectWindows(Observable.<Integer>empty().window(2))));
+    }
+
+    @Test
+    void testTimedWindow() throws InterruptedException {
+        assertEquals(List.of(List.of(1, 2), List.of(3), List.of(4)), await(collectWindows(withPause().window(50, TimeUnit.MILLISECONDS, 2))));
+        assertEquals(List.of(List.of(1, 2, 3, 4), List.of(5)), await(collectWindows(Observable.range(1, 5).window(1, TimeUnit.HOURS, 4))));
+    }
+
+    @Test
+    void testDisposeCompletesOpenTimedWindow() {
+        AtomicReference<ObservableEmitter<Integer>> source = new AtomicReference<>();
+        List<Integer> items = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        Disposable d = Observable.<Integer>create(source::set)
+            .window(1, TimeUnit.HOURS, 10)
+            .subscribe(w -> w.subscribe(items::add, e -> fail(e), () -> completed.set(true)),
+                e -> fail(e), () -> fail("Unexpected completion"));
+
+        source.get().onNext(1);
+        source.get().onNext(2);
+        d.dispose();
+
+        assertEquals(List.of(1, 2), items);
+        assertTrue(completed.get());
+        assertTrue(source.get().isDisposed());
+    }
+
+    @Test
+    void testWindowAllowsSingleObserver() throws InterruptedException {
+        List<Observable<Integer>> windows = await(Observable.range(1, 2).window(2));
+        assertEquals(1, windows.size());
+        assertEquals(List.of(1, 2), await(windows.get(0)));
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        windows.get(0).subscribe(i -> fail("Unexpected item"), error::set, () -> fail("Unexpected completion"));
+        assertTrue(error.get() instanceof IllegalStateException);
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.rx;
+
+import org.example.rx.schedulers.Schedulers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheReplayTest {
+    private static <T> List<T> collect(Observable<T> source) {
+        List<T> received = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        source.subscribe(received::add, error::set, () -> { });
+        assertNull(error.get());
+        return received;
+    }
+
+    @Test
+    void testCacheRunsSourceOnce() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Observable<Integer> cached = Observable.<Integer>create(emitter -> {
+            subscriptions.incrementAndGet();
+            for (int i = 0; i < 100; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        }).cache(7);
+
+        assertEquals(0, subscriptions.get());
+        List<Integer> first = collect(cached);
+        List<Integer> second = collect(cached);
+
+        assertEquals(1, subscriptions.get());
+        assertEquals(100, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testCacheReplaysError() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Observable<Integer> cached = Observable.<Integer>create(emitter -> {
+            subscriptions.incrementAndGet();
+            emitter.onNext(1);
+            emitter.onError(new IllegalStateException("Source failure"));
+        }).cache();
+
+        for (int i = 0; i < 2; i++) {
+            List<Integer> received = new ArrayList<>();
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            cached.subscribe(received::add, error::set, () -> fail("Unexpected completion"));
+            assertEquals(List.of(1), received);
+            assertInstanceOf(IllegalStateException.class, error.get());
+        }
+        assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    void testLateObserversReplayWhileSourceRuns() throws InterruptedException {
+        int count = 100_000;
+        int observers = 4;
+        CountDownLatch started = new CountDownLatch(1);
+        Observable<Integer> cached = Observable.<Integer>create(emitter -> {
+            for (int i = 0; i < count; i++) {
+                emitter.onNext(i);
+                if (i == count / 2) {
+                    started.countDown();
+                }
+            }
+            emitter.onComplete();
+        }).subscribeOn(Schedulers.computation()).cache();
+
+        CountDownLatch latch = new CountDownLatch(observers);
+        List<List<Integer>> results = Collections.synchronizedList(new ArrayList<>());
+        for (int j = 0; j < observers; j++) {
+            List<Integer> received = new ArrayList<>();
+            cached.subscribe(received::add, error -> fail("Unexpected error"), () -> {
+                results.add(received);
+                latch.countDown();
+            });
+            if (j == 0) {
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (List<Integer> received : results) {
+            assertEquals(count, received.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, received.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testDisposingOneObserverKeepsTheOthers() {
+        List<Integer> emitted = new ArrayList<>();
+        AtomicReference<ObservableEmitter<Integer>> source = new AtomicReference<>();
+        Observable<Integer> cached = Observable.<Integer>create(source::set).cache();
+
+        Disposable first = cached.subscribe(emitted::add, error -> fail("Unexpected error"), () -> { });
+        List<Integer> second = new ArrayList<>();
+        cached.subscribe(second::add, error -> fail("Unexpected error"), () -> { });
+        source.get().onNext(1);
+        first.dispose();
+        source.get().onNext(2);
+
+        assertTrue(first.isDisposed());
+        assertFalse(source.get().isDisposed());
+        assertEquals(List.of(1), emitted);
+        assertEquals(List.of(1, 2), second);
+    }
+
+    @Test
+    void testReplayLatestItems() {
+        AtomicReference<ObservableEmitter<Integer>> source = new AtomicReference<>();
+        Observable<Integer> replayed = Observable.<Integer>create(source::set).replay(3);
+        List<Integer> early = new ArrayList<>();
+        replayed.subscribe(early::add, error -> fail("Unexpected error"), () -> { });
+
+        for (int i = 0; i < 50; i++) {
+            source.get().onNext(i);
+        }
+        List<Integer> late = new ArrayList<>();
+        replayed.subscribe(late::add, error -> fail("Unexpected error"), () -> { });
+        source.get().onNext(50);
+        source.get().onComplete();
+
+        assertEquals(51, early.size());
+        assertEquals(List.of(47, 48, 49, 50), late);
+        assertEquals(List.of(48, 49, 50), collect(replayed));
+        assertEquals(List.of(0, 1), collect(Observable.range(0, 2).replay(5)));
+    }
+
+    @Test
+    void testReplayRecentItems() throws InterruptedException {
+        AtomicReference<ObservableEmitter<Integer>> source = new AtomicReference<>();
+        Observable<Integer> replayed = Observable.<Integer>create(source::set).replay(100, TimeUnit.MILLISECONDS);
+        replayed.subscribe(item -> { }, error -> fail("Unexpected error"), () -> { });
+
+        for (int i = 0; i < 40; i++) {
+            source.get().onNext(i);
+        }
+        Thread.sleep(150);
+        source.get().onNext(40);
+        source.get().onNext(41);
+        source.get().onComplete();
+
+        assertEquals(List.of(40, 41), collect(replayed));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Observable<Integer> source = Observable.range(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> source.cache(0));
+        assertThrows(IllegalArgumentException.class, () -> source.replay(0));
+        assertThrows(IllegalArgumentException.class, () -> source.replay(0, TimeUnit.SECONDS));
+        assertThrows(NullPointerException.class, () -> source.replay(1, null));
+    }
+}
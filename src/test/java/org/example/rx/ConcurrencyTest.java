@@ -1,14 +1,14 @@
 package org.example.rx;
 
-import org.example.rx.schedulers.ComputationScheduler;
-import org.example.rx.schedulers.IOThreadScheduler;
-import org.example.rx.schedulers.SingleThreadScheduler;
+import org.example.rx.schedulers.Schedulers;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,7 +26,7 @@ class ConcurrencyTest {
             observer.onComplete();
             latch.countDown();
         })
-        .subscribeOn(new IOThreadScheduler())
+        .subscribeOn(Schedulers.io())
         .subscribe(
             item -> {},
             error -> fail("Unexpected error"),
@@ -47,7 +47,7 @@ class ConcurrencyTest {
             observer.onNext(1);
             observer.onComplete();
         })
-        .observeOn(new ComputationScheduler())
+        .observeOn(Schedulers.computation())
         .subscribe(
             item -> observationThread.set(Thread.currentThread().getName()),
             error -> fail("Unexpected error"),
@@ -62,7 +62,7 @@ class ConcurrencyTest {
     void testSingleThreadSchedulerSequentialExecution() throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(2);
         List<String> threadNames = new ArrayList<>();
-        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        Scheduler scheduler = Schedulers.single();
 
         Observable.create(observer -> {
             threadNames.add(Thread.currentThread().getName());
@@ -109,7 +109,7 @@ class ConcurrencyTest {
         });
 
         Disposable subscription1 = source
-            .subscribeOn(new IOThreadScheduler())
+            .subscribeOn(Schedulers.io())
             .subscribe(
                 item -> lastValue.set(item),
                 error -> fail("Unexpected error"),
@@ -117,7 +117,7 @@ class ConcurrencyTest {
             );
 
         Disposable subscription2 = source
-            .subscribeOn(new IOThreadScheduler())
+            .subscribeOn(Schedulers.io())
             .subscribe(
                 item -> {},
                 error -> fail("Unexpected error"),
@@ -142,10 +142,10 @@ class ConcurrencyTest {
             observer.onNext(1);
             throw new RuntimeException(errorMessage);
         })
-        .subscribeOn(new IOThreadScheduler())
-        .observeOn(new ComputationScheduler())
+        .subscribeOn(Schedulers.io())
+        .observeOn(Schedulers.computation())
         .subscribe(
-            item -> fail("Should not receive items after error"),
+            item -> assertEquals(1, item),  // Only the item emitted before the error
             error -> {
                 receivedError.set(error);
                 latch.countDown();
@@ -157,4 +157,39 @@ class ConcurrencyTest {
         assertNotNull(receivedError.get());
         assertEquals(errorMessage, receivedError.get().getMessage());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testObserveOnPreservesOrderOnMultiThreadScheduler() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> received = new ArrayList<>();
+        AtomicInteger concurrentCalls = new AtomicInteger(0);
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+        final int expectedCount = 10000;
+
+        Observable.<Integer>create(observer -> {
+            for (int i = 0; i < expectedCount; i++) {
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        })
+        .observeOn(Schedulers.computation())
+        .subscribe(
+            item -> {
+                if (concurrentCalls.incrementAndGet() > 1) {
+                    overlapped.set(true);
+                }
+                received.add(item);
+                concurrentCalls.decrementAndGet();
+            },
+            error -> fail("Unexpected error"),
+            () -> latch.countDown()
+        );
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertFalse(overlapped.get());
+        assertEquals(expectedCount, received.size());
+        for (int i = 0; i < expectedCount; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.rx;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.rx.schedulers.SingleThreadScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderTest {
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        recording.enable("org.example.rx.Subscription");
+        recording.enable("org.example.rx.ObserveOnDrain");
+        recording.enable("org.example.rx.SchedulerTask");
+        recording.enable("org.example.rx.FlatMap");
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    void testSubscriptionEvents() throws IOException {
+        Observable<Integer> source = Observable.create(emitter -> {
+            emitter.onNext(1);
+            emitter.onNext(2);
+            emitter.onComplete();
+        });
+        source.subscribe(item -> {}, error -> {}, () -> {});
+        Observable.<Integer>create(emitter -> emitter.onError(new IllegalStateException("Boom")))
+            .subscribe(item -> {}, error -> {}, () -> {});
+        Observable.<Integer>create(emitter -> {}).subscribe(item -> {}, error -> {}, () -> {}).dispose();
+
+        List<RecordedEvent> events = events("org.example.rx.Subscription");
+        assertEquals(List.of("complete", "error", "dispose"),
+            events.stream().map(e -> e.getString("outcome")).collect(Collectors.toList()));
+        assertEquals(2L, events.get(0).getLong("items"));
+        assertEquals(IllegalStateException.class.getName(), events.get(1).getClass("error").getName());
+        assertEquals("Boom", events.get(1).getString("errorMessage"));
+    }
+
+    @Test
+    void testObserveOnAndSchedulerEvents() throws Exception {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        CountDownLatch latch = new CountDownLatch(1);
+        Observable.<Integer>create(emitter -> {
+            for (int i = 0; i < 100; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        })
+        .observeOn(scheduler)
+        .subscribe(item -> {}, error -> fail("Unexpected error"), latch::countDown);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(1, TimeUnit.SECONDS));
+
+        List<RecordedEvent> drains = events("org.example.rx.ObserveOnDrain");
+        assertEquals(100L, drains.stream().mapToLong(e -> e.getLong("items")).sum());
+        assertTrue(drains.get(drains.size() - 1).getBoolean("terminated"));
+        List<RecordedEvent> tasks = events("org.example.rx.SchedulerTask");
+        assertFalse(tasks.isEmpty());
+        assertEquals(scheduler.stats().getName(), tasks.get(0).getString("scheduler"));
+        assertTrue(tasks.get(0).getLong("queueTime") >= 0L);
+        // The events only depend on the recording, the statistics stay off
+        assertEquals(0L, scheduler.stats().getSubmittedTasks());
+    }
+
+    @Test
+    void testFlatMapEvent() throws IOException {
+        Observable.<Integer>create(emitter -> {
+            for (int i = 0; i < 5; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        })
+        .flatMap(x -> Observable.<Integer>create(emitter -> {
+            emitter.onNext(x);
+            emitter.onComplete();
+        }), 2, Observable.bufferSize())
+        .subscribe(item -> {}, error -> fail("Unexpected error"), () -> {});
+
+        List<RecordedEvent> events = events("org.example.rx.FlatMap");
+        assertEquals(1, events.size());
+        assertEquals("complete", events.get(0).getString("outcome"));
+        assertEquals(5L, events.get(0).getLong("inners"));
+        assertEquals(1, events.get(0).getInt("peakActive"));
+        assertEquals(2, events.get(0).getInt("maxConcurrency"));
+    }
+
+    private List<RecordedEvent> events(String name) throws IOException {
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        Path file = Files.createTempFile("rx", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package org.example.rx;
+
+import org.example.rx.schedulers.Schedulers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowableTest {
+    @Test
+    void testRequestProtocol() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicInteger completed = new AtomicInteger();
+
+        Flowable.range(1, 10).subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail("Unexpected error");
+            }
+
+            @Override
+            public void onComplete() {
+                completed.incrementAndGet();
+            }
+        });
+
+        assertTrue(received.isEmpty());
+        subscription.get().request(3);
+        assertEquals(List.of(1, 2, 3), received);
+        subscription.get().request(7);
+        assertEquals(10, received.size());
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    void testMapAndFilter() {
+        List<Integer> received = new ArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+
+        Flowable.range(1, 10)
+            .filter(x -> x % 2 == 0)
+            .map(x -> x * 10)
+            .subscribe(
+                received::add,
+                error -> fail("Unexpected error"),
+                completed::incrementAndGet
+            );
+
+        assertEquals(List.of(20, 40, 60, 80, 100), received);
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    void testFilterReplenishesDroppedItems() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        Flowable.range(1, 100).filter(x -> x % 10 == 0).subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail("Unexpected error");
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        subscription.get().request(2);
+        assertEquals(List.of(10, 20), received);
+    }
+
+    @Test
+    void testCreateBufferWithSlowObserveOn() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger receivedCount = new AtomicInteger();
+        final int expectedCount = 1000;
+
+        Flowable.<Integer>create(emitter -> {
+            for (int i = 0; i < expectedCount; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        }, BackpressureStrategy.BUFFER)
+        .observeOn(Schedulers.computation(), 16)
+        .subscribe(
+            item -> receivedCount.incrementAndGet(),
+            error -> fail("Unexpected error"),
+            latch::countDown
+        );
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(expectedCount, receivedCount.get());
+    }
+
+    @Test
+    void testObserveOnBoundsOutstandingRequests() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicLong maxOutstanding = new AtomicLong();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+        Flowable.<Integer>create(emitter -> {
+            for (int i = 0; i < 500; i++) {
+                // Cooperative producer: wait until the downstream asks for more
+                while (emitter.requested() == 0 && !emitter.isCancelled()) {
+                    Thread.sleep(1);
+                }
+                long outstanding = emitter.requested();
+                maxOutstanding.accumulateAndGet(outstanding, Math::max);
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        }, BackpressureStrategy.ERROR)
+        .subscribeOn(Schedulers.io())
+        .observeOn(Schedulers.computation(), 32)
+        .subscribe(
+            received::add,
+            error -> fail("Unexpected error: " + error),
+            latch::countDown
+        );
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(500, received.size());
+        assertTrue(maxOutstanding.get() <= 32, "Outstanding demand exceeded the prefetch: " + maxOutstanding.get());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+
+    @Test
+    void testCreateDropStrategy() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<FlowableEmitter<Integer>> emitterRef = new AtomicReference<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        Flowable.<Integer>create(emitterRef::set, BackpressureStrategy.DROP).subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail("Unexpected error");
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        FlowableEmitter<Integer> emitter = emitterRef.get();
+        emitter.onNext(1);
+        subscription.get().request(2);
+        emitter.onNext(2);
+        emitter.onNext(3);
+        emitter.onNext(4);
+
+        assertEquals(List.of(2, 3), received);
+    }
+
+    @Test
+    void testCreateErrorStrategy() {
+        AtomicReference<Throwable> receivedError = new AtomicReference<>();
+
+        Flowable.<Integer>create(emitter -> emitter.onNext(1), BackpressureStrategy.ERROR)
+            .subscribe(new Subscriber<Integer>() {
+                @Override
+                public void onSubscribe(Subscription s) {
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    fail("Should not receive unrequested items");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    receivedError.set(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    fail("Should not complete");
+                }
+            });
+
+        assertTrue(receivedError.get() instanceof MissingBackpressureException);
+    }
+
+    @Test
+    void testFlatMapRespectsMaxConcurrency() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger receivedCount = new AtomicInteger();
+        Scheduler scheduler = Schedulers.io();
+
+        Flowable.range(0, 20)
+            .flatMap(x -> Flowable.<Integer>create(emitter -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                emitter.onNext(x);
+                active.decrementAndGet();
+                emitter.onComplete();
+            }, BackpressureStrategy.BUFFER).subscribeOn(scheduler), 3, 8)
+            .subscribe(
+                item -> receivedCount.incrementAndGet(),
+                error -> fail("Unexpected error"),
+                latch::countDown
+            );
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(20, receivedCount.get());
+        assertTrue(maxActive.get() <= 3, "Too many concurrent inners: " + maxActive.get());
+    }
+
+    @Test
+    void testFlatMapHonorsDownstreamDemand() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicInteger completed = new AtomicInteger();
+
+        Flowable.range(1, 3)
+            .flatMap(x -> Flowable.range(x * 10, 3))
+            .subscribe(new Subscriber<Integer>() {
+                @Override
+                public void onSubscribe(Subscription s) {
+                    subscription.set(s);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    received.add(item);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail("Unexpected error");
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.incrementAndGet();
+                }
+            });
+
+        subscription.get().request(4);
+        assertEquals(4, received.size());
+        assertEquals(0, completed.get());
+        subscription.get().request(Long.MAX_VALUE);
+        assertEquals(9, received.size());
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    void testCancelStopsEmission() {
+        AtomicInteger count = new AtomicInteger();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        Flowable.range(1, 1000).subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                if (count.incrementAndGet() == 5) {
+                    subscription.get().cancel();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail("Unexpected error");
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Should not complete");
+            }
+        });
+
+        assertEquals(5, count.get());
+    }
+}
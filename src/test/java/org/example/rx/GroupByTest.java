@@ -0,0 +1,194 @@
+package org.example.rx;
+
+import org.example.rx.schedulers.SingleThreadScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupByTest {
+    // Subscribes to every group and records, per opened group in order, its key and items
+    private static <K, T> List<Map.Entry<K, List<T>>> collect(Observable<GroupedObservable<K, T>> groups, CountDownLatch done) {
+        List<Map.Entry<K, List<T>>> result = Collections.synchronizedList(new ArrayList<>());
+        groups.subscribe(group -> {
+            List<T> items = Collections.synchronizedList(new ArrayList<>());
+            result.add(Map.entry(group.getKey(), items));
+            group.subscribe(items::add, e -> fail(e), () -> { });
+        }, e -> fail(e), done::countDown);
+        return result;
+    }
+
+    @Test
+    void testGroupsByKey() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        List<Map.Entry<Integer, List<Integer>>> groups = collect(Observable.range(0, 10).groupBy(i -> i % 3), done);
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(
+            Map.entry(0, List.of(0, 3, 6, 9)),
+            Map.entry(1, List.of(1, 4, 7)),
+            Map.entry(2, List.of(2, 5, 8))), groups);
+    }
+
+    @Test
+    void testLateGroupSubscriberGetsQueuedItems() {
+        Map<String, GroupedObservable<String, String>> groups = new LinkedHashMap<>();
+        Observable.fromArray("apple", "avocado", "banana", "blueberry", "cherry")
+            .groupBy(s -> s.substring(0, 1))
+            .subscribe(g -> groups.put(g.getKey(), g), e -> fail(e), () -> { });
+
+        List<String> b = new ArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+        groups.get("b").subscribe(b::add, e -> fail(e), completed::incrementAndGet);
+        assertEquals(List.of("banana", "blueberry"), b);
+        assertEquals(1, completed.get());
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        groups.get("b").subscribe(s -> fail("Unexpected item"), error::set, () -> fail("Unexpected completion"));
+        assertTrue(error.get() instanceof IllegalStateException);
+    }
+
+    @Test
+    void testLeastRecentlyUsedGroupIsEvicted() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        // With room for two groups, 3 evicts 2 as 1 was used more recently, then 2 evicts 3 and 3 evicts 1
+        List<Map.Entry<Integer, List<Integer>>> groups = collect(
+            Observable.fromArray(1, 2, 1, 3, 1, 2, 3).groupBy(i -> i, 2), done);
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(
+            Map.entry(1, List.of(1, 1, 1)),
+            Map.entry(2, List.of(2)),
+            Map.entry(3, List.of(3)),
+            Map.entry(2, List.of(2)),
+            Map.entry(3, List.of(3))), groups);
+    }
+
+    @Test
+    void testIdleGroupsAreCompleted() throws InterruptedException {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        CountDownLatch idleCompleted = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        Observable.<String>create(emitter -> {
+            emitter.onNext("idle");
+            emitter.onNext("busy");
+            for (int i = 0; i < 20; i++) {
+                Thread.sleep(20);
+                emitter.onNext("busy");
+            }
+            emitter.onComplete();
+        })
+            .groupBy(s -> s, Integer.MAX_VALUE, 100, TimeUnit.MILLISECONDS, scheduler)
+            .subscribe(group -> group.subscribe(s -> { }, e -> fail(e), () -> {
+                events.add(group.getKey());
+                if (group.getKey().equals("idle")) {
+                    idleCompleted.countDown();
+                }
+            }), e -> fail(e), done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(idleCompleted.await(1, TimeUnit.SECONDS));
+        // The idle group completed on the sweep, long before the busy one completed with the upstream
+        assertEquals(List.of("idle", "busy"), events);
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testManyKeysInBoundedGroups() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger maxOpen = new AtomicInteger();
+        AtomicInteger items = new AtomicInteger();
+
+        Observable.range(0, 100_000)
+            .groupBy(i -> i % 10_000, 1_000)
+            .subscribe(group -> {
+                opened.incrementAndGet();
+                maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+                group.subscribe(i -> items.incrementAndGet(), e -> fail(e), open::decrementAndGet);
+            }, e -> fail(e), done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(100_000, items.get());
+        assertEquals(0, open.get());
+        assertEquals(1_000, maxOpen.get());
+        // Keys cycle through a range ten times larger than the bound, so every item opens a group
+        assertEquals(100_000, opened.get());
+    }
+
+    @Test
+    void testDisposingEverythingDisposesUpstream() {
+        AtomicReference<Disposable> outer = new AtomicReference<>();
+        List<Integer> received = new ArrayList<>();
+        AtomicInteger emitted = new AtomicInteger();
+
+        Observable.<Integer>create(emitter -> {
+            for (int i = 0; i < 100 && !emitter.isDisposed(); i++) {
+                emitted.incrementAndGet();
+                emitter.onNext(i);
+            }
+        })
+            .groupBy(i -> i % 2)
+            .subscribe(new Observer<>() {
+                @Override
+                public void onSubscribe(Disposable d) {
+                    outer.set(d);
+                }
+
+                @Override
+                public void onNext(GroupedObservable<Integer, Integer> group) {
+                    group.subscribe(new Observer<>() {
+                        private Disposable d;
+
+                        @Override
+                        public void onSubscribe(Disposable d) {
+                            this.d = d;
+                        }
+
+                        @Override
+                        public void onNext(Integer item) {
+                            received.add(item);
+                            if (item >= 10) {
+                                d.dispose();
+                                outer.get().dispose();
+                            }
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            fail(t);
+                        }
+
+                        @Override
+                        public void onComplete() {
+                        }
+                    });
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail(t);
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+        // Item 10 disposes group 0 and the outer Observer, item 11 disposes group 1 and with it the upstream
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11), received);
+        assertEquals(12, emitted.get());
+    }
+}
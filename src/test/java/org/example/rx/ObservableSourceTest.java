@@ -0,0 +1,199 @@
+package org.example.rx;
+
+import org.example.rx.schedulers.Schedulers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObservableSourceTest {
+    @Test
+    void testRange() {
+        assertEquals(List.of(5, 6, 7, 8), collect(Observable.range(5, 4)));
+        assertEquals(List.of(), collect(Observable.range(5, 0)));
+        assertEquals(List.of(Integer.MAX_VALUE), collect(Observable.range(Integer.MAX_VALUE, 1)));
+        assertThrows(IllegalArgumentException.class, () -> Observable.range(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> Observable.range(Integer.MAX_VALUE, 2));
+    }
+
+    @Test
+    void testFromArrayFromIterableJustEmpty() {
+        assertEquals(List.of("a", "b", "c"), collect(Observable.fromArray("a", "b", "c")));
+        // Generic elements, which compile without an unchecked warning thanks to @SafeVarargs
+        assertEquals(List.of(List.of(1), List.of(2)), collect(Observable.fromArray(List.of(1), List.of(2))));
+        assertEquals(List.of(1, 2, 3), collect(Observable.fromIterable(Arrays.asList(1, 2, 3))));
+        assertEquals(List.of(), collect(Observable.fromIterable(Collections.emptyList())));
+        assertEquals(List.of("x"), collect(Observable.just("x")));
+        assertEquals(List.of(), collect(Observable.<String>empty()));
+    }
+
+    @Test
+    void testSourcesCanBeSubscribedRepeatedly() {
+        Observable<Integer> source = Observable.fromIterable(List.of(1, 2));
+        assertEquals(List.of(1, 2), collect(source));
+        assertEquals(List.of(1, 2), collect(source));
+    }
+
+    @Test
+    void testNullElementsEndWithError() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<String> received = new ArrayList<>();
+
+        Observable.fromArray("a", null, "c").subscribe(received::add, error::set, () -> fail("Unexpected completion"));
+
+        assertEquals(List.of("a"), received);
+        assertTrue(error.get() instanceof NullPointerException);
+    }
+
+    @Test
+    void testIteratorFailureIsSignalled() {
+        Iterable<Integer> failing = () -> new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == 2) {
+                    throw new IllegalStateException("Iterator failure");
+                }
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return next++;
+            }
+        };
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Integer> received = new ArrayList<>();
+
+        Observable.fromIterable(failing).subscribe(received::add, error::set, () -> fail("Unexpected completion"));
+
+        assertEquals(List.of(0, 1), received);
+        assertEquals("Iterator failure", error.get().getMessage());
+    }
+
+    @Test
+    void testDisposeStopsEmission() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Disposable> subscription = new AtomicReference<>();
+
+        Observable.range(0, 1000).subscribe(new Observer<>() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                subscription.set(d);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+                if (item == 2) {
+                    subscription.get().dispose();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail("Unexpected error");
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Unexpected completion");
+            }
+        });
+
+        assertEquals(List.of(0, 1, 2), received);
+    }
+
+    @Test
+    void testObserveOnPollsFusedSource() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean sameThread = new AtomicBoolean(true);
+        Thread caller = Thread.currentThread();
+
+        Observable.range(1, 5)
+            .observeOn(Schedulers.computation())
+            .map(x -> x * 20)
+            .subscribe(item -> {
+                sameThread.compareAndSet(true, Thread.currentThread() == caller);
+                received.add(item);
+            }, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(20, 40, 60, 80, 100), received);
+        assertFalse(sameThread.get());
+    }
+
+    @Test
+    void testObserveOnKeepsUserCodeOnSubscribingThread() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+        List<Thread> mapperThreads = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> iteratorThreads = Collections.synchronizedList(new ArrayList<>());
+        Iterable<Integer> iterable = () -> new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < 2;
+            }
+
+            @Override
+            public Integer next() {
+                iteratorThreads.add(Thread.currentThread());
+                return next++;
+            }
+        };
+
+        Observable.range(0, 2)
+            .map(x -> {
+                mapperThreads.add(Thread.currentThread());
+                return x;
+            })
+            .observeOn(Schedulers.computation())
+            .subscribe(item -> { }, error -> fail("Unexpected error"), () -> { });
+        Observable.fromIterable(iterable)
+            .observeOn(Schedulers.computation())
+            .subscribe(item -> { }, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(caller, caller), mapperThreads);
+        assertEquals(List.of(caller, caller), iteratorThreads);
+    }
+
+    @Test
+    void testFusedSourceFailureReachesObserver() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Observable.fromArray(1, null, 3)
+            .observeOn(Schedulers.single())
+            .subscribe(received::add, e -> {
+                error.set(e);
+                latch.countDown();
+            }, () -> fail("Unexpected completion"));
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(1), received);
+        assertTrue(error.get() instanceof NullPointerException);
+    }
+
+    private static <T> List<T> collect(Observable<T> source) {
+        List<T> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        source.subscribe(received::add, error -> fail("Unexpected error: " + error), () -> completed.set(true));
+        assertTrue(completed.get());
+        return received;
+    }
+}
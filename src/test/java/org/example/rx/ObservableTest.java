@@ -1,9 +1,12 @@
 package org.example.rx;
 
+import org.example.rx.schedulers.Schedulers;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -111,7 +114,7 @@ class ObservableTest {
             observer.onComplete();
         });
 
-        observable.flatMap(x -> Observable.create(observer -> {
+        observable.flatMap(x -> Observable.<Integer>create(observer -> {
                     observer.onNext(x * 10);
                     observer.onNext(x * 20);
                     observer.onComplete();
@@ -135,7 +138,7 @@ class ObservableTest {
         AtomicBoolean disposed = new AtomicBoolean(false);
 
         Observable<Integer> observable = Observable.create(observer -> {
-            while (!disposed.get()) {
+            while (!disposed.get() && !observer.isDisposed()) {
                 observer.onNext(count.incrementAndGet());
                 try {
                     Thread.sleep(100);
@@ -146,7 +149,7 @@ class ObservableTest {
             }
         });
 
-        Disposable subscription = observable.subscribe(
+        Disposable subscription = observable.subscribeOn(Schedulers.io()).subscribe(
             item -> {},
             error -> fail("Unexpected error"),
             () -> fail("Should not complete")
@@ -164,4 +167,113 @@ class ObservableTest {
             fail("Test interrupted");
         }
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testDisposePropagatesToSource() {
+        AtomicInteger mapped = new AtomicInteger(0);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        AtomicBoolean sourceSawDispose = new AtomicBoolean(false);
+        List<Integer> received = new ArrayList<>();
+
+        Observable<Integer> observable = Observable.create(observer -> {
+            observer.setCancellable(() -> cancelled.set(true));
+            for (int i = 1; i <= 100; i++) {
+                if (observer.isDisposed()) {
+                    sourceSawDispose.set(true);
+                    return;
+                }
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        });
+
+        observable
+            .map(x -> {
+                mapped.incrementAndGet();
+                return x;
+            })
+            .filter(x -> x > 0)
+            .subscribe(new Observer<Integer>() {
+                private Disposable upstream;
+
+                @Override
+                public void onSubscribe(Disposable d) {
+                    upstream = d;
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    received.add(item);
+                    if (item == 3) {
+                        upstream.dispose();
+                    }
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail("Unexpected error");
+                }
+
+                @Override
+                public void onComplete() {
+                    fail("Should not complete");
+                }
+            });
+
+        assertEquals(3, received.size());
+        assertEquals(3, mapped.get());
+        assertTrue(cancelled.get());
+        assertTrue(sourceSawDispose.get());
+    }
+
+    @Test
+    void testDisposeInterruptsSubscribeOnTask() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Disposable subscription = Observable.<Integer>create(observer -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        })
+        .subscribeOn(Schedulers.io())
+        .subscribe(
+            item -> {},
+            error -> fail("Unexpected error"),
+            () -> {}
+        );
+
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        subscription.dispose();
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        assertTrue(subscription.isDisposed());
+    }
+
+    @Test
+    void testFailingOnNextWithoutOnSubscribe() {
+        // A source that never calls onSubscribe, which Observer allows
+        Observable<Integer> source = new Observable<>() {
+            @Override
+            protected void subscribeActual(Observer<Integer> observer) {
+                observer.onNext(1);
+                observer.onNext(2);
+            }
+        };
+        List<Throwable> errors = new ArrayList<>();
+
+        Disposable subscription = source.subscribe(
+            item -> {
+                throw new IllegalStateException("Callback failure");
+            },
+            errors::add,
+            () -> fail("Unexpected completion")
+        );
+
+        assertEquals(1, errors.size());
+        assertInstanceOf(IllegalStateException.class, errors.get(0));
+        assertTrue(subscription.isDisposed());
+    }
+}
@@ -1,10 +1,12 @@
 package org.example.rx;
 
+import org.example.rx.schedulers.Schedulers;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -14,7 +16,7 @@ class OperatorChainTest {
     void testOperatorChain() {
         List<Integer> received = new ArrayList<>();
 
-        Observable.create(observer -> {
+        Observable.<Integer>create(observer -> {
             observer.onNext(1);
             observer.onNext(2);
             observer.onNext(3);
@@ -39,14 +41,14 @@ class OperatorChainTest {
         AtomicReference<Throwable> receivedError = new AtomicReference<>();
         String errorMessage = "Test error";
 
-        Observable.create(observer -> {
+        Observable.<Integer>create(observer -> {
             observer.onNext(1);
             throw new RuntimeException(errorMessage);
         })
         .map(x -> x * 2)
         .filter(x -> true)
         .subscribe(
-            item -> fail("Should not receive items after error"),
+            item -> assertEquals(2, item),  // Only the item emitted before the error
             error -> receivedError.set(error),
             () -> fail("Should not complete")
         );
@@ -60,12 +62,12 @@ class OperatorChainTest {
         AtomicReference<Throwable> receivedError = new AtomicReference<>();
         String errorMessage = "FlatMap error";
 
-        Observable.create(observer -> {
+        Observable.<Integer>create(observer -> {
             observer.onNext(1);
             observer.onNext(2);
             observer.onComplete();
         })
-        .flatMap(x -> Observable.create(observer -> {
+        .flatMap(x -> Observable.<Integer>create(observer -> {
             if (x == 2) {
                 throw new RuntimeException(errorMessage);
             }
@@ -87,7 +89,7 @@ class OperatorChainTest {
         AtomicInteger count = new AtomicInteger(0);
         AtomicBoolean disposed = new AtomicBoolean(false);
 
-        Observable<Integer> source = Observable.create(observer -> {
+        Observable<Integer> source = Observable.<Integer>create(observer -> {
             while (!disposed.get()) {
                 observer.onNext(count.incrementAndGet());
                 try {
@@ -100,6 +102,7 @@ class OperatorChainTest {
         });
 
         Disposable subscription = source
+            .subscribeOn(Schedulers.io())
             .filter(x -> x % 2 == 0)
             .map(x -> x * 2)
             .subscribe(
@@ -125,18 +128,19 @@ class OperatorChainTest {
     void testComplexOperatorChain() {
         List<Integer> received = new ArrayList<>();
 
-        Observable.create(observer -> {
+        Observable.<Integer>create(observer -> {
             observer.onNext(1);
             observer.onNext(2);
             observer.onNext(3);
             observer.onNext(4);
             observer.onNext(5);
+            observer.onNext(6);
             observer.onComplete();
         })
         .filter(x -> x > 1)  // Remove 1
         .map(x -> x * 2)     // Double remaining values
         .filter(x -> x % 3 == 0)  // Keep only multiples of 3
-        .flatMap(x -> Observable.create(observer -> {
+        .flatMap(x -> Observable.<Integer>create(observer -> {
             observer.onNext(x);
             observer.onNext(x * 10);
             observer.onComplete();
@@ -160,7 +164,7 @@ class OperatorChainTest {
         AtomicReference<Throwable> receivedError = new AtomicReference<>();
         String errorMessage = "Operator error";
 
-        Observable.create(observer -> {
+        Observable.<Integer>create(observer -> {
             observer.onNext(1);
             observer.onNext(2);
             observer.onNext(3);
@@ -188,7 +192,7 @@ class OperatorChainTest {
         AtomicInteger count = new AtomicInteger(0);
         AtomicBoolean disposed = new AtomicBoolean(false);
 
-        Observable<Integer> source = Observable.create(observer -> {
+        Observable<Integer> source = Observable.<Integer>create(observer -> {
             while (!disposed.get()) {
                 observer.onNext(count.incrementAndGet());
                 try {
@@ -201,9 +205,10 @@ class OperatorChainTest {
         });
 
         Disposable subscription = source
+            .subscribeOn(Schedulers.io())
             .filter(x -> x % 2 == 0)
             .map(x -> x * 2)
-            .flatMap(x -> Observable.create(observer -> {
+            .flatMap(x -> Observable.<Integer>create(observer -> {
                 observer.onNext(x);
                 observer.onNext(x * 10);
                 observer.onComplete();
@@ -226,4 +231,92 @@ class OperatorChainTest {
             fail("Test interrupted");
         }
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testLongMapFilterChain() {
+        List<Integer> received = new ArrayList<>();
+
+        Observable<Integer> chain = Observable.<Integer>create(observer -> {
+            for (int i = 0; i < 100; i++) {
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        });
+        for (int i = 0; i < 10; i++) {
+            chain = chain.map(x -> x + 1).filter(x -> x % 13 != 0);
+        }
+
+        chain.subscribe(
+            received::add,
+            error -> fail("Unexpected error"),
+            () -> {}
+        );
+
+        // Each item is incremented ten times and dropped as soon as it hits a multiple of 13
+        for (int i = 0; i < 100; i++) {
+            boolean survives = true;
+            for (int k = 1; k <= 10; k++) {
+                survives &= (i + k) % 13 != 0;
+            }
+            assertEquals(survives, received.contains(i + 10));
+        }
+    }
+
+    @Test
+    void testSharedChainPrefix() {
+        List<Integer> doubled = new ArrayList<>();
+        List<Integer> negated = new ArrayList<>();
+
+        Observable<Integer> evens = Observable.<Integer>create(observer -> {
+            for (int i = 1; i <= 6; i++) {
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        })
+        .filter(x -> x % 2 == 0);
+
+        Observable<Integer> first = evens.map(x -> x * 2);
+        Observable<Integer> second = evens.map(x -> -x);
+
+        first.subscribe(doubled::add, error -> fail("Unexpected error"), () -> {});
+        second.subscribe(negated::add, error -> fail("Unexpected error"), () -> {});
+        evens.subscribe(
+            item -> assertEquals(0, item % 2),
+            error -> fail("Unexpected error"),
+            () -> {}
+        );
+
+        assertEquals(List.of(4, 8, 12), doubled);
+        assertEquals(List.of(-2, -4, -6), negated);
+    }
+
+    @Test
+    void testErrorInFusedChainDisposesSource() {
+        AtomicReference<Throwable> receivedError = new AtomicReference<>();
+        AtomicInteger emitted = new AtomicInteger(0);
+
+        Observable.<Integer>create(observer -> {
+            for (int i = 0; i < 10 && !observer.isDisposed(); i++) {
+                emitted.incrementAndGet();
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        })
+        .map(x -> x + 1)
+        .filter(x -> {
+            if (x == 3) {
+                throw new IllegalStateException("Filter error");
+            }
+            return true;
+        })
+        .map(x -> x * 10)
+        .subscribe(
+            item -> assertTrue(item < 30),
+            receivedError::set,
+            () -> fail("Should not complete due to error")
+        );
+
+        assertEquals("Filter error", receivedError.get().getMessage());
+        assertEquals(3, emitted.get());
+    }
+}
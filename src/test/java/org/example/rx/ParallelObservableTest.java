@@ -0,0 +1,171 @@
+package org.example.rx;
+
+import org.example.rx.schedulers.ComputationScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelObservableTest {
+    private static <T> List<T> await(Observable<T> source) throws InterruptedException {
+        List<T> received = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        source.subscribe(received::add, e -> {
+            error.set(e);
+            latch.countDown();
+        }, latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNull(error.get());
+        return received;
+    }
+
+    private static List<Integer> expected(int count) {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (i % 3 != 0) {
+                expected.add(i * 2);
+            }
+        }
+        return expected;
+    }
+
+    @Test
+    void testUnorderedMergeEmitsEveryItem() throws InterruptedException {
+        List<Integer> received = await(Observable.range(0, 10_000)
+            .parallel(4)
+            .filter(i -> i % 3 != 0)
+            .map(i -> i * 2)
+            .sequential());
+
+        List<Integer> sorted = new ArrayList<>(received);
+        Collections.sort(sorted);
+        assertEquals(expected(10_000), sorted);
+    }
+
+    @Test
+    void testOrderedMergeRestoresUpstreamOrder() throws InterruptedException {
+        assertEquals(expected(10_000), await(Observable.range(0, 10_000)
+            .parallel(3)
+            .filter(i -> i % 3 != 0)
+            .map(i -> i * 2)
+            .sequential(true)));
+        // A rail that only ever filters out must not hold up the others
+        assertEquals(expected(10), await(Observable.range(0, 10)
+            .parallel(3)
+            .filter(i -> i % 3 != 0)
+            .map(i -> i * 2)
+            .sequential(true)));
+        assertEquals(List.of(), await(Observable.<Integer>empty().parallel(2).sequential(true)));
+    }
+
+    @Test
+    void testRailsRunConcurrentlyOnTheirOwnWorkers() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4, false);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Set<String> railsPerThread = ConcurrentHashMap.newKeySet();
+
+        await(Observable.range(0, 1000)
+            .parallel(4, scheduler)
+            .map(i -> {
+                String thread = Thread.currentThread().getName();
+                threads.add(thread);
+                // Items dealt to one rail always run on the same thread
+                railsPerThread.add(i % 4 + "@" + thread);
+                return i;
+            })
+            .sequential());
+
+        assertEquals(4, threads.size());
+        assertEquals(4, railsPerThread.size());
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testReducePerRailAndAcrossRails() throws InterruptedException {
+        List<Long> perRail = await(Observable.range(1, 100)
+            .parallel(4)
+            .reduce(() -> 0L, (sum, i) -> sum + i)
+            .sequential(true));
+        // Rail r gets r + 1, r + 5, ..., so the rails come out in rail order
+        assertEquals(List.of(1225L, 1250L, 1275L, 1300L), perRail);
+
+        assertEquals(List.of(5050), await(Observable.range(1, 100).parallel(4).reduce(Integer::sum)));
+        assertEquals(List.of(7), await(Observable.just(7).parallel(4).reduce(Integer::sum)));
+        assertEquals(List.of(), await(Observable.<Integer>empty().parallel(4).reduce(Integer::sum)));
+    }
+
+    @Test
+    void testFailingMapperEndsWithOneError() throws InterruptedException {
+        AtomicInteger errors = new AtomicInteger();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Observable.range(0, 1000)
+            .parallel(4)
+            .map(i -> {
+                if (i == 500) {
+                    throw new IllegalStateException("Bad item");
+                }
+                return i;
+            })
+            .sequential(true)
+            .subscribe(i -> { }, e -> {
+                errors.incrementAndGet();
+                error.set(e);
+                latch.countDown();
+            }, () -> fail("Unexpected completion"));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertEquals(1, errors.get());
+        assertEquals("Bad item", error.get().getMessage());
+    }
+
+    @Test
+    void testDisposeStopsRails() throws InterruptedException {
+        AtomicInteger mapped = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+
+        Disposable d = Observable.<Integer>create(emitter -> {
+            for (int i = 0; i < 100 && !emitter.isDisposed(); i++) {
+                emitter.onNext(i);
+            }
+        })
+            .parallel(2)
+            .map(i -> {
+                mapped.incrementAndGet();
+                started.countDown();
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                return i;
+            })
+            .sequential()
+            .subscribe(i -> { }, e -> fail(e), () -> fail("Unexpected completion"));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        d.dispose();
+        assertTrue(d.isDisposed());
+        Thread.sleep(100);
+        assertTrue(mapped.get() < 100, "Rails kept running after dispose: " + mapped.get());
+    }
+
+    @Test
+    void testArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Observable.range(0, 1).parallel(0));
+        ParallelObservable<Integer> parallel = Observable.range(0, 1).parallel(2);
+        assertEquals(2, parallel.parallelism());
+        @SuppressWarnings("unchecked")
+        Observer<Integer>[] one = new Observer[1];
+        assertThrows(IllegalArgumentException.class, () -> parallel.subscribe(one));
+    }
+}
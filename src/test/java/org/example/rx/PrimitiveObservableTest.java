@@ -0,0 +1,127 @@
+package org.example.rx;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveObservableTest {
+    @Test
+    void testIntRangeMapFilterSum() {
+        List<Integer> received = new ArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+
+        IntObservable.range(1, 10)
+            .filter(x -> x % 2 == 0)
+            .map(x -> x * 10)
+            .sum()
+            .subscribe(
+                received::add,
+                error -> fail("Unexpected error"),
+                completed::incrementAndGet
+            );
+
+        assertEquals(List.of(300), received);
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    void testMinMaxAverage() {
+        List<Long> extremes = new ArrayList<>();
+        List<Double> averages = new ArrayList<>();
+
+        LongObservable.range(5, 5).min().subscribe(extremes::add, error -> fail("Unexpected error"), () -> {});
+        LongObservable.range(5, 5).max().subscribe(extremes::add, error -> fail("Unexpected error"), () -> {});
+        IntObservable.range(1, 4).average().subscribe(averages::add, error -> fail("Unexpected error"), () -> {});
+
+        assertEquals(List.of(5L, 9L), extremes);
+        assertEquals(List.of(2.5), averages);
+    }
+
+    @Test
+    void testEmptyReducers() {
+        List<Integer> sums = new ArrayList<>();
+        AtomicInteger emitted = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+
+        IntObservable.range(1, 0).sum().subscribe(sums::add, error -> fail("Unexpected error"), completed::incrementAndGet);
+        IntObservable.range(1, 0).max().subscribe(x -> emitted.incrementAndGet(), error -> fail("Unexpected error"), completed::incrementAndGet);
+        IntObservable.range(1, 0).average().subscribe(x -> emitted.incrementAndGet(), error -> fail("Unexpected error"), completed::incrementAndGet);
+
+        assertEquals(List.of(0), sums);
+        assertEquals(0, emitted.get());
+        assertEquals(3, completed.get());
+    }
+
+    @Test
+    void testBoxedBridges() {
+        List<String> received = new ArrayList<>();
+
+        Observable.<String>create(emitter -> {
+            emitter.onNext("a");
+            emitter.onNext("bbb");
+            emitter.onNext("cc");
+            emitter.onComplete();
+        })
+        .mapToDouble(String::length)
+        .map(x -> x / 2)
+        .boxed()
+        .map(x -> "len/2=" + x)
+        .subscribe(received::add, error -> fail("Unexpected error"), () -> {});
+
+        assertEquals(List.of("len/2=0.5", "len/2=1.5", "len/2=1.0"), received);
+    }
+
+    @Test
+    void testDisposeStopsRange() {
+        AtomicInteger count = new AtomicInteger();
+        AtomicReference<Disposable> upstream = new AtomicReference<>();
+
+        IntObservable.range(0, 1_000_000).subscribe(new IntObserver() {
+            @Override
+            public void onSubscribe(Disposable d) {
+                upstream.set(d);
+            }
+
+            @Override
+            public void onNext(int value) {
+                if (count.incrementAndGet() == 10) {
+                    upstream.get().dispose();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail("Unexpected error");
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Should not complete");
+            }
+        });
+
+        assertEquals(10, count.get());
+    }
+
+    @Test
+    void testErrorInMapperDisposesSource() {
+        AtomicReference<Throwable> receivedError = new AtomicReference<>();
+        AtomicInteger received = new AtomicInteger();
+
+        IntObservable.range(0, 100)
+            .map(x -> 10 / (5 - x))
+            .subscribe(
+                x -> received.incrementAndGet(),
+                receivedError::set,
+                () -> fail("Should not complete")
+            );
+
+        assertEquals(5, received.get());
+        assertTrue(receivedError.get() instanceof ArithmeticException);
+    }
+}
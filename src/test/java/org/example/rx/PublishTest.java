@@ -0,0 +1,246 @@
+package org.example.rx;
+
+import org.example.rx.plugins.RxPlugins;
+import org.example.rx.schedulers.Schedulers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublishTest {
+    @Test
+    void testPublishStartsOnConnect() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        ConnectableObservable<Integer> published = Observable.<Integer>create(emitter -> {
+            subscriptions.incrementAndGet();
+            for (int i = 0; i < 3; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        }).publish();
+
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        AtomicInteger completions = new AtomicInteger();
+        published.subscribe(first::add, error -> fail("Unexpected error"), completions::incrementAndGet);
+        published.subscribe(second::add, error -> fail("Unexpected error"), completions::incrementAndGet);
+        assertEquals(0, subscriptions.get());
+
+        published.connect();
+
+        assertEquals(1, subscriptions.get());
+        assertEquals(List.of(0, 1, 2), first);
+        assertEquals(List.of(0, 1, 2), second);
+        assertEquals(2, completions.get());
+    }
+
+    @Test
+    void testDisposingConnectionStopsSource() {
+        AtomicReference<ObservableEmitter<Integer>> source = new AtomicReference<>();
+        AtomicInteger subscriptions = new AtomicInteger();
+        ConnectableObservable<Integer> published = Observable.<Integer>create(emitter -> {
+            subscriptions.incrementAndGet();
+            source.set(emitter);
+        }).publish();
+        List<Integer> received = new ArrayList<>();
+        published.subscribe(received::add, error -> fail("Unexpected error"), () -> { });
+
+        Disposable connection = published.connect();
+        assertSame(connection, published.connect());
+        source.get().onNext(1);
+        connection.dispose();
+
+        assertTrue(connection.isDisposed());
+        assertTrue(source.get().isDisposed());
+        assertEquals(List.of(1), received);
+
+        // The next connect starts the source again
+        published.subscribe(received::add, error -> fail("Unexpected error"), () -> { });
+        published.connect();
+        source.get().onNext(2);
+        assertEquals(2, subscriptions.get());
+        assertEquals(List.of(1, 2), received);
+    }
+
+    @Test
+    void testObserverLeavingDuringEmission() {
+        AtomicReference<ObservableEmitter<Integer>> source = new AtomicReference<>();
+        ConnectableObservable<Integer> published = Observable.<Integer>create(source::set).publish();
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        AtomicReference<Disposable> firstDisposable = new AtomicReference<>();
+        firstDisposable.set(published.subscribe(item -> {
+            first.add(item);
+            if (item == 2) {
+                firstDisposable.get().dispose();
+            }
+        }, error -> fail("Unexpected error"), () -> { }));
+        published.subscribe(second::add, error -> fail("Unexpected error"), () -> { });
+
+        published.connect();
+        for (int i = 1; i <= 3; i++) {
+            source.get().onNext(i);
+        }
+
+        assertEquals(List.of(1, 2), first);
+        assertEquals(List.of(1, 2, 3), second);
+    }
+
+    @Test
+    void testErrorReachesAllObservers() {
+        ConnectableObservable<Integer> published = Observable.<Integer>create(emitter -> {
+            emitter.onError(new IllegalStateException("Source failure"));
+        }).publish();
+        List<Throwable> errors = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            published.subscribe(item -> fail("Unexpected item"), errors::add, () -> fail("Unexpected completion"));
+        }
+
+        published.connect();
+
+        assertEquals(3, errors.size());
+        errors.forEach(error -> assertInstanceOf(IllegalStateException.class, error));
+    }
+
+    @Test
+    void testRefCountDisposesSourceWithLastObserver() {
+        AtomicReference<ObservableEmitter<Integer>> source = new AtomicReference<>();
+        AtomicInteger subscriptions = new AtomicInteger();
+        Observable<Integer> shared = Observable.<Integer>create(emitter -> {
+            subscriptions.incrementAndGet();
+            source.set(emitter);
+        }).share();
+
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        Disposable d1 = shared.subscribe(first::add, error -> fail("Unexpected error"), () -> { });
+        Disposable d2 = shared.subscribe(second::add, error -> fail("Unexpected error"), () -> { });
+        assertEquals(1, subscriptions.get());
+        ObservableEmitter<Integer> emitter = source.get();
+        emitter.onNext(1);
+
+        d1.dispose();
+        assertFalse(emitter.isDisposed());
+        emitter.onNext(2);
+        d2.dispose();
+        assertTrue(emitter.isDisposed());
+        assertEquals(List.of(1), first);
+        assertEquals(List.of(1, 2), second);
+
+        shared.subscribe(first::add, error -> fail("Unexpected error"), () -> { });
+        assertEquals(2, subscriptions.get());
+        assertNotSame(emitter, source.get());
+    }
+
+    @Test
+    void testShareReconnectsAfterCompletion() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Observable<Integer> shared = Observable.<Integer>create(emitter -> {
+            subscriptions.incrementAndGet();
+            for (int i = 0; i < 3; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        }).share();
+
+        List<Integer> received = new ArrayList<>();
+        shared.subscribe(received::add, error -> fail("Unexpected error"), () -> { });
+        shared.subscribe(received::add, error -> fail("Unexpected error"), () -> { });
+
+        assertEquals(List.of(0, 1, 2, 0, 1, 2), received);
+        assertEquals(2, subscriptions.get());
+    }
+
+    @Test
+    void testRefCountSubscribeDuringCompletion() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        ConnectableObservable<Integer> published = Observable.<Integer>create(emitter -> {
+            subscriptions.incrementAndGet();
+            emitter.onNext(1);
+            emitter.onComplete();
+        }).publish();
+        Observable<Integer> shared = published.refCount();
+        List<Integer> late = new ArrayList<>();
+        AtomicInteger lateCompletions = new AtomicInteger();
+
+        // Notified before the refCount Observer, so the connection has terminated but refCount doesn't know yet
+        published.subscribe(item -> { }, error -> fail("Unexpected error"),
+            () -> shared.subscribe(late::add, error -> fail("Unexpected error"), lateCompletions::incrementAndGet));
+        shared.subscribe(item -> { }, error -> fail("Unexpected error"), () -> { });
+
+        assertEquals(2, subscriptions.get());
+        assertEquals(List.of(1), late);
+        assertEquals(1, lateCompletions.get());
+    }
+
+    @Test
+    void testRefCountSubscribeJustBeforeCompletion() {
+        AtomicReference<ObservableEmitter<Integer>> source = new AtomicReference<>();
+        ConnectableObservable<Integer> published = Observable.<Integer>create(source::set).publish();
+        Observable<Integer> shared = published.refCount();
+        AtomicInteger completions = new AtomicInteger();
+        shared.subscribe(item -> { }, error -> fail("Unexpected error"), completions::incrementAndGet);
+
+        // Completes once refCount has picked the live connection for the second Observer,
+        // but before that Observer reaches the published Observable
+        RxPlugins.setOnObservableSubscribe((observable, observer) -> {
+            if (observable == published) {
+                source.get().onComplete();
+            }
+            return observer;
+        });
+        try {
+            shared.subscribe(item -> { }, error -> fail("Unexpected error"), completions::incrementAndGet);
+        } finally {
+            RxPlugins.reset();
+        }
+
+        assertEquals(2, completions.get());
+    }
+
+    @Test
+    void testRefCountSubscribeRacingCompletion() throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            Observable<Integer> shared = Observable.<Integer>create(emitter -> {
+                emitter.onNext(1);
+                emitter.onComplete();
+            }).subscribeOn(Schedulers.computation()).share();
+            CountDownLatch latch = new CountDownLatch(2);
+
+            shared.subscribe(item -> { }, error -> fail("Unexpected error"), latch::countDown);
+            shared.subscribe(item -> { }, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS), "Observer hung in round " + i);
+        }
+    }
+
+    @Test
+    void testShareAcrossThreads() throws InterruptedException {
+        int observers = 8;
+        int count = 10_000;
+        CountDownLatch subscribed = new CountDownLatch(1);
+        Observable<Integer> shared = Observable.<Integer>create(emitter -> {
+            subscribed.await();
+            for (int i = 0; i < count; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        }).subscribeOn(Schedulers.computation()).share();
+
+        CountDownLatch latch = new CountDownLatch(observers);
+        AtomicInteger received = new AtomicInteger();
+        for (int i = 0; i < observers; i++) {
+            shared.subscribe(item -> received.incrementAndGet(), error -> fail("Unexpected error"), latch::countDown);
+        }
+        subscribed.countDown();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(observers * count, received.get());
+    }
+}
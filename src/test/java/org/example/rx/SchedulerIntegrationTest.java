@@ -1,8 +1,6 @@
 package org.example.rx;
 
-import org.example.rx.schedulers.ComputationScheduler;
-import org.example.rx.schedulers.IOThreadScheduler;
-import org.example.rx.schedulers.SingleThreadScheduler;
+import org.example.rx.schedulers.Schedulers;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -37,7 +35,7 @@ class SchedulerIntegrationTest {
             observer.onComplete();
             latch.countDown();
         })
-        .subscribeOn(new IOThreadScheduler())
+        .subscribeOn(Schedulers.io())
         .subscribe(
             item -> {},
             error -> fail("Unexpected error"),
@@ -64,7 +62,7 @@ class SchedulerIntegrationTest {
             observer.onNext(1);
             observer.onComplete();
         })
-        .observeOn(new ComputationScheduler())
+        .observeOn(Schedulers.computation())
         .subscribe(
             item -> observationThread.set(Thread.currentThread().getName()),
             error -> fail("Unexpected error"),
@@ -85,7 +83,7 @@ class SchedulerIntegrationTest {
     void testSingleThreadSchedulerSequentialExecution() throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(2);
         List<String> threadNames = new ArrayList<>();
-        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        Scheduler scheduler = Schedulers.single();
 
         Observable.create(observer -> {
             threadNames.add(Thread.currentThread().getName());
@@ -138,7 +136,7 @@ class SchedulerIntegrationTest {
         });
 
         Disposable subscription1 = source
-            .subscribeOn(new IOThreadScheduler())
+            .subscribeOn(Schedulers.io())
             .subscribe(
                 item -> lastValue.set(item),
                 error -> fail("Unexpected error"),
@@ -146,7 +144,7 @@ class SchedulerIntegrationTest {
             );
 
         Disposable subscription2 = source
-            .subscribeOn(new IOThreadScheduler())
+            .subscribeOn(Schedulers.io())
             .subscribe(
                 item -> {},
                 error -> fail("Unexpected error"),
@@ -177,10 +175,10 @@ class SchedulerIntegrationTest {
             observer.onNext(1);
             throw new RuntimeException(errorMessage);
         })
-        .subscribeOn(new IOThreadScheduler())
-        .observeOn(new ComputationScheduler())
+        .subscribeOn(Schedulers.io())
+        .observeOn(Schedulers.computation())
         .subscribe(
-            item -> fail("Should not receive items after error"),
+            item -> assertEquals(1, item),  // Only the item emitted before the error
             error -> {
                 receivedError.set(error);
                 latch.countDown();
@@ -211,8 +209,8 @@ class SchedulerIntegrationTest {
             observer.onNext(1);
             observer.onComplete();
         })
-        .subscribeOn(new IOThreadScheduler())
-        .observeOn(new ComputationScheduler())
+        .subscribeOn(Schedulers.io())
+        .observeOn(Schedulers.computation())
         .subscribe(
             item -> observeThread.set(Thread.currentThread().getName()),
             error -> fail("Unexpected error"),
@@ -245,8 +243,8 @@ class SchedulerIntegrationTest {
         });
 
         Disposable subscription = source
-            .subscribeOn(new IOThreadScheduler())
-            .observeOn(new ComputationScheduler())
+            .subscribeOn(Schedulers.io())
+            .observeOn(Schedulers.computation())
             .subscribe(
                 item -> {},
                 error -> fail("Unexpected error"),
@@ -273,15 +271,15 @@ class SchedulerIntegrationTest {
         AtomicReference<Throwable> receivedError = new AtomicReference<>();
         String errorMessage = "Scheduler error";
 
-        Observable.create(observer -> {
+        Observable.<Integer>create(observer -> {
             observer.onNext(1);
             throw new RuntimeException(errorMessage);
         })
-        .subscribeOn(new IOThreadScheduler())
+        .subscribeOn(Schedulers.io())
         .map(x -> x * 2)
-        .observeOn(new ComputationScheduler())
+        .observeOn(Schedulers.computation())
         .subscribe(
-            item -> fail("Should not receive items after error"),
+            item -> assertEquals(2, item),  // Only the item emitted before the error
             error -> {
                 receivedError.set(error);
                 latch.countDown();
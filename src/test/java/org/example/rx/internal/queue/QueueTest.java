@@ -0,0 +1,108 @@
+package org.example.rx.internal.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueueTest {
+    @Test
+    void testBoundedQueuesRejectWhenFull() {
+        for (SimpleQueue<Integer> queue : List.<SimpleQueue<Integer>>of(new SpscArrayQueue<>(5), new MpscArrayQueue<>(5))) {
+            // Rounded up to 8
+            for (int i = 0; i < 8; i++) {
+                assertTrue(queue.offer(i));
+            }
+            assertFalse(queue.offer(8));
+            assertEquals(0, queue.poll());
+            assertTrue(queue.offer(8));
+            for (int i = 1; i <= 8; i++) {
+                assertEquals(i, queue.poll());
+            }
+            assertNull(queue.poll());
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    void testUnboundedQueuesGrow() {
+        for (SimpleQueue<Integer> queue : List.<SimpleQueue<Integer>>of(new SpscLinkedArrayQueue<>(8), new MpscLinkedQueue<>())) {
+            // Interleaved so that the linked array queue jumps chunks with items in flight
+            for (int round = 0; round < 10; round++) {
+                for (int i = 0; i < 100; i++) {
+                    assertTrue(queue.offer(round * 100 + i));
+                }
+                for (int i = 0; i < 50; i++) {
+                    assertEquals(round * 50 + i, queue.poll());
+                }
+            }
+            for (int i = 500; i < 1000; i++) {
+                assertEquals(i, queue.poll());
+            }
+            assertTrue(queue.isEmpty());
+            queue.offer(1);
+            queue.clear();
+            assertNull(queue.poll());
+        }
+    }
+
+    @Test
+    void testNullIsRejected() {
+        assertThrows(NullPointerException.class, () -> new SpscArrayQueue<Integer>(8).offer(null));
+        assertThrows(NullPointerException.class, () -> new MpscLinkedQueue<Integer>().offer(null));
+    }
+
+    @Test
+    void testSingleProducerOrder() throws InterruptedException {
+        transfer(() -> new SpscArrayQueue<>(16), 1);
+        transfer(() -> new SpscLinkedArrayQueue<>(16), 1);
+    }
+
+    @Test
+    void testMultipleProducersKeepTheirOrder() throws InterruptedException {
+        transfer(() -> new MpscArrayQueue<>(16), 4);
+        transfer(MpscLinkedQueue::new, 4);
+    }
+
+    private static void transfer(Supplier<SimpleQueue<Long>> factory, int producers) throws InterruptedException {
+        SimpleQueue<Long> queue = factory.get();
+        int count = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < count; i++) {
+                    // Producer id in the high bits, sequence number in the low bits
+                    Long item = producer << 32 | i;
+                    while (!queue.offer(item)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        start.countDown();
+
+        long[] next = new long[producers];
+        for (int received = 0; received < count * producers; ) {
+            Long item = queue.poll();
+            if (item == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = (int) (item >>> 32);
+            assertEquals(next[producer]++, item & 0xFFFFFFFFL);
+            received++;
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.rx.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenHashMapTest {
+    @Test
+    void testBasicOperations() {
+        OpenHashMap<String, Integer> map = new OpenHashMap<>();
+        assertNull(map.put("a", 1));
+        assertNull(map.put("b", 2));
+        assertEquals(1, map.put("a", 3));
+        assertEquals(3, map.get("a"));
+        assertEquals(2, map.size());
+        assertEquals(2, map.remove("b"));
+        assertNull(map.remove("b"));
+        assertNull(map.get("b"));
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get("a"));
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomChurn() {
+        OpenHashMap<Integer, Integer> map = new OpenHashMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            // A small key range keeps runs of colliding entries long, which exercises the backward shift
+            int key = random.nextInt(5_000) * (random.nextBoolean() ? 1 : 1 << 16);
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.put(key, i), map.put(key, i));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.get(key), map.get(key));
+                    break;
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.rx.io;
+
+import org.example.rx.Observable;
+import org.example.rx.internal.operators.ObservableFileLines;
+import org.example.rx.schedulers.Schedulers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileLinesTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testLines() throws IOException {
+        assertEquals(List.of("first", "", "second", "third"), lines(Observable.fromFileLines(write("first\n\r\nsecond\r\nthird"))));
+        assertEquals(List.of("a", "b"), lines(Observable.fromFileLines(write("a\nb\n"))));
+        assertEquals(List.of(), lines(Observable.fromFileLines(write(""))));
+    }
+
+    @Test
+    void testSmallChunksAndLongLines() throws IOException {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            // Some lines are longer than a chunk, so the mapping has to grow
+            expected.add("line-" + i + "-" + "x".repeat(i % 37));
+        }
+        Path file = write(String.join("\n", expected));
+
+        assertEquals(expected, lines(new ObservableFileLines(file, 0, 1, 16)));
+    }
+
+    @Test
+    void testSplitsCoverEveryLineOnce() throws IOException {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i % 10 == 0 ? "" : "item " + i);
+        }
+        Path file = write(String.join("\n", expected) + "\n");
+
+        for (int splits = 1; splits <= 7; splits++) {
+            List<String> received = new ArrayList<>();
+            for (int split = 0; split < splits; split++) {
+                received.addAll(lines(new ObservableFileLines(file, split, splits, 32)));
+            }
+            assertEquals(expected, received, "splits = " + splits);
+        }
+    }
+
+    @Test
+    void testParallelRead() throws Exception {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            expected.add(Integer.toString(i));
+        }
+        Path file = write(String.join("\n", expected));
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Observable.fromFileLines(file, 4, Schedulers.computation())
+            .subscribe(line -> received.add(line.toString()), error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        received.sort((a, b) -> Integer.compare(Integer.parseInt(a), Integer.parseInt(b)));
+        assertEquals(expected, received);
+    }
+
+    @Test
+    void testMissingFile() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Observable.fromFileLines(dir.resolve("missing.log"))
+            .subscribe(line -> fail("Unexpected line"), error::set, () -> fail("Unexpected completion"));
+
+        assertTrue(error.get() instanceof NoSuchFileException);
+    }
+
+    @Test
+    void testByteSlice() {
+        ByteSlice slice = ByteSlice.wrap("GET /index.html".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(15, slice.length());
+        assertTrue(slice.startsWith("GET ".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(3, slice.indexOf((byte) ' '));
+        assertEquals("/index.html", slice.slice(4, slice.length()).toString());
+        assertEquals(ByteSlice.wrap("GET".getBytes(StandardCharsets.US_ASCII)), slice.slice(0, 3));
+        assertEquals('G', slice.byteAt(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.byteAt(15));
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(dir, "lines", ".log"), content);
+    }
+
+    private static List<String> lines(Observable<ByteSlice> source) {
+        List<String> received = new ArrayList<>();
+        source.subscribe(line -> received.add(line.toString()), error -> fail("Unexpected error: " + error), () -> {});
+        return received;
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.rx.io;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SocketsTest {
+    private ServerSocketChannel server;
+
+    @BeforeEach
+    void bind() throws IOException {
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        server.close();
+    }
+
+    private SocketChannel connect() throws IOException {
+        return SocketChannel.open(server.getLocalAddress());
+    }
+
+    private static byte[] data(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i * 31 + i / 251);
+        }
+        return bytes;
+    }
+
+    private static byte[] readFully(SocketChannel channel, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // Blocking read until everything arrived
+        }
+        assertFalse(buffer.hasRemaining(), "Connection closed early");
+        return buffer.array();
+    }
+
+    @Test
+    void testReadUntilEndOfStream() throws Exception {
+        byte[] expected = data(1 << 20);
+        ByteBufferPool pool = new ByteBufferPool(8192, 16, true);
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        CountDownLatch done = new CountDownLatch(1);
+
+        try (SocketChannel client = connect(); SocketChannel accepted = server.accept()) {
+            Sockets.read(accepted, pool).subscribe(buffer -> {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                received.write(bytes, 0, bytes.length);
+                pool.release(buffer);
+            }, error -> fail(error), done::countDown);
+
+            client.write(ByteBuffer.wrap(expected));
+            client.shutdownOutput();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+        assertArrayEquals(expected, received.toByteArray());
+        assertTrue(pool.pooled() > 0);
+    }
+
+    @Test
+    void testWriteGathersBuffersAndReportsBytes() throws Exception {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 1000; i++) {
+            byte[] bytes = data(1 + i % 300);
+            expected.write(bytes, 0, bytes.length);
+            buffers.add(ByteBuffer.wrap(bytes));
+        }
+        int size = expected.size();
+        AtomicLong written = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(1);
+
+        try (SocketChannel client = connect(); SocketChannel accepted = server.accept()) {
+            // Larger than the socket buffers, so the sink has to wait for the channel to become writable
+            CompletableFuture<byte[]> read = CompletableFuture.supplyAsync(() -> {
+                try {
+                    Thread.sleep(50);
+                    return readFully(client, size);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            Sockets.write(Observable.fromIterable(buffers), accepted)
+                .subscribe(written::set, error -> fail(error), done::countDown);
+
+            assertArrayEquals(expected.toByteArray(), read.get(5, TimeUnit.SECONDS));
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+        assertEquals(size, written.get());
+    }
+
+    @Test
+    void testEchoServer() throws Exception {
+        ByteBufferPool pool = new ByteBufferPool(4096, 64, true);
+        AtomicLong echoed = new AtomicLong();
+        CountDownLatch closed = new CountDownLatch(1);
+        Disposable acceptor = Sockets.accept(server).subscribe(channel ->
+            Sockets.write(Sockets.read(channel, pool), channel, pool).subscribe(echoed::set, error -> fail(error), () -> {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    fail(e);
+                }
+                closed.countDown();
+            }), error -> fail(error), () -> { });
+
+        byte[] expected = data(100_000);
+        try (SocketChannel client = connect()) {
+            CompletableFuture<byte[]> read = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return readFully(client, expected.length);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            client.write(ByteBuffer.wrap(expected));
+            assertArrayEquals(expected, read.get(5, TimeUnit.SECONDS));
+            client.shutdownOutput();
+            assertTrue(closed.await(5, TimeUnit.SECONDS));
+            assertEquals(-1, client.read(ByteBuffer.allocate(1)));
+        }
+        acceptor.dispose();
+        assertEquals(expected.length, echoed.get());
+        assertTrue(pool.pooled() > 0);
+    }
+
+    @Test
+    void testDisposeStopsReading() throws Exception {
+        AtomicLong received = new AtomicLong();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        try (SocketChannel client = connect(); SocketChannel accepted = server.accept()) {
+            CountDownLatch first = new CountDownLatch(1);
+            Disposable d = Sockets.read(accepted).subscribe(buffer -> {
+                received.addAndGet(buffer.remaining());
+                Sockets.defaultPool().release(buffer);
+                first.countDown();
+            }, error::set, () -> { });
+
+            client.write(ByteBuffer.wrap(data(10)));
+            assertTrue(first.await(5, TimeUnit.SECONDS));
+            d.dispose();
+            assertTrue(d.isDisposed());
+            Thread.sleep(50);  // Let the loop deregister the channel
+
+            client.write(ByteBuffer.wrap(data(10)));
+            Thread.sleep(100);
+            assertEquals(10, received.get());
+            // The channel is left open and still holds the unread bytes
+            assertTrue(accepted.isOpen());
+            assertEquals(10, accepted.read(ByteBuffer.allocate(100)));
+        }
+        assertNull(error.get());
+    }
+
+    @Test
+    void testWriteToClosedChannelFails() throws Exception {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        SocketChannel client = connect();
+        client.close();
+        Sockets.write(Observable.just(ByteBuffer.wrap(data(10))), client).subscribe(n -> fail("Unexpected item"), e -> {
+            error.set(e);
+            done.countDown();
+        }, () -> { });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, error.get());
+    }
+
+    @Test
+    void testPool() {
+        ByteBufferPool pool = new ByteBufferPool(16, 1, false);
+        ByteBuffer buffer = pool.acquire();
+        assertEquals(16, buffer.remaining());
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        pool.release(ByteBuffer.allocate(16));
+        pool.release(ByteBuffer.allocate(8));
+        assertEquals(1, pool.pooled());
+
+        ByteBuffer again = pool.acquire();
+        assertSame(buffer, again);
+        assertEquals(0, again.position());
+        assertEquals(0, pool.pooled());
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferPool(0, 1, true));
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.rx.metrics;
+
+import org.example.rx.Observable;
+import org.example.rx.schedulers.Schedulers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest {
+    @AfterEach
+    void tearDown() {
+        RxMetrics.disable();
+        RxMetrics.unregisterMBean();
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1_000_000, snapshot.getMax());
+        assertEquals(500_500.0, snapshot.getMean(), 0.001);
+        assertEquals(500_000, snapshot.getP50(), 500_000 * 0.07);
+        assertEquals(990_000, snapshot.getP99(), 990_000 * 0.07);
+    }
+
+    @Test
+    void testDisabledRecordsNothing() {
+        MetricsRegistry registry = RxMetrics.enable();
+        RxMetrics.disable();
+
+        Observable.<Integer>create(emitter -> {
+            emitter.onNext(1);
+            emitter.onComplete();
+        })
+        .map(x -> x + 1)
+        .subscribe(item -> {}, error -> fail("Unexpected error"), () -> {});
+
+        assertTrue(registry.counters().isEmpty());
+    }
+
+    @Test
+    void testOperatorCounters() {
+        MetricsRegistry registry = RxMetrics.enable();
+
+        Observable.<Integer>create(emitter -> {
+            for (int i = 0; i < 10; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onError(new RuntimeException("Source error"));
+        })
+        .filter(x -> x % 2 == 0)
+        .flatMap(x -> Observable.<Integer>create(emitter -> {
+            emitter.onNext(x);
+            emitter.onNext(x);
+            emitter.onComplete();
+        }))
+        .subscribe(item -> {}, error -> {}, () -> fail("Should not complete"));
+
+        assertEquals(20, registry.counter("rx.create.items").get());  // 10 from the source, 2 per inner
+        assertEquals(5, registry.counter("rx.filter.items").get());
+        assertEquals(10, registry.counter("rx.flatMap.items").get());
+        assertEquals(1, registry.counter("rx.create.errors").get());
+        assertEquals(1, registry.counter("rx.flatMap.errors").get());
+    }
+
+    @Test
+    void testObserveOnQueueDepthAndLatency() throws InterruptedException {
+        MetricsRegistry registry = RxMetrics.enable();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Observable.<Integer>create(emitter -> {
+            for (int i = 0; i < 1000; i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        })
+        .observeOn(Schedulers.computation())
+        .subscribe(item -> {}, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(1000, registry.counter("rx.observeOn.items").get());
+        assertEquals(0, registry.counter("rx.observeOn.queueDepth").get());
+        assertEquals(1000, registry.histogram("rx.observeOn.latency").snapshot().getCount());
+    }
+
+    @Test
+    void testMBeanExposesCounters() throws Exception {
+        RxMetrics.enable();
+        RxMetrics.registerMBean();
+
+        Observable.<Integer>create(emitter -> {
+            emitter.onNext(1);
+            emitter.onComplete();
+        })
+        .map(x -> x * 2)
+        .subscribe(item -> {}, error -> fail("Unexpected error"), () -> {});
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.example.rx:type=Metrics");
+        assertEquals(true, server.getAttribute(name, "Enabled"));
+        TabularData counters = (TabularData) server.getAttribute(name, "Counters");
+        assertEquals(1L, counters.get(new Object[] { "rx.map.items" }).get("value"));
+        assertNotNull(server.getAttribute(name, "Latencies"));
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.rx.plugins;
+
+import org.example.rx.Observable;
+import org.example.rx.Scheduler;
+import org.example.rx.schedulers.Schedulers;
+import org.example.rx.schedulers.SingleThreadScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RxPluginsTest {
+    private static final ThreadLocal<String> CONTEXT = new ThreadLocal<>();
+
+    @AfterEach
+    void tearDown() {
+        RxPlugins.reset();
+        CONTEXT.remove();
+    }
+
+    @Test
+    void testScheduleHookPropagatesContext() throws InterruptedException {
+        // Capture the context on the scheduling thread, restore it on the scheduler thread
+        RxPlugins.setScheduleHandler(task -> {
+            String captured = CONTEXT.get();
+            return () -> {
+                CONTEXT.set(captured);
+                try {
+                    task.run();
+                } finally {
+                    CONTEXT.remove();
+                }
+            };
+        });
+        CONTEXT.set("request-42");
+        CountDownLatch latch = new CountDownLatch(2);
+        List<String> seen = Collections.synchronizedList(new ArrayList<>());
+
+        Schedulers.io().execute(() -> {
+            seen.add(CONTEXT.get());
+            latch.countDown();
+        });
+        Scheduler.Worker worker = Schedulers.computation().createWorker();
+        worker.schedule(() -> {
+            seen.add(CONTEXT.get());
+            latch.countDown();
+        }, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of("request-42", "request-42"), seen);
+        worker.dispose();
+    }
+
+    @Test
+    void testAssemblyHook() {
+        AtomicInteger assembled = new AtomicInteger();
+        RxPlugins.setOnObservableAssembly(observable -> {
+            assembled.incrementAndGet();
+            return observable;
+        });
+
+        Observable.<Integer>create(emitter -> emitter.onComplete())
+            .map(x -> x + 1)
+            .filter(x -> x > 0)
+            .flatMap(x -> Observable.<Integer>create(emitter -> emitter.onComplete()));
+
+        assertEquals(4, assembled.get());
+    }
+
+    @Test
+    void testAssemblyHooksCoverSpecializedObservables() {
+        List<String> assembled = new ArrayList<>();
+        RxPlugins.setOnObservableAssembly(observable -> {
+            assembled.add("observable");
+            return observable;
+        });
+        RxPlugins.setOnConnectableObservableAssembly(observable -> {
+            assembled.add("connectable");
+            return observable;
+        });
+        RxPlugins.setOnParallelObservableAssembly(observable -> {
+            assembled.add("parallel");
+            return observable;
+        });
+        RxPlugins.setOnIntObservableAssembly(observable -> {
+            assembled.add("int");
+            return observable;
+        });
+        RxPlugins.setOnLongObservableAssembly(observable -> {
+            assembled.add("long");
+            return observable;
+        });
+        RxPlugins.setOnDoubleObservableAssembly(observable -> {
+            assembled.add("double");
+            return observable;
+        });
+        Observable<Integer> source = Observable.fromArray(1, 2);
+        assembled.clear();
+
+        source.mapToInt(x -> x).map(x -> x + 1).sum();
+        source.mapToLong(x -> x);
+        source.mapToDouble(x -> x).average();
+        source.publish();
+        source.parallel(2).map(x -> x).filter(x -> true).sequential();
+
+        assertEquals(List.of("int", "int", "int", "long", "double", "double", "connectable",
+            "parallel", "parallel", "parallel", "observable"), assembled);
+    }
+
+    @Test
+    void testSubscribeHookWrapsObservers() {
+        AtomicInteger intercepted = new AtomicInteger();
+        List<Integer> received = new ArrayList<>();
+        RxPlugins.setOnObservableSubscribe((observable, observer) -> {
+            intercepted.incrementAndGet();
+            return observer;
+        });
+
+        Observable.<Integer>create(emitter -> {
+            emitter.onNext(1);
+            emitter.onComplete();
+        })
+        .map(x -> x * 10)
+        .subscribe(received::add, error -> fail("Unexpected error"), () -> {});
+
+        assertEquals(List.of(10), received);
+        assertEquals(2, intercepted.get());  // The map operator subscribes to its source too
+    }
+
+    @Test
+    void testSchedulerHookSubstitutesSharedScheduler() throws InterruptedException {
+        SingleThreadScheduler alternative = new SingleThreadScheduler();
+        RxPlugins.setSchedulerHandler((kind, scheduler) -> kind.equals("io") ? alternative : scheduler);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> thread = new AtomicReference<>();
+
+        assertSame(alternative, Schedulers.io());
+        assertNotSame(alternative, Schedulers.computation());
+        Schedulers.io().execute(() -> {
+            thread.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(thread.get().startsWith("SingleThreadScheduler"));
+        alternative.shutdown();
+    }
+}
@@ -1 +1,345 @@
- 
\ No newline at end of file
+package org.example.rx.schedulers;
+
+import org.example.rx.Disposable;
+import org.example.rx.Observable;
+import org.example.rx.Scheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulerTest {
+    @AfterEach
+    void tearDown() {
+        SchedulerStats.disable();
+    }
+
+    @Test
+    void testWorkerRunsTasksSequentially() throws InterruptedException {
+        Scheduler.Worker worker = new ComputationScheduler().createWorker();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < 100; i++) {
+            int index = i;
+            worker.schedule(() -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                order.add(index);
+                active.decrementAndGet();
+                if (index == 99) {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(1, maxActive.get());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, order.get(i));
+        }
+        worker.dispose();
+    }
+
+    @Test
+    void testDelayedTask() throws InterruptedException {
+        Scheduler.Worker worker = new IOThreadScheduler().createWorker();
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        worker.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        worker.dispose();
+    }
+
+    @Test
+    void testDisposeCancelsDelayedTask() throws InterruptedException {
+        Scheduler.Worker worker = new SingleThreadScheduler().createWorker();
+        AtomicInteger count = new AtomicInteger();
+
+        Disposable task = worker.schedule(count::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        worker.schedule(count::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        task.dispose();
+        worker.dispose();
+
+        Thread.sleep(150);
+        assertEquals(0, count.get());
+        assertTrue(task.isDisposed());
+    }
+
+    @Test
+    void testPeriodicTask() throws InterruptedException {
+        Scheduler.Worker worker = new ComputationScheduler().createWorker();
+        CountDownLatch latch = new CountDownLatch(5);
+        AtomicInteger count = new AtomicInteger();
+
+        Disposable periodic = worker.schedulePeriodically(() -> {
+            count.incrementAndGet();
+            latch.countDown();
+        }, 0, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        periodic.dispose();
+        Thread.sleep(30);  // Let a run that was already in progress finish
+        int finalCount = count.get();
+        Thread.sleep(100);
+        assertEquals(finalCount, count.get());
+        worker.dispose();
+    }
+
+    @Test
+    void testFailingTaskDoesNotStopWorker() throws InterruptedException {
+        Scheduler.Worker worker = new ComputationScheduler().createWorker();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        worker.schedule(() -> {
+            throw new IllegalStateException("Task failure");
+        });
+        worker.schedule(latch::countDown);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        worker.dispose();
+    }
+
+    @Test
+    void testPeriodicTaskValidationAndFailure() throws InterruptedException {
+        Scheduler.Worker worker = new ComputationScheduler().createWorker();
+        assertThrows(IllegalArgumentException.class, () -> worker.schedulePeriodically(() -> { }, 0, 0, TimeUnit.MILLISECONDS));
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger count = new AtomicInteger();
+
+        Disposable periodic = worker.schedulePeriodically(() -> {
+            count.incrementAndGet();
+            latch.countDown();
+            throw new IllegalStateException("Task failure");
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertTrue(periodic.isDisposed());
+        assertEquals(1, count.get());
+        worker.dispose();
+    }
+
+    @Test
+    void testLambdaSchedulerGetsDefaults() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Scheduler scheduler = executor::execute;
+            CountDownLatch latch = new CountDownLatch(1);
+            Scheduler.Worker worker = scheduler.createWorker();
+            worker.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertSame(SchedulerStats.none(), scheduler.stats());
+            assertEquals(0, scheduler.stats().getSubmittedTasks());
+            scheduler.shutdown();
+            assertTrue(scheduler.awaitTermination(1, TimeUnit.SECONDS));
+            worker.dispose();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testVirtualThreadSchedulerRunsBlockingSourcesConcurrently() throws InterruptedException {
+        VirtualThreadScheduler scheduler = new VirtualThreadScheduler();
+        int subscriptions = 500;
+        CountDownLatch latch = new CountDownLatch(subscriptions);
+        AtomicInteger received = new AtomicInteger();
+
+        for (int i = 0; i < subscriptions; i++) {
+            int value = i;
+            Observable.<Integer>create(emitter -> {
+                Thread.sleep(200);  // Blocking call
+                emitter.onNext(value);
+                emitter.onComplete();
+            })
+            .subscribeOn(scheduler)
+            .subscribe(
+                item -> received.incrementAndGet(),
+                error -> fail("Unexpected error"),
+                latch::countDown
+            );
+        }
+
+        // Sequential execution would take 100 seconds
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(subscriptions, received.get());
+    }
+
+    @Test
+    void testComputationWorkersAreAssignedRoundRobin() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(2, false);
+        CountDownLatch latch = new CountDownLatch(2);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < 2; i++) {
+            scheduler.createWorker().schedule(() -> {
+                threads.add(Thread.currentThread().getName());
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertNotEquals(threads.get(0), threads.get(1));
+    }
+
+    @Test
+    void testIdleLoopStealsWork() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(2, true);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(10);
+
+        scheduler.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        // Half of these land on the blocked loop and have to be stolen by the other one
+        for (int i = 0; i < 10; i++) {
+            scheduler.execute(latch::countDown);
+        }
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        blocker.countDown();
+    }
+
+    @Test
+    void testSharedSchedulersUseDaemonThreads() throws InterruptedException {
+        assertSame(Schedulers.io(), Schedulers.io());
+        assertSame(Schedulers.computation(), Schedulers.computation());
+        CountDownLatch latch = new CountDownLatch(3);
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+        for (Scheduler scheduler : List.of(Schedulers.io(), Schedulers.computation(), Schedulers.single())) {
+            scheduler.execute(() -> {
+                threads.add(Thread.currentThread());
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        for (Thread thread : threads) {
+            assertTrue(thread.isDaemon(), thread.getName() + " is not a daemon thread");
+        }
+    }
+
+    @Test
+    void testShutdownAndRestart() throws InterruptedException {
+        Scheduler before = Schedulers.single();
+        AtomicInteger count = new AtomicInteger();
+        before.execute(count::incrementAndGet);
+
+        Schedulers.shutdown();
+        try {
+            assertTrue(Schedulers.awaitTermination(1, TimeUnit.SECONDS));
+            assertEquals(1, count.get());
+            assertThrows(IllegalStateException.class, Schedulers::single);
+        } finally {
+            Schedulers.start();
+        }
+
+        Scheduler after = Schedulers.single();
+        assertNotSame(before, after);
+        CountDownLatch latch = new CountDownLatch(1);
+        after.execute(latch::countDown);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testComputationSchedulerShutdownRunsQueuedTasks() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(1, false);
+        AtomicInteger count = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            scheduler.execute(count::incrementAndGet);
+        }
+
+        scheduler.shutdown();
+
+        assertTrue(scheduler.awaitTermination(1, TimeUnit.SECONDS));
+        assertEquals(100, count.get());
+    }
+
+    @Test
+    void testSchedulerStats() throws InterruptedException {
+        SchedulerStats.enable();
+        ComputationScheduler scheduler = new ComputationScheduler(2, false);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(10);
+
+        for (int i = 0; i < 2; i++) {
+            scheduler.execute(() -> {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (int i = 0; i < 10; i++) {
+            scheduler.execute(latch::countDown);
+        }
+
+        Thread.sleep(50);
+        SchedulerStats stats = scheduler.stats();
+        assertEquals(12, stats.getSubmittedTasks());
+        assertEquals(10, stats.getQueueSize());
+        assertEquals(2, stats.getActiveThreads());
+
+        blocker.countDown();
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(1, TimeUnit.SECONDS));
+        assertEquals(12, stats.getCompletedTasks());
+        assertEquals(0, stats.getQueueSize());
+        assertEquals(2, stats.getPeakThreads());
+        assertEquals(12, stats.getRunTime().getCount());
+        assertTrue(stats.getWaitTime().getMax() >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void testSchedulerStatsMBean() throws Exception {
+        SchedulerStats.enable();
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.execute(latch::countDown);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+
+        scheduler.stats().registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1L, server.getAttribute(scheduler.stats().objectName(), "SubmittedTasks"));
+
+        scheduler.shutdown();
+        assertFalse(server.isRegistered(scheduler.stats().objectName()));
+    }
+
+    @Test
+    void testSchedulerStatsDisabledByDefault() throws InterruptedException {
+        assertFalse(SchedulerStats.isEnabled());
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.execute(latch::countDown);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+
+        assertEquals(0, scheduler.stats().getSubmittedTasks());
+        assertEquals(0, scheduler.stats().getRunTime().getCount());
+        scheduler.shutdown();
+    }
+}